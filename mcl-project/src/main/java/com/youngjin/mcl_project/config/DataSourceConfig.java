@@ -0,0 +1,69 @@
+package com.youngjin.mcl_project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * primary(spring.datasource.*) + 복제본(app.datasource.replicas) 커넥션 풀 구성.
+ * JPA/Flyway/JdbcTemplate은 모두 @Primary인 dataSource(라우팅 + Lazy 프록시)를 사용합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceConfig {
+
+    // 쓰기용 primary 풀 (기존 spring.datasource.* / spring.datasource.hikari.* 설정 그대로 사용)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                       DataSourceProperties properties,
+                                                       ReplicaDataSourceProperties replicaProperties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+
+        for (ReplicaDataSourceProperties.Replica replica : replicaProperties.getReplicas()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.getDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            dataSource.setPoolName(replica.getName());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.put(replica.getName(), dataSource);
+        }
+
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, replicaProperties.getStickyWindowMs());
+    }
+
+    // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻도록 지연 → readOnly 여부가 확정된 뒤 라우팅됨
+    // 쿼리 실행 계획 검사를 켜면 repository가 만든 SQL을 가로챌 수 있게 StatementCapture로 한 번 더 감쌈
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource,
+                                 @Value("${db.query-plan.verify-on-startup:false}") boolean verifyQueryPlans) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        return verifyQueryPlans ? new StatementCapture(dataSource) : dataSource;
+    }
+}
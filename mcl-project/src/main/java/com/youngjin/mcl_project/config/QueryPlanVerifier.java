@@ -0,0 +1,345 @@
+package com.youngjin.mcl_project.config;
+
+import com.youngjin.mcl_project.entity.BoardAttachmentsEntity.FileStatus;
+import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
+import com.youngjin.mcl_project.enums.PokeStat;
+import com.youngjin.mcl_project.repository.BoardAttachmentsRepository;
+import com.youngjin.mcl_project.repository.BoardCommentRepository;
+import com.youngjin.mcl_project.repository.BoardRecommendRepository;
+import com.youngjin.mcl_project.repository.BoardRepository;
+import com.youngjin.mcl_project.repository.MemberRepository;
+import com.youngjin.mcl_project.repository.PokeSampleCommentRepository;
+import com.youngjin.mcl_project.repository.PokeSampleLikeRepository;
+import com.youngjin.mcl_project.repository.PokeSampleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쿼리가 인덱스를 타는지 EXPLAIN으로 검사하는 컴포넌트.
+ * 일정 크기(full-scan-row-threshold)를 넘는 테이블을 풀 스캔(type = ALL)하는 쿼리가 있으면 위반으로 보고합니다.
+ *
+ * - repository 쿼리: 메서드를 대표 파라미터로 실제 호출하고, StatementCapture로 Hibernate가 만든 SQL과 바인딩 값을 가로채 그대로 EXPLAIN
+ *   (쿼리를 고치면 검사 대상도 함께 바뀜, 변경 문장은 실행하지 않고 조회는 롤백되는 트랜잭션 안에서 실행)
+ * - JdbcTemplate 쿼리(서비스 클래스): 아래 QUERIES에 적은 SQL을 EXPLAIN
+ * 시작 시 검사는 db.query-plan.verify-on-startup=true 일 때만 실행되며(이때만 StatementCapture가 적용됨), 위반이 있으면 기동을 중단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryPlanVerifier implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final BoardRepository boardRepository;
+    private final BoardCommentRepository boardCommentRepository;
+    private final BoardAttachmentsRepository boardAttachmentsRepository;
+    private final BoardRecommendRepository boardRecommendRepository;
+    private final MemberRepository memberRepository;
+    private final PokeSampleRepository pokeSampleRepository;
+    private final PokeSampleCommentRepository pokeSampleCommentRepository;
+    private final PokeSampleLikeRepository pokeSampleLikeRepository;
+
+    @Value("${db.query-plan.verify-on-startup:false}")
+    private boolean verifyOnStartup;
+
+    @Value("${db.query-plan.full-scan-row-threshold:1000}")
+    private long fullScanRowThreshold;
+
+    /**
+     * key: 서비스.메서드명, value: JdbcTemplate으로 직접 실행하는 SQL (대표 파라미터 값 사용)
+     * repository 메서드는 여기 적지 않고 repositoryCalls()에 호출을 추가합니다. 필요한 인덱스는 db/migration에 추가합니다.
+     */
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        // MemberReactionIndex.load (JdbcTemplate)
+        QUERIES.put("MemberReactionIndex.load.sampleLike",
+                "SELECT l.sample_idx FROM poke_sample_like l JOIN member m ON m.idx = l.member_idx WHERE m.provider_id = '1'");
+        QUERIES.put("MemberReactionIndex.load.boardRecommend",
+                "SELECT r.board_idx FROM board_recommend r JOIN member m ON m.idx = r.member_idx WHERE m.provider_id = '1'");
+
+        // PokemonNameIndex.reload (JdbcTemplate)
+        QUERIES.put("PokemonNameIndex.reload",
+                "SELECT DISTINCT pokemon_idx, pokemon_name FROM poke_sample");
+
+        // SampleFacetIndex.rebuild (JdbcTemplate, PK 구간 조회)
+        QUERIES.put("SampleFacetIndex.rebuild",
+                "SELECT idx, visibility, pokemon_name, tera_type, item, nature, ability, move1, move2, move3, move4 FROM poke_sample " +
+                        "WHERE idx > 0 AND is_deleted = 0 ORDER BY idx LIMIT 5000");
+
+        // LikeEventAggregator (JdbcTemplate)
+        QUERIES.put("LikeEventAggregator.pending",
+                "SELECT COALESCE(SUM(delta), 0) FROM poke_sample_like_event WHERE sample_idx = 1");
+        QUERIES.put("LikeEventAggregator.currentCount",
+                "SELECT like_count + (SELECT COALESCE(SUM(delta), 0) FROM poke_sample_like_event WHERE sample_idx = 1) " +
+                        "FROM poke_sample WHERE idx = 1 AND is_deleted = 0");
+
+        // ShardedCounterService (JdbcTemplate)
+        QUERIES.put("ShardedCounterService.currentCount",
+                "SELECT recommend + (SELECT COALESCE(SUM(delta), 0) FROM counter_shard WHERE target_type = 'BOARD_RECOMMEND' AND target_idx = 1) " +
+                        "FROM board WHERE idx = 1 AND is_deleted = 0");
+
+        // BestSampleLeaderboard.rebuild (JdbcTemplate)
+        QUERIES.put("BestSampleLeaderboard.rebuild.likeCount",
+                "SELECT idx, like_count FROM poke_sample WHERE visibility = 'PUBLIC' AND is_deleted = 0 AND like_count > 0");
+        QUERIES.put("BestSampleLeaderboard.rebuild.hourly",
+                "SELECT bucket_start, sample_idx, likes FROM poke_sample_like_hourly WHERE bucket_start >= NOW() - INTERVAL 31 DAY");
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!verifyOnStartup) {
+            return;
+        }
+
+        List<String> violations = verify();
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("인덱스를 타지 않는 쿼리가 있습니다: " + violations);
+        }
+        log.info("🔍 쿼리 실행 계획 검사 완료: repository 메서드 {}개, JdbcTemplate 쿼리 {}개 모두 통과",
+                repositoryCalls().size(), QUERIES.size());
+    }
+
+    /**
+     * repository 메서드가 실행한 SQL과 등록된 JdbcTemplate 쿼리에 EXPLAIN을 실행합니다.
+     * SQL을 가로채지 못한 메서드(StatementCapture 미적용 등)도 위반으로 보고합니다.
+     *
+     * @return 위반 목록 ("메서드명 -> 테이블 (행 수)"), 없으면 빈 리스트
+     */
+    public List<String> verify() {
+        Map<String, Long> tableRows = loadTableRows();
+        List<String> violations = new ArrayList<>();
+
+        captureRepositoryStatements().forEach((name, statements) -> {
+            if (statements.isEmpty()) {
+                violations.add(name + " -> 실행된 SQL을 가로채지 못함");
+            }
+            statements.forEach(statement -> explain(name, statement.sql(), statement.params().toArray(), tableRows, violations));
+        });
+        QUERIES.forEach((name, sql) -> explain(name, sql, new Object[0], tableRows, violations));
+
+        return violations;
+    }
+
+    /**
+     * repository 메서드를 하나씩 호출하면서 실행된 SQL과 바인딩 값을 모읍니다. (트랜잭션은 롤백)
+     *
+     * @return key: Repository.메서드명, value: 해당 호출에서 실행된 SQL 목록
+     */
+    public Map<String, List<StatementCapture.Statement>> captureRepositoryStatements() {
+        Map<String, List<StatementCapture.Statement>> captured = new LinkedHashMap<>();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            repositoryCalls().forEach((name, call) -> captured.put(name, StatementCapture.capture(call)));
+        });
+
+        return captured;
+    }
+
+    /**
+     * key: Repository.메서드명, value: 대표 파라미터로 해당 메서드를 호출하는 코드
+     * Repository에 쿼리 메서드를 추가하면 여기에도 추가합니다.
+     */
+    private Map<String, Runnable> repositoryCalls() {
+        Map<String, Runnable> calls = new LinkedHashMap<>();
+        List<Long> idxs = List.of(1L, 2L, 3L);
+        LocalDateTime now = LocalDateTime.now();
+
+        // BoardRepository
+        calls.put("BoardRepository.findAllByBoardTypeAndIsDeletedFalse",
+                () -> boardRepository.findAllByBoardTypeAndIsDeletedFalse(BoardType.FREE, PageRequest.of(0, 10)));
+        calls.put("BoardRepository.findAllByBoardTypeAndIsDeletedFalseOrderByRegdateDesc",
+                () -> boardRepository.findAllByBoardTypeAndIsDeletedFalseOrderByRegdateDesc(BoardType.NOTICE));
+        calls.put("BoardRepository.findByIdxAndIsDeletedFalse",
+                () -> boardRepository.findByIdxAndIsDeletedFalse(1L));
+        calls.put("BoardRepository.findAllByIdxBetween",
+                () -> boardRepository.findAllByIdxBetween(1L, 500L));
+        calls.put("BoardRepository.findChangedSince",
+                () -> boardRepository.findChangedSince(now.minusMinutes(1)));
+        calls.put("BoardRepository.lockDeleteTargets",
+                () -> boardRepository.lockDeleteTargets(idxs));
+        calls.put("BoardRepository.softDeleteAllByIdxInAndMemberIdx",
+                () -> boardRepository.softDeleteAllByIdxInAndMemberIdx(idxs, 1L, now));
+        calls.put("BoardRepository.findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc",
+                () -> boardRepository.findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc(1L, PageRequest.of(0, 10)));
+        calls.put("BoardRepository.addRecommend",
+                () -> boardRepository.addRecommend(1L, 1L));
+        calls.put("BoardRepository.increaseCommentCount",
+                () -> boardRepository.increaseCommentCount(1L));
+        calls.put("BoardRepository.decreaseCommentCount",
+                () -> boardRepository.decreaseCommentCount(1L));
+        calls.put("BoardRepository.resetCommentCount",
+                () -> boardRepository.resetCommentCount(1L));
+        calls.put("BoardRepository.recountCommentCounts",
+                () -> boardRepository.recountCommentCounts(idxs));
+        calls.put("BoardRepository.increaseCommentVersion",
+                () -> boardRepository.increaseCommentVersion(1L));
+        calls.put("BoardRepository.findCommentVersion",
+                () -> boardRepository.findCommentVersion(1L));
+        calls.put("BoardRepository.findMaxIdx",
+                () -> boardRepository.findMaxIdx());
+        calls.put("BoardRepository.reconcileCommentCount",
+                () -> boardRepository.reconcileCommentCount(0L, 500L));
+        calls.put("BoardRepository.findBoardList",
+                () -> boardRepository.findBoardList(BoardType.FREE, PageRequest.of(0, 10)));
+        calls.put("BoardRepository.findBoardListByMemberIdx",
+                () -> boardRepository.findBoardListByMemberIdx(1L, PageRequest.of(0, 10)));
+        calls.put("BoardRepository.findBoardListAfter",
+                () -> boardRepository.findBoardListAfter(BoardType.FREE, 100L, 11));
+        calls.put("BoardRepository.findBoardListByIdxIn",
+                () -> boardRepository.findBoardListByIdxIn(idxs));
+        calls.put("BoardRepository.findDetailVersion",
+                () -> boardRepository.findDetailVersion(1L));
+
+        // BoardCommentRepository
+        calls.put("BoardCommentRepository.countByBoardIdxAndIsDeletedFalse",
+                () -> boardCommentRepository.countByBoardIdxAndIsDeletedFalse(1L));
+        calls.put("BoardCommentRepository.findAllByBoardIdxOrderBySortPathAsc",
+                () -> boardCommentRepository.findAllByBoardIdxOrderBySortPathAsc(1L));
+        calls.put("BoardCommentRepository.softDeleteAllByBoardIdx",
+                () -> boardCommentRepository.softDeleteAllByBoardIdx(1L));
+        calls.put("BoardCommentRepository.softDeleteAllByBoardIdxIn",
+                () -> boardCommentRepository.softDeleteAllByBoardIdxIn(idxs));
+        calls.put("BoardCommentRepository.lockDeleteTargets",
+                () -> boardCommentRepository.lockDeleteTargets(idxs));
+        calls.put("BoardCommentRepository.softDeleteAllByIdxInAndMemberIdx",
+                () -> boardCommentRepository.softDeleteAllByIdxInAndMemberIdx(idxs, 1L, now));
+        calls.put("BoardCommentRepository.findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc",
+                () -> boardCommentRepository.findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc(1L, PageRequest.of(0, 10)));
+        calls.put("BoardCommentRepository.findRootsAfter",
+                () -> boardCommentRepository.findRootsAfter(1L, 0L, 21));
+        calls.put("BoardCommentRepository.findRepliesAfter",
+                () -> boardCommentRepository.findRepliesAfter(1L, 1L, 0L, 21));
+        calls.put("BoardCommentRepository.findFirstRepliesOf",
+                () -> boardCommentRepository.findFirstRepliesOf(1L, idxs, 3));
+        calls.put("BoardCommentRepository.countRepliesByParent",
+                () -> boardCommentRepository.countRepliesByParent(1L, idxs));
+
+        // BoardAttachmentsRepository
+        calls.put("BoardAttachmentsRepository.updateStatusAndBoardIdx",
+                () -> boardAttachmentsRepository.updateStatusAndBoardIdx(idxs, 1L, FileStatus.ACTIVE));
+        calls.put("BoardAttachmentsRepository.resetFilesToTemp",
+                () -> boardAttachmentsRepository.resetFilesToTemp(1L));
+        calls.put("BoardAttachmentsRepository.resetFilesToTempByBoardIdxIn",
+                () -> boardAttachmentsRepository.resetFilesToTempByBoardIdxIn(idxs));
+        calls.put("BoardAttachmentsRepository.findAllByBoardIdxAndStatus",
+                () -> boardAttachmentsRepository.findAllByBoardIdxAndStatus(1L, FileStatus.ACTIVE));
+        calls.put("BoardAttachmentsRepository.findAllByStatusAndRegdateBefore",
+                () -> boardAttachmentsRepository.findAllByStatusAndRegdateBefore(FileStatus.TEMP, now.minusHours(1)));
+
+        // BoardRecommendRepository
+        calls.put("BoardRecommendRepository.insertIgnore",
+                () -> boardRecommendRepository.insertIgnore(1L, "1"));
+        calls.put("BoardRecommendRepository.insertIgnoreSharedLock",
+                () -> boardRecommendRepository.insertIgnoreSharedLock(1L, "1"));
+        calls.put("BoardRecommendRepository.deleteByProviderIdAndBoardIdx",
+                () -> boardRecommendRepository.deleteByProviderIdAndBoardIdx(1L, "1"));
+        calls.put("BoardRecommendRepository.countByBoard",
+                () -> boardRecommendRepository.countByBoard(boardRepository.getReferenceById(1L)));
+
+        // MemberRepository
+        calls.put("MemberRepository.findByProviderAndProviderId",
+                () -> memberRepository.findByProviderAndProviderId("kakao", "1"));
+        calls.put("MemberRepository.findByProviderId",
+                () -> memberRepository.findByProviderId("1"));
+        calls.put("MemberRepository.findByRefreshToken",
+                () -> memberRepository.findByRefreshToken("token"));
+        calls.put("MemberRepository.findByUserid",
+                () -> memberRepository.findByUserid("user"));
+        calls.put("MemberRepository.findByNickname",
+                () -> memberRepository.findByNickname("nick"));
+        calls.put("MemberRepository.findNicknameByIdx",
+                () -> memberRepository.findNicknameByIdx(1L));
+        calls.put("MemberRepository.findAllNicknameByIdxs",
+                () -> memberRepository.findAllNicknameByIdxs(idxs));
+
+        // PokeSampleRepository
+        calls.put("PokeSampleRepository.findByIdxAndIsDeletedFalse",
+                () -> pokeSampleRepository.findByIdxAndIsDeletedFalse(1L));
+        calls.put("PokeSampleRepository.findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc",
+                () -> pokeSampleRepository.findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc(1L));
+        calls.put("PokeSampleRepository.findPublicSummaries",
+                () -> pokeSampleRepository.findPublicSummaries(List.of(4, 5, 6), PageRequest.of(0, 12)));
+        calls.put("PokeSampleRepository.findPublicSummariesAfter",
+                () -> pokeSampleRepository.findPublicSummariesAfter(List.of(), 100L, 13));
+        calls.put("PokeSampleRepository.findPublicSummariesByEv",
+                () -> pokeSampleRepository.findPublicSummariesByEv(PokeStat.S, 252, 100L, 13));
+        // 하한이 252 미만이면 범위 조건 (인덱스 범위 스캔 + 일치 행 정렬 또는 PK 역순 스캔, 풀 스캔만 아니면 통과)
+        calls.put("PokeSampleRepository.findPublicSummariesByEv.range",
+                () -> pokeSampleRepository.findPublicSummariesByEv(PokeStat.S, 100, 100L, 13));
+        calls.put("PokeSampleRepository.findPublicSummariesByIdxIn",
+                () -> pokeSampleRepository.findPublicSummariesByIdxIn(idxs));
+        calls.put("PokeSampleRepository.findMemberSummaries",
+                () -> pokeSampleRepository.findMemberSummaries(1L, PageRequest.of(0, 12)));
+        calls.put("PokeSampleRepository.findLikedSummaries",
+                () -> pokeSampleRepository.findLikedSummaries(1L, PageRequest.of(0, 12)));
+        calls.put("PokeSampleRepository.findDetailVersion",
+                () -> pokeSampleRepository.findDetailVersion(1L));
+
+        // PokeSampleCommentRepository
+        calls.put("PokeSampleCommentRepository.findRootCommentsBySampleIdx",
+                () -> pokeSampleCommentRepository.findRootCommentsBySampleIdx(1L));
+        calls.put("PokeSampleCommentRepository.findAllByPokeSampleIdxOrderBySortPathAsc",
+                () -> pokeSampleCommentRepository.findAllByPokeSampleIdxOrderBySortPathAsc(1L));
+        calls.put("PokeSampleCommentRepository.countByPokeSampleIdxAndIsDeletedFalse",
+                () -> pokeSampleCommentRepository.countByPokeSampleIdxAndIsDeletedFalse(1L));
+        calls.put("PokeSampleCommentRepository.findRootsAfter",
+                () -> pokeSampleCommentRepository.findRootsAfter(1L, 0L, 21));
+        calls.put("PokeSampleCommentRepository.findRepliesAfter",
+                () -> pokeSampleCommentRepository.findRepliesAfter(1L, 1L, 0L, 21));
+        calls.put("PokeSampleCommentRepository.findFirstRepliesOf",
+                () -> pokeSampleCommentRepository.findFirstRepliesOf(1L, idxs, 3));
+        calls.put("PokeSampleCommentRepository.countRepliesByParent",
+                () -> pokeSampleCommentRepository.countRepliesByParent(1L, idxs));
+        calls.put("PokeSampleCommentRepository.countBySampleIdxs",
+                () -> pokeSampleCommentRepository.countBySampleIdxs(idxs));
+
+        // PokeSampleLikeRepository
+        calls.put("PokeSampleLikeRepository.insertIgnore",
+                () -> pokeSampleLikeRepository.insertIgnore(1L, "1"));
+        calls.put("PokeSampleLikeRepository.deleteByProviderIdAndSampleIdx",
+                () -> pokeSampleLikeRepository.deleteByProviderIdAndSampleIdx(1L, "1"));
+
+        return calls;
+    }
+
+    private void explain(String name, String sql, Object[] params, Map<String, Long> tableRows, List<String> violations) {
+        for (Map<String, Object> planRow : jdbcTemplate.queryForList("EXPLAIN " + sql, params)) {
+            String table = String.valueOf(planRow.get("table"));
+            String type = String.valueOf(planRow.get("type"));
+            long rows = tableRows.getOrDefault(table, 0L);
+
+            if ("ALL".equalsIgnoreCase(type) && rows > fullScanRowThreshold) {
+                log.warn("풀 스캔 감지: {} -> {} ({} rows)", name, table, rows);
+                violations.add(name + " -> " + table + " (" + rows + " rows)");
+            }
+        }
+    }
+
+    // 현재 스키마의 테이블별 대략적인 행 수 (information_schema 통계값)
+    private Map<String, Long> loadTableRows() {
+        Map<String, Long> tableRows = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT TABLE_NAME, TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE()",
+                (RowCallbackHandler) rs -> tableRows.put(rs.getString("TABLE_NAME"), rs.getLong("TABLE_ROWS")));
+        return tableRows;
+    }
+}
@@ -0,0 +1,159 @@
+package com.youngjin.mcl_project.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 나머지는 primary로 보내는 DataSource.
+ *
+ * - 트랜잭션의 readOnly 여부는 커넥션을 실제로 얻는 시점에 판단하므로 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ * - 복제 지연이 허용치를 넘은 복제본은 ReplicaLagMonitor가 제외합니다. (모두 제외되면 primary 사용)
+ * - 쓰기 트랜잭션을 커밋한 회원은 stickyWindowMs 동안 읽기도 primary로 보냅니다. (방금 쓴 글이 안 보이는 문제 방지)
+ * - readFromPrimary 안에서 시작한 읽기 전용 트랜잭션은 primary로 보냅니다. (오래 캐시할 값을 읽을 때)
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaNames;
+    private final Map<String, DataSource> replicas;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+
+    // 최근 stickyWindowMs 안에 쓰기 트랜잭션을 커밋한 providerId (다시 읽지 않는 회원도 기간이 지나면 자동 제거)
+    private final Cache<String, Boolean> recentWriters;
+    private final long stickyWindowMs;
+
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    // readFromPrimary 실행 중인 스레드 표시
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long stickyWindowMs) {
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.replicas = replicas;
+        this.replicaNames = new ArrayList<>(replicas.keySet());
+        this.healthyReplicas.addAll(replicaNames);
+        this.stickyWindowMs = stickyWindowMs;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.max(0, stickyWindowMs)))
+                .build();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // 트랜잭션 밖의 호출(스케줄러의 JdbcTemplate, Flyway 등)은 항상 primary
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        String writer = currentProviderId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteOnCommit(writer);
+            return PRIMARY;
+        }
+
+        if (PRIMARY_READ.get() != null) {
+            return PRIMARY;
+        }
+
+        if (writer != null && recentWriters.getIfPresent(writer) != null) {
+            return PRIMARY;
+        }
+
+        return pickReplica();
+    }
+
+    /**
+     * action 안에서 커넥션을 얻는 읽기 전용 트랜잭션을 primary로 보냅니다. (쓰기 회원 표시는 하지 않음)
+     * 이미 커넥션을 얻은 바깥 트랜잭션에는 영향이 없으므로 새 트랜잭션(REQUIRES_NEW)을 시작하는 action과 함께 사용합니다.
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_READ.get();
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READ.remove();
+            }
+        }
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    // ReplicaLagMonitor가 지연 측정 결과를 반영
+    public void setReplicaHealthy(String name, boolean healthy) {
+        boolean changed = healthy ? healthyReplicas.add(name) : healthyReplicas.remove(name);
+        if (changed) {
+            log.warn("복제본 {} 상태 변경: {}", name, healthy ? "사용" : "제외");
+        }
+    }
+
+    // 애플리케이션 종료 시 복제본 커넥션 풀 정리 (@Bean destroy 메서드로 자동 호출)
+    public void close() {
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        });
+    }
+
+    private String pickReplica() {
+        int size = replicaNames.size();
+        for (int i = 0; i < size; i++) {
+            String name = replicaNames.get(Math.floorMod(roundRobin.getAndIncrement(), size));
+            if (healthyReplicas.contains(name)) {
+                return name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private void markWriteOnCommit(String writer) {
+        if (writer == null || stickyWindowMs <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(writer, Boolean.TRUE);
+            }
+        });
+    }
+
+    // 현재 요청의 로그인 사용자 (비로그인/익명이면 null)
+    private String currentProviderId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null
+                || "anonymousUser".equals(authentication.getName())) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,37 @@
+package com.youngjin.mcl_project.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 설정.
+ * app.datasource.replicas 가 비어 있으면 모든 트랜잭션이 primary(spring.datasource.*)로 갑니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource")
+public class ReplicaDataSourceProperties {
+
+    // 복제본 목록 (로컬 테스트 시 같은 DB를 다른 풀 이름으로 등록해도 됨)
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 이 시간(초)보다 복제 지연이 크면 해당 복제본으로 읽기를 보내지 않음
+    private long replicaLagToleranceSeconds = 5;
+
+    // 쓰기 후 이 시간(ms) 동안은 같은 회원의 읽기를 primary로 보냄 (read-your-writes)
+    private long stickyWindowMs = 3000;
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
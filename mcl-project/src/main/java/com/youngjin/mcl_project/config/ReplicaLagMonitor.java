@@ -0,0 +1,65 @@
+package com.youngjin.mcl_project.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 복제본의 복제 지연(Seconds_Behind_Source)을 주기적으로 확인해서
+ * 허용치(app.datasource.replica-lag-tolerance-seconds)를 넘으면 읽기 대상에서 제외합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplicaLagMonitor {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final ReplicaDataSourceProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.datasource.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        routingDataSource.getReplicas().forEach((name, dataSource) -> {
+            Long lag;
+            try {
+                lag = readLagSeconds(dataSource);
+            } catch (Exception e) {
+                log.error("복제본 {} 지연 확인 실패: {}", name, e.getMessage());
+                lag = null;
+            }
+
+            boolean healthy = lag != null && lag <= properties.getReplicaLagToleranceSeconds();
+            routingDataSource.setReplicaHealthy(name, healthy);
+        });
+    }
+
+    /**
+     * @return 복제 지연(초), 복제가 멈춰 있으면 null
+     */
+    private Long readLagSeconds(DataSource replica) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(replica);
+
+        List<Map<String, Object>> status;
+        try {
+            status = jdbcTemplate.queryForList("SHOW REPLICA STATUS");
+        } catch (DataAccessException e) {
+            // MySQL 8.0.22 / MariaDB 10.5 이전 문법
+            status = jdbcTemplate.queryForList("SHOW SLAVE STATUS");
+        }
+
+        // 복제 설정이 없는 인스턴스 (같은 DB를 다른 풀 이름으로 붙인 로컬 테스트 환경) -> 지연 없음으로 간주
+        if (status.isEmpty()) {
+            return 0L;
+        }
+
+        Map<String, Object> row = status.get(0);
+        Object lag = row.containsKey("Seconds_Behind_Source") ? row.get("Seconds_Behind_Source") : row.get("Seconds_Behind_Master");
+        return lag == null ? null : ((Number) lag).longValue();
+    }
+}
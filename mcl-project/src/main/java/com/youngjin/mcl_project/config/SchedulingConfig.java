@@ -0,0 +1,34 @@
+package com.youngjin.mcl_project.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업용 스케줄러
+ *
+ * - taskScheduler: 기본 (색인/랭킹 재구성, 정리 작업 등). 이름이 taskScheduler라 scheduler를 지정하지 않은 작업이 사용합니다.
+ * - counterTaskScheduler: 1~5초 주기 카운터 반영 전용 (분산 카운터 합치기, 좋아요 이벤트 집계, 조회수 반영)
+ *   몇 초씩 걸리는 재구성 작업이 돌아도 밀리지 않도록 분리합니다. (@Scheduled(scheduler = "counterTaskScheduler"))
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:4}") int poolSize) {
+        return scheduler(poolSize, "scheduling-");
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler counterTaskScheduler(@Value("${app.scheduling.counter-pool-size:2}") int poolSize) {
+        return scheduler(poolSize, "counter-scheduling-");
+    }
+
+    private ThreadPoolTaskScheduler scheduler(int poolSize, String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        return scheduler;
+    }
+}
@@ -36,6 +36,14 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    // React 개발 서버 주소 (CORS, WebSocket 핸드셰이크 공용)
+    static final List<String> ALLOWED_ORIGINS = List.of(
+            "http://192.168.0.190:5173",
+            "https://192.168.0.190:5173",
+            "http://localhost:5173",
+            "https://localhost:5173"
+    );
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -71,10 +79,14 @@ public class SecurityConfig {
                 // 토큰 재발급 및 로그아웃 POST 허용
                 .requestMatchers(HttpMethod.POST, "/api/v1/auth/reissue").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/v1/auth/logout").permitAll()
+                // 관리자 기능 (캐시 on/off, 통계 등)
+                .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                 // 모든 게시판 기능 불러오기
                 .requestMatchers("/api/v1/board/**").permitAll()
                 // 포켓몬 샘플 기능 불러오기
                 .requestMatchers("/api/v1/poke-sample/**").permitAll()
+                // 실시간 갱신 WebSocket 핸드셰이크 (구독 전용, WebSocketConfig)
+                .requestMatchers("/ws/**").permitAll()
                 // 모든 이미지 불러오기
                 .requestMatchers(HttpMethod.GET, "/api/images/**").permitAll()
                 // 에러 페이지 허용
@@ -107,12 +119,7 @@ public class SecurityConfig {
 
         // React 개발 서버 HTTPS 주소 허용 (쿠키 전송 허용)
         // ⭐️ List.of를 사용하는 것이 Arrays.asList보다 안전합니다 (immutability).
-        configuration.setAllowedOrigins(List.of(
-                "http://192.168.0.190:5173",
-                "https://192.168.0.190:5173",
-                "http://localhost:5173",
-                "https://localhost:5173"
-        ));
+        configuration.setAllowedOrigins(ALLOWED_ORIGINS);
 
         // 쿠키 및 인증 정보 교환 허용
         configuration.setAllowCredentials(true);
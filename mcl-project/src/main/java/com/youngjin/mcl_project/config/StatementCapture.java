@@ -0,0 +1,124 @@
+package com.youngjin.mcl_project.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 실행되는 SQL과 바인딩 값을 가로채는 DataSource 래퍼.
+ * QueryPlanVerifier가 repository 메서드를 호출해서 Hibernate가 실제로 만든 SQL을 EXPLAIN 할 때 사용합니다.
+ *
+ * - capture() 안에서 현재 스레드가 실행한 문장만 모읍니다. (그 밖의 호출은 원래 커넥션에 그대로 위임)
+ * - capture() 안의 변경 문장(UPDATE/DELETE/INSERT)은 기록만 하고 실행하지 않습니다. (검사가 데이터를 바꾸거나 행을 잠그지 않음)
+ * - db.query-plan.verify-on-startup=true 일 때만 dataSource에 적용됩니다. (DataSourceConfig)
+ */
+public class StatementCapture extends DelegatingDataSource {
+
+    public record Statement(String sql, List<Object> params) {
+    }
+
+    // EXPLAIN 할 수 있는 문장만 모음
+    private static final Set<String> EXPLAINABLE = Set.of("select", "update", "delete", "insert");
+
+    // 현재 스레드에서 실행되는 SQL을 모을 목록 (capture 밖이면 null)
+    private static final ThreadLocal<List<Statement>> CAPTURING = new ThreadLocal<>();
+
+    public StatementCapture(DataSource target) {
+        super(target);
+    }
+
+    /**
+     * call 안에서 실행된 SQL 목록을 반환합니다. (래퍼가 적용되지 않았으면 빈 목록)
+     */
+    public static List<Statement> capture(Runnable call) {
+        List<Statement> statements = new ArrayList<>();
+        CAPTURING.set(statements);
+        try {
+            call.run();
+        } finally {
+            CAPTURING.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if ("prepareStatement".equals(method.getName()) && args != null && args[0] instanceof String sql) {
+                        return wrap((PreparedStatement) result, sql);
+                    }
+                    return result;
+                });
+    }
+
+    private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+        String keyword = sql.stripLeading().split("\\s+", 2)[0].toLowerCase();
+        Map<Integer, Object> params = new TreeMap<>();
+
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    List<Statement> statements = CAPTURING.get();
+
+                    if (statements != null && name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        params.put(index, "setNull".equals(name) ? null : args[1]);
+                    } else if ("clearParameters".equals(name)) {
+                        params.clear();
+                    } else if (statements != null && name.startsWith("execute") && (args == null || args.length == 0)
+                            && EXPLAINABLE.contains(keyword)) {
+                        statements.add(new Statement(sql, new ArrayList<>(params.values())));
+                        if (!"select".equals(keyword)) {
+                            return notExecuted(method.getReturnType());
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    // 실행하지 않은 변경 문장의 반환값 (영향받은 행 0)
+    private static Object notExecuted(Class<?> returnType) {
+        if (returnType == int.class) {
+            return 0;
+        }
+        if (returnType == long.class) {
+            return 0L;
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == int[].class) {
+            return new int[0];
+        }
+        return new long[0];
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
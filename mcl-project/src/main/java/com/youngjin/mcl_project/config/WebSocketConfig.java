@@ -0,0 +1,93 @@
+package com.youngjin.mcl_project.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * 게시글/샘플 상세 화면 실시간 갱신용 STOMP 설정
+ *
+ * - 구독: /topic/board/{idx}, /topic/poke-sample/{idx} (서버 -> 클라이언트 단방향, LiveUpdatePublisher가 발행)
+ * - 클라이언트 SEND는 막습니다. (브로커로 바로 가서 다른 사용자에게 위조 메시지가 뿌려지는 것 방지)
+ * - 느린 클라이언트: 세션별 전송 버퍼/시간 한도를 넘으면 그 세션만 끊고, 아웃바운드 큐는 고정 크기라 쓰기 쪽을 막지 않습니다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Value("${live.outbound-threads:4}")
+    private int outboundThreads;
+
+    @Value("${live.outbound-queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${live.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${live.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins(SecurityConfig.ALLOWED_ORIGINS.toArray(String[]::new));
+    }
+
+    // 브로커 하트비트 전용 스케줄러 (빈으로 등록해서 컨텍스트 종료 시 스레드도 함께 정리)
+    @Bean
+    public ThreadPoolTaskScheduler wsHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        return scheduler;
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{10000, 10000})
+                .setTaskScheduler(wsHeartbeatScheduler());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+                if (StompCommand.SEND.equals(accessor.getCommand())) {
+                    throw new IllegalArgumentException("구독 전용 채널입니다.");
+                }
+                return message;
+            }
+        });
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 고정 크기 큐: 가득 차면 해당 메시지는 버려지고(브로커가 로그만 남김) 발행 스레드는 기다리지 않음
+        registration.taskExecutor()
+                .corePoolSize(outboundThreads)
+                .maxPoolSize(outboundThreads)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 미전송 버퍼/전송 시간 한도를 넘으면 그 세션을 끊음 (다른 구독자 전송에 영향 없음)
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+}
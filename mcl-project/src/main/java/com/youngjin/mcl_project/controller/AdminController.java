@@ -0,0 +1,85 @@
+package com.youngjin.mcl_project.controller;
+
+import com.youngjin.mcl_project.service.BoardDetailCache;
+import com.youngjin.mcl_project.service.LikeEventAggregator;
+import com.youngjin.mcl_project.service.MemberReactionIndex;
+import com.youngjin.mcl_project.service.SampleFacetIndex;
+import com.youngjin.mcl_project.service.ShardedCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 관리자 전용 API (SecurityConfig에서 ROLE_ADMIN만 허용)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final BoardDetailCache boardDetailCache;
+    private final ShardedCounterService shardedCounterService;
+    private final LikeEventAggregator likeEventAggregator;
+    private final MemberReactionIndex memberReactionIndex;
+    private final SampleFacetIndex sampleFacetIndex;
+
+    /**
+     * 게시글 상세 캐시 적중/미스 통계
+     * GET /api/v1/admin/cache/board-detail
+     */
+    @GetMapping("/cache/board-detail")
+    public ResponseEntity<Map<String, Object>> getBoardDetailCacheStats() {
+        return ResponseEntity.ok(boardDetailCache.stats());
+    }
+
+    /**
+     * 게시글 상세 캐시 on/off
+     * PUT /api/v1/admin/cache/board-detail?enabled=false
+     */
+    @PutMapping("/cache/board-detail")
+    public ResponseEntity<Map<String, Object>> setBoardDetailCacheEnabled(@RequestParam boolean enabled) {
+        log.info("게시글 상세 캐시 설정 변경 요청: enabled={}", enabled);
+        boardDetailCache.setEnabled(enabled);
+        return ResponseEntity.ok(boardDetailCache.stats());
+    }
+
+    /**
+     * 분산 카운터(샤딩 모드)로 동작 중인 게시글/샘플 목록 (이 서버 기준)
+     * GET /api/v1/admin/counter-shards
+     */
+    @GetMapping("/counter-shards")
+    public ResponseEntity<Map<String, Object>> getShardedCounters() {
+        return ResponseEntity.ok(shardedCounterService.stats());
+    }
+
+    /**
+     * 좋아요 이벤트 반영 지연 (대기 이벤트 수, 가장 오래된 이벤트의 나이 등)
+     * GET /api/v1/admin/like-events
+     */
+    @GetMapping("/like-events")
+    public ResponseEntity<Map<String, Object>> getLikeEventStats() {
+        return ResponseEntity.ok(likeEventAggregator.stats());
+    }
+
+    /**
+     * 회원별 좋아요/추천 id 집합 캐시 통계
+     * GET /api/v1/admin/reaction-index
+     */
+    @GetMapping("/reaction-index")
+    public ResponseEntity<Map<String, Object>> getReactionIndexStats() {
+        return ResponseEntity.ok(memberReactionIndex.stats());
+    }
+
+    /**
+     * 샘플 필터 비트맵 색인 통계 (문서 수, 필터 값 수, 메모리)
+     * GET /api/v1/admin/sample-facets
+     */
+    @GetMapping("/sample-facets")
+    public ResponseEntity<Map<String, Object>> getSampleFacetStats() {
+        return ResponseEntity.ok(sampleFacetIndex.stats());
+    }
+}
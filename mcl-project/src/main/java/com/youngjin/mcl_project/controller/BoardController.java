@@ -5,17 +5,22 @@ import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
 import com.youngjin.mcl_project.service.BoardCommentService;
 import com.youngjin.mcl_project.service.BoardService;
 import com.youngjin.mcl_project.service.MemberService;
+import com.youngjin.mcl_project.service.NoticeRegistry;
 import com.youngjin.mcl_project.util.SecurityUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -26,6 +31,10 @@ public class BoardController {
     private final BoardService boardService;
     private final BoardCommentService boardCommentService;
     private final MemberService memberService;
+    private final NoticeRegistry noticeRegistry;
+
+    // 공지 목록 응답의 브라우저 캐시 시간
+    private static final Duration NOTICE_MAX_AGE = Duration.ofMinutes(10);
 
     // ⭐️ DB 조회를 통해 현재 로그인한 유저의 idx를 가져오는 메서드
     private long getCurrentMemberIdx() {
@@ -82,11 +91,61 @@ public class BoardController {
     }
 
     /**
-     * 게시글 상세 조회
+     * 게시글 목록 커서 조회 (after 파라미터가 있으면 이 메서드가 처리)
+     * GET /api/v1/board/list?type=FREE&after=123&size=10  (첫 페이지는 after= 로 비워서 요청)
+     */
+    @GetMapping(value = "/list", params = "after")
+    public ResponseEntity<CursorResponse<BoardListResponse>> getBoardListByCursor(
+            @RequestParam(defaultValue = "FREE") BoardType type,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "10") int size) {
+
+        log.info("게시글 목록 커서 조회 요청: Type={}, After={}, Size={}", type, after, size);
+        CursorResponse<BoardListResponse> result = boardService.getBoardListByCursor(type, after, Math.max(1, Math.min(size, 100)));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 고정 공지 목록 (메모리 스냅샷, DB 조회 없음)
+     * GET /api/v1/board/notices
+     */
+    @GetMapping("/notices")
+    public ResponseEntity<List<NoticeResponse>> getNotices(WebRequest webRequest) {
+        NoticeRegistry.Snapshot snapshot = noticeRegistry.current();
+
+        if (webRequest.checkNotModified(snapshot.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getETag()).build();
+        }
+
+        // 공지는 드물게 바뀌므로 max-age 동안은 재요청하지 않고, 이후에는 ETag로 재검증
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.maxAge(NOTICE_MAX_AGE).cachePublic())
+                .body(snapshot.getNotices());
+    }
+
+    /**
+     * 게시글 검색 (제목 + 본문, 관련도 순)
+     * GET /api/v1/board/search?q=포켓몬&type=FREE&page=0&size=10  (type 생략 시 전체 게시판)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<BoardListResponse>> searchBoards(
+            @RequestParam("q") String keyword,
+            @RequestParam(required = false) BoardType type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        log.info("게시글 검색 요청: Keyword={}, Type={}, Page={}, Size={}", keyword, type, page, size);
+        Page<BoardListResponse> result = boardService.searchBoards(keyword, type, page, size);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 게시글 상세 조회 (If-None-Match가 현재 ETag와 같으면 상세 조회 없이 304)
      * GET /api/v1/board/{idx}
      */
     @GetMapping("/{idx}")
-    public ResponseEntity<BoardDetailResponse> getBoardDetail(@PathVariable long idx) {
+    public ResponseEntity<BoardDetailResponse> getBoardDetail(@PathVariable long idx, WebRequest webRequest) {
         log.info("게시글 상세 조회 요청: ID={}", idx);
 
         String providerId = null;
@@ -100,9 +159,26 @@ public class BoardController {
             providerId = null;
         }
 
+        // 버전 값만으로 ETag 계산 → 클라이언트가 가진 것과 같으면 본문/첨부파일 조회 없이 304
+        String eTag = boardService.getBoardDetailETag(idx, providerId);
+        if (eTag == null) {
+            log.error("게시글 조회 실패: 존재하지 않거나 삭제된 게시글입니다. ID: {}", idx);
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(eTag)) {
+            boardService.recordView(idx);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate()) // 사용자별 응답이므로 공유 캐시에 저장 금지
+                    .build();
+        }
+
         try {
             BoardDetailResponse detail = boardService.getBoardDetail(idx, providerId);
-            return ResponseEntity.ok(detail);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate()) // 브라우저가 매번 ETag로 재검증
+                    .body(detail);
         } catch (IllegalArgumentException e) {
             log.error("게시글 조회 실패: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -205,10 +281,53 @@ public class BoardController {
      * GET /api/v1/board/comment/list/{boardIdx}
      */
     @GetMapping("/comment/list/{boardIdx}")
-    public ResponseEntity<List<BoardCommentResponse>> getCommentList(@PathVariable long boardIdx) {
+    public ResponseEntity<List<BoardCommentResponse>> getCommentList(@PathVariable long boardIdx, WebRequest webRequest) {
         log.info("댓글 목록 조회 요청: Board ID={}", boardIdx);
+
+        // 댓글 워터마크가 그대로면 목록/닉네임 조회 없이 304
+        String eTag = boardCommentService.getCommentListETag(boardIdx);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         List<BoardCommentResponse> comments = boardCommentService.getCommentList(boardIdx);
-        return ResponseEntity.ok(comments);
+        if (eTag == null) {
+            return ResponseEntity.ok(comments);
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(comments);
+    }
+
+    /**
+     * 댓글 목록 페이징 조회 (최상위 댓글 커서 + 댓글마다 첫 답글 replySize개, replyCount)
+     * GET /api/v1/board/comment/list/{boardIdx}/page?after=&size=20&replySize=3
+     */
+    @GetMapping("/comment/list/{boardIdx}/page")
+    public ResponseEntity<CursorResponse<BoardCommentResponse>> getCommentPage(
+            @PathVariable long boardIdx,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replySize) {
+
+        log.info("댓글 페이지 조회 요청: Board ID={}, After={}, Size={}", boardIdx, after, size);
+        return ResponseEntity.ok(boardCommentService.getCommentPage(boardIdx, after, size, replySize));
+    }
+
+    /**
+     * 답글 더보기
+     * GET /api/v1/board/comment/list/{boardIdx}/replies/{parentIdx}?after=&size=20
+     */
+    @GetMapping("/comment/list/{boardIdx}/replies/{parentIdx}")
+    public ResponseEntity<CursorResponse<BoardCommentResponse>> getReplyPage(
+            @PathVariable long boardIdx,
+            @PathVariable long parentIdx,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("답글 조회 요청: Board ID={}, Parent ID={}, After={}", boardIdx, parentIdx, after);
+        return ResponseEntity.ok(boardCommentService.getReplyPage(boardIdx, parentIdx, after, size));
     }
 
     /**
@@ -361,37 +480,42 @@ public class BoardController {
         }
     }
 
+    /**
+     * 현재 추천 수 (실시간 구독 시작/재연결 후 놓친 변경 보정용)
+     * GET /api/v1/board/recommend/{idx}
+     */
+    @GetMapping("/recommend/{idx}")
+    public ResponseEntity<Long> getRecommendCount(@PathVariable Long idx) {
+        Long count = boardService.getRecommendCount(idx);
+        return count == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(count);
+    }
+
     // 활동기록 게시글 일괄 삭제
     @DeleteMapping("/delete-batch")
-    public ResponseEntity<Void> deleteBoardsBatch(@RequestBody List<Long> boardIdxList) {
+    public ResponseEntity<Map<Long, BatchDeleteResult>> deleteBoardsBatch(@RequestBody List<Long> boardIdxList) {
         long memberIdx = getCurrentMemberIdx();
         if (memberIdx == 0) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 
-        // Service에 일괄 삭제 메서드 추가 필요 (반복문으로 deleteBoard 호출하거나 쿼리 사용)
-        // 편의상 반복문으로 처리 예시
-        for (Long idx : boardIdxList) {
-            try {
-                boardService.deleteBoard(idx, memberIdx);
-            } catch (Exception e) {
-                log.error("일괄 삭제 중 오류 (ID: {})", idx, e);
-            }
+        try {
+            // 한 트랜잭션에서 일괄 처리, ID별 결과 (DELETED / NOT_FOUND / FORBIDDEN)
+            return ResponseEntity.ok(boardService.deleteBoardsBatch(boardIdxList, memberIdx));
+        } catch (IllegalArgumentException e) {
+            log.error("게시글 일괄 삭제 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build(); // 개수 제한 초과
         }
-        return ResponseEntity.ok().build();
     }
 
     // 활동기록 댓글 일괄 삭제
     @DeleteMapping("/comment/delete-batch")
-    public ResponseEntity<Void> deleteCommentsBatch(@RequestBody List<Long> commentIdxList) {
+    public ResponseEntity<Map<Long, BatchDeleteResult>> deleteCommentsBatch(@RequestBody List<Long> commentIdxList) {
         long memberIdx = getCurrentMemberIdx();
         if (memberIdx == 0) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 
-        for (Long idx : commentIdxList) {
-            try {
-                boardCommentService.deleteComment(idx, memberIdx);
-            } catch (Exception e) {
-                log.error("댓글 일괄 삭제 중 오류 (ID: {})", idx, e);
-            }
+        try {
+            return ResponseEntity.ok(boardCommentService.deleteCommentsBatch(commentIdxList, memberIdx));
+        } catch (IllegalArgumentException e) {
+            log.error("댓글 일괄 삭제 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build(); // 개수 제한 초과
         }
-        return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+}
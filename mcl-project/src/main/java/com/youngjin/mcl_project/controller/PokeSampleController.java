@@ -1,18 +1,25 @@
 package com.youngjin.mcl_project.controller;
 
 import com.youngjin.mcl_project.dto.*;
+import com.youngjin.mcl_project.enums.PokeStat;
 import com.youngjin.mcl_project.service.MemberService;
 import com.youngjin.mcl_project.service.PokeSampleCommentService;
 import com.youngjin.mcl_project.service.PokeSampleService;
+import com.youngjin.mcl_project.service.PokemonNameIndex;
+import com.youngjin.mcl_project.service.SampleFacetIndex;
 import com.youngjin.mcl_project.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -23,6 +30,7 @@ public class PokeSampleController {
     private final PokeSampleService pokeSampleService;
     private final MemberService memberService;
     private final PokeSampleCommentService commentService;
+    private final PokemonNameIndex pokemonNameIndex;
 
     // BoardController와 동일한 로직
     private long getCurrentMemberIdx() {
@@ -47,22 +55,66 @@ public class PokeSampleController {
         }
     }
 
+    // 로그인한 사용자 ID (비로그인/인증 정보 없음이면 null, 목록의 좋아요 여부 표시용)
+    private String getCurrentProviderIdOrNull() {
+        try {
+            String providerId = SecurityUtil.getCurrentProviderId();
+            return "anonymousUser".equals(providerId) ? null : providerId;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
     // --- 조회 API ---
 
     @GetMapping("/list")
-    public ResponseEntity<Page<PokeSampleResponseDTO>> getSamples(
+    public ResponseEntity<Page<PokeSampleSummary>> getSamples(
             @RequestParam(required = false) Integer pokemonIdx,
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "0") int page, // 기본 0페이지
             @RequestParam(defaultValue = "12") int size // 한 번에 12개씩 (그리드에 맞게)
     ) {
-        Page<PokeSampleResponseDTO> result = pokeSampleService.getSamples(pokemonIdx, keyword, page, size);
+        Page<PokeSampleSummary> result = pokeSampleService.getSamples(pokemonIdx, keyword, page, size, getCurrentProviderIdOrNull());
+        return ResponseEntity.ok(result);
+    }
+
+    // 커서 기반 목록 조회 (무한 스크롤용, after 파라미터가 있으면 이 메서드가 처리)
+    // GET /api/v1/poke-sample/list?after=123&size=12  (첫 페이지는 after= 로 비워서 요청)
+    @GetMapping(value = "/list", params = "after")
+    public ResponseEntity<CursorResponse<PokeSampleSummary>> getSamplesByCursor(
+            @RequestParam(required = false) Integer pokemonIdx,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        CursorResponse<PokeSampleSummary> result = pokeSampleService.getSamplesByCursor(pokemonIdx, keyword, after,
+                Math.max(1, Math.min(size, 100)), getCurrentProviderIdOrNull());
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 노력치 하한 조회 (커서, 최신순). stat은 H/A/B/C/D/S, min은 1~252 (상한은 항상 252)
+     * GET /api/v1/poke-sample/list/ev?stat=S&min=252&after=120&size=12
+     */
+    @GetMapping("/list/ev")
+    public ResponseEntity<CursorResponse<PokeSampleSummary>> getSamplesByEv(
+            @RequestParam PokeStat stat,
+            @RequestParam(defaultValue = "252") int min,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        try {
+            CursorResponse<PokeSampleSummary> result = pokeSampleService.getSamplesByEv(stat, min, after,
+                    Math.max(1, Math.min(size, 100)), getCurrentProviderIdOrNull());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // 노력치 하한 오류
+        }
+    }
+
     // 내 샘플 목록 조회 API
     @GetMapping("/list/mine")
-    public ResponseEntity<Page<PokeSampleResponseDTO>> getMySamples(
+    public ResponseEntity<Page<PokeSampleSummary>> getMySamples(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size
     ) {
@@ -71,13 +123,13 @@ public class PokeSampleController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        Page<PokeSampleResponseDTO> result = pokeSampleService.getMySamples(memberIdx, page, size);
+        Page<PokeSampleSummary> result = pokeSampleService.getMySamples(memberIdx, getCurrentProviderIdOrNull(), page, size);
         return ResponseEntity.ok(result);
     }
 
     // 내가 좋아요한 샘플 목록 API
     @GetMapping("/list/liked")
-    public ResponseEntity<Page<PokeSampleResponseDTO>> getLikedSamples(
+    public ResponseEntity<Page<PokeSampleSummary>> getLikedSamples(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size
     ) {
@@ -86,16 +138,76 @@ public class PokeSampleController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        Page<PokeSampleResponseDTO> result = pokeSampleService.getLikedSamples(memberIdx, page, size);
+        Page<PokeSampleSummary> result = pokeSampleService.getLikedSamples(memberIdx, page, size);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 포켓몬 이름 자동완성 (한국어/영어 부분 일치, 초성 "ㅍㅋㅊ", 오타 허용)
+     * GET /api/v1/poke-sample/pokemon-names?q=피카&limit=5
+     */
+    @GetMapping("/pokemon-names")
+    public ResponseEntity<List<PokemonNameResponse>> suggestPokemonNames(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(pokemonNameIndex.suggest(q, Math.max(1, Math.min(limit, 20))));
+    }
+
+    /**
+     * 샘플 필터 검색 (같은 필터 안의 값은 OR, 기술은 모두 가진 샘플, 필터끼리는 AND) + 필터별 값 개수
+     * GET /api/v1/poke-sample/facets?teraType=페어리&teraType=강철&move=칼춤&move=지진&page=0&size=12
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<SampleFacetResponse> searchByFacets(
+            @RequestParam(required = false) List<String> pokemon,
+            @RequestParam(required = false) List<String> teraType,
+            @RequestParam(required = false) List<String> item,
+            @RequestParam(required = false) List<String> nature,
+            @RequestParam(required = false) List<String> ability,
+            @RequestParam(required = false) List<String> move,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        Map<SampleFacetIndex.Facet, List<String>> filters = new EnumMap<>(SampleFacetIndex.Facet.class);
+        putIfPresent(filters, SampleFacetIndex.Facet.POKEMON, pokemon);
+        putIfPresent(filters, SampleFacetIndex.Facet.TERA_TYPE, teraType);
+        putIfPresent(filters, SampleFacetIndex.Facet.ITEM, item);
+        putIfPresent(filters, SampleFacetIndex.Facet.NATURE, nature);
+        putIfPresent(filters, SampleFacetIndex.Facet.ABILITY, ability);
+        putIfPresent(filters, SampleFacetIndex.Facet.MOVE, move);
+
+        SampleFacetResponse result = pokeSampleService.searchByFacets(filters, Math.max(0, page),
+                Math.max(1, Math.min(size, 100)), getCurrentProviderIdOrNull());
+        return ResponseEntity.ok(result);
+    }
+
+    private void putIfPresent(Map<SampleFacetIndex.Facet, List<String>> filters, SampleFacetIndex.Facet facet, List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            filters.put(facet, values);
+        }
+    }
+
+    /**
+     * 비슷한 샘플 (기술/도구/특성이 겹치는 공개 샘플, 유사도 높은 순)
+     * GET /api/v1/poke-sample/{idx}/similar?size=6
+     */
+    @GetMapping("/{idx}/similar")
+    public ResponseEntity<List<PokeSampleSummary>> getSimilarSamples(
+            @PathVariable Long idx,
+            @RequestParam(defaultValue = "6") int size
+    ) {
+        List<PokeSampleSummary> result = pokeSampleService.getSimilarSamples(idx,
+                Math.max(1, Math.min(size, SampleFacetIndex.MAX_SIMILAR)), getCurrentProviderIdOrNull());
         return ResponseEntity.ok(result);
     }
 
     /**
-     * 샘플 상세 조회
+     * 샘플 상세 조회 (If-None-Match가 현재 ETag와 같으면 상세 조회 없이 304)
      * GET /api/v1/poke-sample/{idx}
      */
     @GetMapping("/{idx}")
-    public ResponseEntity<PokeSampleResponseDTO> getSampleDetail(@PathVariable Long idx) {
+    public ResponseEntity<PokeSampleResponseDTO> getSampleDetail(@PathVariable Long idx, WebRequest webRequest) {
         log.info("샘플 상세 조회 요청: Sample ID={}", idx);
 
         // 1. 현재 로그인한 사용자 ID(ProviderId) 가져오기 (없으면 null)
@@ -104,10 +216,27 @@ public class PokeSampleController {
             currentProviderId = null;
         }
 
+        // 2. 버전 값만으로 ETag 계산 → 변경이 없으면 304
+        String eTag = pokeSampleService.getSampleETag(idx, currentProviderId);
+        if (eTag == null) {
+            log.error("샘플 조회 실패: 해당 샘플이 존재하지 않습니다. idx={}", idx);
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(eTag)) {
+            pokeSampleService.recordView(idx);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate()) // 사용자별 응답이므로 공유 캐시에 저장 금지
+                    .build();
+        }
+
         try {
-            // 2. 서비스 호출 (providerId 전달)
+            // 3. 서비스 호출 (providerId 전달)
             PokeSampleResponseDTO response = pokeSampleService.getSample(idx, currentProviderId);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate()) // 브라우저가 매번 ETag로 재검증
+                    .body(response);
         } catch (IllegalArgumentException e) {
             log.error("샘플 조회 실패: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -133,6 +262,9 @@ public class PokeSampleController {
         try {
             Long newIdx = pokeSampleService.createSample(request);
             return new ResponseEntity<>(newIdx, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            log.warn("샘플 작성 검증 실패: {}", e.getMessage()); // 개체값/노력치 형식 등
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("샘플 작성 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -154,7 +286,7 @@ public class PokeSampleController {
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage()); // 권한 없음
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body("존재하지 않는 샘플입니다.");
+            return ResponseEntity.badRequest().body(e.getMessage()); // 존재하지 않는 샘플, 개체값/노력치 형식 오류
         } catch (Exception e) {
             log.error("수정 중 오류", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("서버 오류");
@@ -204,6 +336,16 @@ public class PokeSampleController {
         }
     }
 
+    /**
+     * 현재 좋아요 수 (실시간 구독 시작/재연결 후 놓친 변경 보정용)
+     * GET /api/v1/poke-sample/like/{idx}
+     */
+    @GetMapping("/like/{idx}")
+    public ResponseEntity<Long> getLikeCount(@PathVariable Long idx) {
+        Long count = pokeSampleService.getLikeCount(idx);
+        return count == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(count);
+    }
+
     // --- 댓글 API ---
 
     /**
@@ -216,6 +358,32 @@ public class PokeSampleController {
         return ResponseEntity.ok(comments);
     }
 
+    /**
+     * 댓글 목록 페이징 조회 (최상위 댓글 커서 + 댓글마다 첫 답글 replySize개, replyCount)
+     * GET /api/v1/poke-sample/comment/list/{sampleIdx}/page?after=&size=20&replySize=3
+     */
+    @GetMapping("/comment/list/{sampleIdx}/page")
+    public ResponseEntity<CursorResponse<PokeSampleCommentResponse>> getCommentPage(
+            @PathVariable Long sampleIdx,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replySize) {
+        return ResponseEntity.ok(commentService.getCommentPage(sampleIdx, after, size, replySize));
+    }
+
+    /**
+     * 답글 더보기
+     * GET /api/v1/poke-sample/comment/list/{sampleIdx}/replies/{parentIdx}?after=&size=20
+     */
+    @GetMapping("/comment/list/{sampleIdx}/replies/{parentIdx}")
+    public ResponseEntity<CursorResponse<PokeSampleCommentResponse>> getReplyPage(
+            @PathVariable Long sampleIdx,
+            @PathVariable Long parentIdx,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getReplyPage(sampleIdx, parentIdx, after, size));
+    }
+
     /**
      * 댓글 작성
      * POST /api/v1/poke-sample/comment
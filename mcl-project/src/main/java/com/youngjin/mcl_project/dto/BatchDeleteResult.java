@@ -0,0 +1,10 @@
+package com.youngjin.mcl_project.dto;
+
+/**
+ * 일괄 삭제 API의 ID별 처리 결과
+ */
+public enum BatchDeleteResult {
+    DELETED,    // 삭제됨
+    NOT_FOUND,  // 존재하지 않거나 이미 삭제됨
+    FORBIDDEN   // 본인 글/댓글이 아님
+}
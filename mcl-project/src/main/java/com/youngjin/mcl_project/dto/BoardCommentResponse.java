@@ -2,6 +2,7 @@ package com.youngjin.mcl_project.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.youngjin.mcl_project.entity.BoardCommentEntity;
+import com.youngjin.mcl_project.util.CommentPath;
 import lombok.Builder;
 import lombok.Data;
 
@@ -16,6 +17,9 @@ public class BoardCommentResponse {
     private long boardIdx;
     private Long parentIdx;
 
+    // 깊이 (0 = 최상위 댓글)
+    private int depth;
+
     // ⭐️ JOIN 필요 필드 (작성자 닉네임)
     private String authorNickname;
 
@@ -27,6 +31,9 @@ public class BoardCommentResponse {
     @JsonProperty("isDeleted")
     private boolean isDeleted;
 
+    // 전체 답글 수 (페이징 조회에서만 채움 - replies에 일부만 담겨 있어도 "답글 더보기" 판단용)
+    private Long replyCount;
+
     // ⭐️ 계층형 구조를 위한 대댓글 목록
     private List<BoardCommentResponse> replies;
 
@@ -42,6 +49,7 @@ public class BoardCommentResponse {
                 .idx(entity.getIdx())
                 .boardIdx(entity.getBoardIdx())
                 .parentIdx(entity.getParentIdx())
+                .depth(entity.getSortPath() != null ? CommentPath.depth(entity.getSortPath()) : 0)
                 // .authorNickname(nickname) // Service에서 채워야 함
                 .ment(content)
                 .regdate(entity.getRegdate())
@@ -1,13 +1,17 @@
 package com.youngjin.mcl_project.dto;
 
 import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor // QueryDSL 생성자 프로젝션용 (필드 순서 = 생성자 인자 순서)
 public class BoardListResponse {
 
     // 엔티티 필드
@@ -0,0 +1,61 @@
+package com.youngjin.mcl_project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 커서(keyset) 페이징 응답 껍데기.
+ * Page와 달리 전체 개수(COUNT)를 계산하지 않고, 다음 페이지 존재 여부와 다음 커서만 내려줍니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private int size;
+
+    // 다음 페이지가 있는지 (size + 1개를 조회해서 판단)
+    private boolean hasNext;
+
+    // 다음 요청의 after 값 (마지막 행의 idx, 다음 페이지가 없으면 null)
+    private Long nextCursor;
+
+    /**
+     * size + 1개까지 조회한 결과로 응답을 만듭니다.
+     *
+     * @param rows     Repository에서 limit(size + 1)로 조회한 결과
+     * @param size     요청한 페이지 크기 (1 이상, 범위 제한은 Controller/Service에서)
+     * @param cursorOf 행에서 커서(idx)를 꺼내는 함수
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, ToLongFunction<T> cursorOf) {
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + size);
+        }
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.applyAsLong(content.get(content.size() - 1)) : null)
+                .build();
+    }
+
+    // 커서 정보는 그대로 두고 내용만 바꾼 응답 (엔티티로 페이지를 판단한 뒤 DTO로 바꿀 때 사용)
+    public <R> CursorResponse<R> withContent(List<R> newContent) {
+        return CursorResponse.<R>builder()
+                .content(newContent)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
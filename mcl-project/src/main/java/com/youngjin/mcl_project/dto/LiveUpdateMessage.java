@@ -0,0 +1,29 @@
+package com.youngjin.mcl_project.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * WebSocket(/topic/board/{idx}, /topic/poke-sample/{idx})으로 보내는 변경분.
+ * 목록 전체 대신 바뀐 댓글 하나 또는 바뀐 숫자만 담습니다.
+ * 추천/좋아요 수는 증감이 아니라 발행 시점의 전체 값이라, 메시지가 빠지거나 겹쳐도 다음 메시지로 맞춰집니다.
+ */
+@Getter
+@Builder
+public class LiveUpdateMessage {
+
+    public enum Type {
+        COMMENT_CREATED,  // comment 채움
+        COMMENT_UPDATED,  // comment 채움
+        COMMENT_DELETED,  // commentIdx만
+        RECOMMEND_CHANGED, // count = 현재 추천 수
+        LIKE_CHANGED       // count = 현재 좋아요 수
+    }
+
+    private final Type type;
+    private final long targetIdx;    // 게시글 또는 샘플 ID
+    private final Long commentIdx;
+    private final Long parentIdx;
+    private final Object comment;    // BoardCommentResponse 또는 PokeSampleCommentResponse
+    private final Long count;
+}
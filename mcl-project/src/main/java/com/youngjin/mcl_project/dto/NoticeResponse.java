@@ -0,0 +1,20 @@
+package com.youngjin.mcl_project.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고정 공지 목록 항목 (NoticeRegistry가 메모리에 들고 있는 불변 객체)
+ * 조회수/댓글 수처럼 자주 바뀌는 값은 포함하지 않습니다.
+ */
+@Getter
+@Builder
+public class NoticeResponse {
+
+    private final long idx;
+    private final String title;
+    private final String authorNickname;
+    private final LocalDateTime regdate;
+}
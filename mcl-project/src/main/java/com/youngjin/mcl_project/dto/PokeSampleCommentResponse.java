@@ -2,6 +2,7 @@ package com.youngjin.mcl_project.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.youngjin.mcl_project.entity.PokeSampleComment;
+import com.youngjin.mcl_project.util.CommentPath;
 import lombok.Builder;
 import lombok.Data;
 
@@ -17,6 +18,9 @@ public class PokeSampleCommentResponse {
     private Long sampleIdx;
     private Long parentIdx;
 
+    // 깊이 (0 = 최상위 댓글)
+    private int depth;
+
     private String authorNickname; // 작성자 닉네임
 
     private String ment;
@@ -26,6 +30,9 @@ public class PokeSampleCommentResponse {
     @JsonProperty("isDeleted")
     private boolean isDeleted;
 
+    // 전체 답글 수 (페이징 조회에서만 채움 - replies에 일부만 담겨 있어도 "답글 더보기" 판단용)
+    private Long replyCount;
+
     // 대댓글 리스트
     private List<PokeSampleCommentResponse> replies;
 
@@ -43,6 +50,7 @@ public class PokeSampleCommentResponse {
                 .idx(entity.getIdx())
                 .sampleIdx(entity.getPokeSample().getIdx()) // 연관관계에서 ID 추출
                 .parentIdx(parentId)
+                .depth(entity.getSortPath() != null ? CommentPath.depth(entity.getSortPath()) : 0)
                 .ment(content)
                 .regdate(entity.getRegdate())
                 .moddate(entity.getModdate())
@@ -2,6 +2,7 @@ package com.youngjin.mcl_project.dto;
 
 import com.youngjin.mcl_project.entity.PokeSampleEntity;
 import com.youngjin.mcl_project.enums.Visibility;
+import com.youngjin.mcl_project.util.StatSpreadCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -33,9 +34,9 @@ public class PokeSampleRequestDTO {
     private String description;
     private Visibility visibility; // PUBLIC or PRIVATE
 
-    // DTO -> Entity 변환 메서드 (편의성)
+    // DTO -> Entity 변환 메서드 (편의성, 개체값/노력치는 여기서 한 번 파싱/검증)
     public PokeSampleEntity toEntity() {
-        return PokeSampleEntity.builder()
+        PokeSampleEntity entity = PokeSampleEntity.builder()
                 .memberIdx(this.memberIdx)
                 .pokemonIdx(this.pokemonIdx)
                 .pokemonName(this.pokemonName)
@@ -43,8 +44,6 @@ public class PokeSampleRequestDTO {
                 .item(this.item)
                 .nature(this.nature)
                 .ability(this.ability)
-                .ivs(this.ivs)
-                .evs(this.evs)
                 .move1(this.move1)
                 .move2(this.move2)
                 .move3(this.move3)
@@ -52,5 +51,7 @@ public class PokeSampleRequestDTO {
                 .description(this.description)
                 .visibility(this.visibility == null ? Visibility.PUBLIC : this.visibility)
                 .build();
+        entity.changeStats(StatSpreadCodec.parseIvs(this.ivs), StatSpreadCodec.parseEvs(this.evs));
+        return entity;
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.youngjin.mcl_project.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.youngjin.mcl_project.enums.Visibility;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 샘플 목록 카드용 요약 (PokeSampleRepositoryCustom의 QueryDSL 프로젝션 한 번으로 조회).
+ * 개체값/노력치/운용법(description)은 상세 조회(PokeSampleResponseDTO)에만 있습니다.
+ */
+@Data
+@NoArgsConstructor
+public class PokeSampleSummary {
+
+    private Long idx;
+    @JsonIgnore
+    private Long memberIdx;        // isMine 판단용 (응답에는 내보내지 않음)
+    private String authorNickname; // member 조인
+    private Integer pokemonIdx;
+    private String pokemonName;
+
+    private String teraType;
+    private String item;
+    private String nature;
+    private String ability;
+
+    private String move1;
+    private String move2;
+    private String move3;
+    private String move4;
+
+    private Visibility visibility;
+    private Integer likeCount;
+    private Integer hit;
+    private Long commentCount;     // 삭제되지 않은 댓글 수 (스칼라 서브쿼리)
+    private LocalDateTime regdate;
+
+    // 로그인한 사용자의 상태 (조회 후 Service에서 채움)
+    @JsonProperty("isLiked")
+    private boolean isLiked;
+
+    @JsonProperty("isMine")
+    private boolean isMine;
+
+    // QueryDSL 생성자 프로젝션용 (인자 순서 = PokeSampleRepositoryCustomImpl.selectSummary)
+    public PokeSampleSummary(Long idx, Long memberIdx, String authorNickname, Integer pokemonIdx, String pokemonName,
+                             String teraType, String item, String nature, String ability,
+                             String move1, String move2, String move3, String move4,
+                             Visibility visibility, Integer likeCount, Integer hit, Long commentCount, LocalDateTime regdate) {
+        this.idx = idx;
+        this.memberIdx = memberIdx;
+        this.authorNickname = authorNickname;
+        this.pokemonIdx = pokemonIdx;
+        this.pokemonName = pokemonName;
+        this.teraType = teraType;
+        this.item = item;
+        this.nature = nature;
+        this.ability = ability;
+        this.move1 = move1;
+        this.move2 = move2;
+        this.move3 = move3;
+        this.move4 = move4;
+        this.visibility = visibility;
+        this.likeCount = likeCount;
+        this.hit = hit;
+        this.commentCount = commentCount;
+        this.regdate = regdate;
+    }
+}
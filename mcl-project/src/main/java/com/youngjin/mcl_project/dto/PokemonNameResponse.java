@@ -0,0 +1,16 @@
+package com.youngjin.mcl_project.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 포켓몬 이름 자동완성 항목 (PokemonNameIndex)
+ */
+@Getter
+@Builder
+public class PokemonNameResponse {
+
+    private final String korName;
+    private final String engName;     // PokeAPI 이름 (목록에 없는 이름이면 null)
+    private final Integer pokemonIdx; // 등록된 샘플의 도감 번호 (샘플이 없으면 null)
+}
@@ -0,0 +1,30 @@
+package com.youngjin.mcl_project.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샘플 필터 검색 응답 (SampleFacetIndex)
+ */
+@Getter
+@Builder
+public class SampleFacetResponse {
+
+    private final List<PokeSampleSummary> content;
+    private final int totalElements;
+    private final int page;
+    private final int size;
+
+    // 필터 이름(pokemon, teraType, item, nature, ability, move) -> 값별 샘플 수 (많은 순)
+    private final Map<String, List<FacetCount>> facets;
+
+    @Getter
+    @Builder
+    public static class FacetCount {
+        private final String value;
+        private final int count;
+    }
+}
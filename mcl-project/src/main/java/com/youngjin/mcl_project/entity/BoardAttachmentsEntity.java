@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 public class BoardAttachmentsEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "board_attachments_seq")
+    @TableGenerator(name = "board_attachments_seq", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "board_attachments", allocationSize = IdSequences.ALLOCATION_SIZE)
     private long idx;
 
     // ⭐️ 게시글 ID (FK)
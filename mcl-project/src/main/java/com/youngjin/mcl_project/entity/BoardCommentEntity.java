@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 public class BoardCommentEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "board_comments_seq")
+    @TableGenerator(name = "board_comments_seq", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "board_comments", allocationSize = IdSequences.ALLOCATION_SIZE)
     private long idx;
 
     // ⭐️ 게시글 ID (FK)
@@ -54,4 +57,9 @@ public class BoardCommentEntity {
     // 💡 계층형 댓글을 위한 부모 ID
     @Column(name = "parent_idx")
     private Long parentIdx;
+
+    // 💡 계층 정렬 키 (조상부터 자신까지의 idx 경로, util/CommentPath 참고)
+    // idx가 있어야 만들 수 있으므로 save(persist)로 idx를 배정받은 뒤 채웁니다. (INSERT는 NULL로, 같은 flush의 UPDATE로 채워짐)
+    @Column(name = "sort_path", length = 1000)
+    private String sortPath;
 }
\ No newline at end of file
@@ -33,8 +33,19 @@ public class BoardEntity {
 
     private long hit;
 
+    // 추천 수. BoardRepository.addRecommend / ShardedCounterService의 원자적 UPDATE로만 변경 (수정 시 덮어쓰지 않음)
+    @Column(updatable = false)
     private long recommend;
 
+    // 삭제되지 않은 댓글 수 (비정규화 컬럼)
+    // 엔티티 dirty checking으로 덮어쓰지 않도록 BoardRepository의 원자적 UPDATE로만 변경합니다.
+    @Column(name = "comment_count", insertable = false, updatable = false)
+    private long commentCount;
+
+    // 댓글 작성/수정/삭제마다 +1 되는 워터마크 (댓글 목록 ETag 계산용, 원자적 UPDATE로만 변경)
+    @Column(name = "comment_version", insertable = false, updatable = false)
+    private long commentVersion;
+
     private LocalDateTime regdate;
 
     private LocalDateTime moddate;
@@ -48,15 +59,5 @@ public class BoardEntity {
         NOTICE, FREE
     }
 
-    // 추천 수 증가
-    public void increaseRecommend() {
-        this.recommend++;
-    }
-
-    // 추천 수 감소 (0보다 작아지지 않게 방어)
-    public void decreaseRecommend() {
-        if (this.recommend > 0) {
-            this.recommend--;
-        }
-    }
+    // 추천 수는 BoardRepository.addRecommend로만 증감합니다. (동시 클릭 시 엔티티 read-modify-write는 갱신 손실)
 }
@@ -0,0 +1,17 @@
+package com.youngjin.mcl_project.entity;
+
+/**
+ * 풀링 ID 생성기(@TableGenerator) 공통 설정
+ * IDENTITY는 INSERT를 해야 ID를 알 수 있어 Hibernate JDBC 배치가 꺼지므로,
+ * 대량 INSERT가 있는 엔티티는 id_sequences 테이블에서 ALLOCATION_SIZE개씩 ID를 미리 받아 씁니다.
+ * (V7 마이그레이션의 초기값 = MAX(idx) + ALLOCATION_SIZE, 값을 바꾸면 함께 맞춰야 합니다)
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String PK_COLUMN = "seq_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {}
+}
@@ -22,7 +22,10 @@ import java.util.List;
 public class PokeSampleComment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "poke_sample_comment_seq")
+    @TableGenerator(name = "poke_sample_comment_seq", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "poke_sample_comment", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long idx;
 
     // ⭐️ 어떤 샘플에 달린 댓글인지
@@ -50,6 +53,10 @@ public class PokeSampleComment {
     @ColumnDefault("false")
     private boolean isDeleted;
 
+    // 계층 정렬 키 (조상부터 자신까지의 idx 경로, util/CommentPath 참고)
+    @Column(name = "sort_path", length = 1000)
+    private String sortPath;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime regdate;
@@ -62,6 +69,11 @@ public class PokeSampleComment {
         this.ment = ment;
     }
 
+    // 정렬 키 지정 (save로 idx가 정해진 뒤 호출, flush 때 UPDATE로 반영)
+    public void assignSortPath(String sortPath) {
+        this.sortPath = sortPath;
+    }
+
     // 삭제 처리 메서드 (Soft Delete)
     public void changeDeleted(boolean isDeleted) {
         this.isDeleted = isDeleted;
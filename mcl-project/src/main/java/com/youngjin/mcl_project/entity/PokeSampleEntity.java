@@ -7,6 +7,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.UpdateTimestamp;
 import com.youngjin.mcl_project.enums.Visibility;
+import com.youngjin.mcl_project.util.StatSpreadCodec;
 
 import java.time.LocalDateTime;
 
@@ -55,6 +56,27 @@ public class PokeSampleEntity {
     @Column(nullable = false, length = 50)
     private String evs; // 노력치
 
+    // 개체값/노력치를 스탯별 1바이트씩 묶은 값 (StatSpreadCodec). ivs/evs는 이 값의 표준 형식 문자열
+    @Column(name = "iv_packed", nullable = false)
+    private long ivPacked;
+
+    @Column(name = "ev_packed", nullable = false)
+    private long evPacked;
+
+    // ev_packed에서 DB가 계산하는 스탯별 노력치 (V12 생성 컬럼, 범위 검색용으로만 읽음)
+    @Column(name = "ev_h", insertable = false, updatable = false)
+    private Integer evH;
+    @Column(name = "ev_a", insertable = false, updatable = false)
+    private Integer evA;
+    @Column(name = "ev_b", insertable = false, updatable = false)
+    private Integer evB;
+    @Column(name = "ev_c", insertable = false, updatable = false)
+    private Integer evC;
+    @Column(name = "ev_d", insertable = false, updatable = false)
+    private Integer evD;
+    @Column(name = "ev_s", insertable = false, updatable = false)
+    private Integer evS;
+
     // --- 기술 배치 ---
     @Column(nullable = false, length = 50)
     private String move1;
@@ -73,9 +95,10 @@ public class PokeSampleEntity {
     @ColumnDefault("'PUBLIC'") // DDL 생성시 기본값
     private Visibility visibility;
 
-    @Column(name = "like_count", nullable = false)
+    // 좋아요 수 캐싱. LikeEventAggregator만 쓰므로 샘플 수정 시 dirty checking으로 덮어쓰지 않음
+    @Column(name = "like_count", nullable = false, updatable = false)
     @ColumnDefault("0")
-    private Integer likeCount; // 좋아요 수 캐싱
+    private Integer likeCount;
 
     @Column(name = "hit", nullable = false)
     @ColumnDefault("0")
@@ -95,34 +118,27 @@ public class PokeSampleEntity {
 
     // --- 비즈니스 로직 편의 메서드 ---
 
-    // 좋아요 수 증가
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    // 좋아요 수 감소
-    public void decreaseLikeCount() {
-        this.likeCount = Math.max(0, this.likeCount - 1);
-    }
-
-    // 조회수 증가
-    public void increaseHit() {
-        this.hit++;
-    }
+    // 좋아요 수는 LikeEventAggregator가 이벤트를 모아 UPDATE로만 증감합니다. (엔티티 read-modify-write는 갱신 손실)
 
     public void changeDeleted(boolean isDeleted) {
         this.isDeleted = isDeleted;
     }
 
+    // 개체값/노력치 변경 (파싱/검증은 StatSpreadCodec.parseIvs/parseEvs에서, 문자열은 표준 형식으로 저장)
+    public void changeStats(long ivPacked, long evPacked) {
+        this.ivPacked = ivPacked;
+        this.evPacked = evPacked;
+        this.ivs = StatSpreadCodec.formatIvs(ivPacked);
+        this.evs = StatSpreadCodec.formatEvs(evPacked);
+    }
+
     public void updateSampleInfo(String teraType, String item, String nature, String ability,
-                                 String ivs, String evs, String move1, String move2, String move3, String move4,
+                                 String move1, String move2, String move3, String move4,
                                  String description, Visibility visibility) {
         this.teraType = teraType;
         this.item = item;
         this.nature = nature;
         this.ability = ability;
-        this.ivs = ivs;
-        this.evs = evs;
         this.move1 = move1;
         this.move2 = move2;
         this.move3 = move3;
@@ -15,6 +15,8 @@ import java.time.LocalDateTime;
 @ToString(exclude = "pokeSample") // 무한루프 방지
 public class PokeSampleLikeEntity {
 
+    // 좋아요는 PokeSampleLikeRepository.insertIgnore(네이티브, AUTO_INCREMENT)로 저장하므로 IDENTITY 유지
+    // (풀링 ID와 섞으면 미리 받아 둔 ID 구간과 AUTO_INCREMENT 값이 겹칠 수 있음)
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long idx;
@@ -0,0 +1,24 @@
+package com.youngjin.mcl_project.enums;
+
+/**
+ * 능력치 6종. 이름(H/A/B/C/D/S)은 노력치 문자열("H4 A252 S252")의 접두 문자이고,
+ * 순서(ordinal)는 개체값/노력치를 묶은 값에서의 바이트 위치입니다. (StatSpreadCodec)
+ */
+public enum PokeStat {
+    H("HP"),
+    A("공격"),
+    B("방어"),
+    C("특공"),
+    D("특방"),
+    S("스피드");
+
+    private final String label;
+
+    PokeStat(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -41,6 +42,11 @@ public interface BoardAttachmentsRepository extends JpaRepository<BoardAttachmen
     @Query("UPDATE BoardAttachmentsEntity a SET a.boardIdx = null, a.status = 'TEMP' WHERE a.boardIdx = :boardIdx AND a.status = 'ACTIVE'")
     int resetFilesToTemp(@Param("boardIdx") long boardIdx);
 
+    // 게시글 일괄 삭제 시 파일들을 한 번에 TEMP로 리셋
+    @Modifying
+    @Query("UPDATE BoardAttachmentsEntity a SET a.boardIdx = null, a.status = 'TEMP' WHERE a.boardIdx IN :boardIdxs AND a.status = 'ACTIVE'")
+    int resetFilesToTempByBoardIdxIn(@Param("boardIdxs") Collection<Long> boardIdxs);
+
     // 게시글 상세 조회 시 파일 목록 가져오기 (ACTIVE 상태인 것만)
     List<BoardAttachmentsEntity> findAllByBoardIdxAndStatus(long boardIdx, FileStatus status);
 
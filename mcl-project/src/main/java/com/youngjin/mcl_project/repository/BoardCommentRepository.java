@@ -9,19 +9,21 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface BoardCommentRepository extends JpaRepository<BoardCommentEntity, Long> {
+public interface BoardCommentRepository extends JpaRepository<BoardCommentEntity, Long>, BoardCommentRepositoryCustom {
 
     // 1. 특정 게시글의 댓글 개수 조회 (BoardListResponse를 위한 COUNT)
     // isDeleted가 있다면 isDeleted=false 조건 추가 필요
     long countByBoardIdxAndIsDeletedFalse(long boardIdx);
 
     // 2. 특정 게시글의 댓글 목록 조회 (BoardDetailResponse의 댓글 섹션)
-    // 댓글과 답글을 계층적으로 정렬하기 위해 regdate 오름차순 또는 원하는 정렬 기준 사용
-    // isDeleted가 있다면 isDeleted=false 조건 추가 필요
-    List<BoardCommentEntity> findAllByBoardIdxOrderByRegdateAsc(long boardIdx);
+    // sort_path 순서 = 화면 표시 순서 (부모 바로 뒤에 답글), (board_idx, sort_path) 인덱스 범위 스캔
+    // 삭제된 댓글도 포함해야 계층 구조가 깨지지 않음
+    List<BoardCommentEntity> findAllByBoardIdxOrderBySortPathAsc(long boardIdx);
 
     // 3. (추가 기능) 대댓글 구현 시 parent_idx가 NULL인 최상위 댓글 목록 조회
     // List<BoardCommentEntity> findAllByBoardIdxAndParentIdxIsNullOrderByRegdateAsc(long boardIdx);
@@ -37,6 +39,21 @@ public interface BoardCommentRepository extends JpaRepository<BoardCommentEntity
     @Query("UPDATE BoardCommentEntity c SET c.isDeleted = true WHERE c.boardIdx = :boardIdx AND c.isDeleted = false")
     int softDeleteAllByBoardIdx(@Param("boardIdx") long boardIdx);
 
+    // 게시글 일괄 삭제 시 연결된 댓글 소프트 삭제
+    @Modifying
+    @Query("UPDATE BoardCommentEntity c SET c.isDeleted = true WHERE c.boardIdx IN :boardIdxs AND c.isDeleted = false")
+    int softDeleteAllByBoardIdxIn(@Param("boardIdxs") Collection<Long> boardIdxs);
+
+    // 댓글 일괄 삭제 대상 분류용 {idx, member_idx, board_idx} (FOR UPDATE로 잠금)
+    @Query(value = "SELECT idx, member_idx, board_idx FROM board_comments WHERE idx IN (:idxs) AND is_deleted = 0 FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockDeleteTargets(@Param("idxs") Collection<Long> idxs);
+
+    // 본인 댓글만 한 번에 소프트 삭제
+    @Modifying
+    @Query("UPDATE BoardCommentEntity c SET c.isDeleted = true, c.moddate = :now " +
+            "WHERE c.idx IN :idxs AND c.memberIdx = :memberIdx AND c.isDeleted = false")
+    int softDeleteAllByIdxInAndMemberIdx(@Param("idxs") Collection<Long> idxs, @Param("memberIdx") long memberIdx, @Param("now") LocalDateTime now);
+
     // 특정 사용자의 최신 댓글 조회
     Page<BoardCommentEntity> findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc(long memberIdx, Pageable pageable);
 }
\ No newline at end of file
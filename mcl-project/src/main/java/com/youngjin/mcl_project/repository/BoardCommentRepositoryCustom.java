@@ -0,0 +1,25 @@
+package com.youngjin.mcl_project.repository;
+
+import com.youngjin.mcl_project.entity.BoardCommentEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 페이징 댓글 조회 (모두 (board_idx, parent_idx, idx) 인덱스 탐색이라 스레드 크기와 무관하게 페이지 크기만큼만 읽음)
+ */
+public interface BoardCommentRepositoryCustom {
+
+    // 최상위 댓글 커서 조회 (idx > afterIdx, idx 오름차순)
+    List<BoardCommentEntity> findRootsAfter(long boardIdx, Long afterIdx, int limit);
+
+    // 특정 댓글의 답글 커서 조회 (idx > afterIdx, idx 오름차순)
+    List<BoardCommentEntity> findRepliesAfter(long boardIdx, long parentIdx, Long afterIdx, int limit);
+
+    // 여러 부모 댓글의 첫 답글 perParent개씩 (부모별 LIMIT 조회를 UNION ALL로 한 번에)
+    List<BoardCommentEntity> findFirstRepliesOf(long boardIdx, Collection<Long> parentIdxs, int perParent);
+
+    // 부모 댓글별 답글 수 (삭제된 답글 포함 - 목록에 "삭제된 댓글입니다."로 표시되므로)
+    Map<Long, Long> countRepliesByParent(long boardIdx, Collection<Long> parentIdxs);
+}
@@ -0,0 +1,106 @@
+package com.youngjin.mcl_project.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.youngjin.mcl_project.entity.BoardCommentEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.youngjin.mcl_project.entity.QBoardCommentEntity.boardCommentEntity;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardCommentRepositoryCustomImpl implements BoardCommentRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BoardCommentEntity> findRootsAfter(long boardIdx, Long afterIdx, int limit) {
+        BooleanExpression condition = boardCommentEntity.boardIdx.eq(boardIdx)
+                .and(boardCommentEntity.parentIdx.isNull());
+
+        if (afterIdx != null) {
+            condition = condition.and(boardCommentEntity.idx.gt(afterIdx));
+        }
+
+        return jpaQueryFactory.selectFrom(boardCommentEntity)
+                .where(condition)
+                .orderBy(boardCommentEntity.idx.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<BoardCommentEntity> findRepliesAfter(long boardIdx, long parentIdx, Long afterIdx, int limit) {
+        BooleanExpression condition = boardCommentEntity.boardIdx.eq(boardIdx)
+                .and(boardCommentEntity.parentIdx.eq(parentIdx));
+
+        if (afterIdx != null) {
+            condition = condition.and(boardCommentEntity.idx.gt(afterIdx));
+        }
+
+        return jpaQueryFactory.selectFrom(boardCommentEntity)
+                .where(condition)
+                .orderBy(boardCommentEntity.idx.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * (SELECT * ... WHERE board_idx = ? AND parent_idx = ? ORDER BY idx LIMIT ?) UNION ALL (...)
+     * 부모마다 인덱스에서 perParent개만 읽으므로 답글이 많은 댓글이 있어도 비용이 늘지 않습니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<BoardCommentEntity> findFirstRepliesOf(long boardIdx, Collection<Long> parentIdxs, int perParent) {
+        if (parentIdxs.isEmpty() || perParent <= 0) {
+            return List.of();
+        }
+
+        List<String> parts = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        for (Long parentIdx : parentIdxs) {
+            parts.add("(SELECT * FROM board_comments WHERE board_idx = ?" + (params.size() + 1)
+                    + " AND parent_idx = ?" + (params.size() + 2)
+                    + " ORDER BY idx LIMIT " + perParent + ")");
+            params.add(boardIdx);
+            params.add(parentIdx);
+        }
+
+        Query query = entityManager.createNativeQuery(String.join(" UNION ALL ", parts), BoardCommentEntity.class);
+        for (int i = 0; i < params.size(); i++) {
+            query.setParameter(i + 1, params.get(i));
+        }
+
+        return query.getResultList();
+    }
+
+    @Override
+    public Map<Long, Long> countRepliesByParent(long boardIdx, Collection<Long> parentIdxs) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (parentIdxs.isEmpty()) {
+            return counts;
+        }
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(boardCommentEntity.parentIdx, boardCommentEntity.count())
+                .from(boardCommentEntity)
+                .where(boardCommentEntity.boardIdx.eq(boardIdx), boardCommentEntity.parentIdx.in(parentIdxs))
+                .groupBy(boardCommentEntity.parentIdx)
+                .fetch();
+
+        rows.forEach(row -> counts.put(row.get(boardCommentEntity.parentIdx), row.get(boardCommentEntity.count())));
+        return counts;
+    }
+}
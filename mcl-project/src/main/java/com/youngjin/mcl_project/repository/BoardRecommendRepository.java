@@ -1,21 +1,38 @@
 package com.youngjin.mcl_project.repository;
 
 import com.youngjin.mcl_project.entity.BoardEntity;
-import com.youngjin.mcl_project.entity.MemberEntity;
 import com.youngjin.mcl_project.entity.BoardRecommendEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
 public interface BoardRecommendRepository extends JpaRepository<BoardRecommendEntity, Long> {
 
-    // 이미 추천했는지 확인
-    boolean existsByMemberAndBoard(MemberEntity member, BoardEntity board);
+    // 추천 (uk_recommend_member_board에 걸리면 0행 = 이미 추천함, 회원/게시글이 없어도 0행)
+    // 게시글 행을 처음부터 X락으로 읽어, 뒤이은 카운터 UPDATE와의 S->X 승격 교착을 막음
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO board_recommend (member_idx, board_idx) " +
+            "SELECT m.idx, b.idx FROM member m JOIN board b ON b.idx = :boardIdx AND b.is_deleted = 0 " +
+            "WHERE m.provider_id = :providerId FOR UPDATE OF b", nativeQuery = true)
+    int insertIgnore(@Param("boardIdx") long boardIdx, @Param("providerId") String providerId);
+
+    // 분산 카운터 사용 중인 게시글용 추천: 게시글 행은 S락만 잡음 (카운터를 게시글 행에 쓰지 않으므로 교착 없음, 동시 추천끼리 막지 않음)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO board_recommend (member_idx, board_idx) " +
+            "SELECT m.idx, b.idx FROM member m JOIN board b ON b.idx = :boardIdx AND b.is_deleted = 0 " +
+            "WHERE m.provider_id = :providerId", nativeQuery = true)
+    int insertIgnoreSharedLock(@Param("boardIdx") long boardIdx, @Param("providerId") String providerId);
 
-    // 추천 취소를 위해 찾기
-    Optional<BoardRecommendEntity> findByMemberAndBoard(MemberEntity member, BoardEntity board);
+    // 추천 취소 (1행 = 취소됨, 삭제된 게시글이면 0행)
+    // 게시글 행은 바로 앞의 insertIgnore/insertIgnoreSharedLock이 이미 같은 종류의 락을 잡은 상태
+    @Modifying
+    @Query(value = "DELETE r FROM board_recommend r JOIN member m ON m.idx = r.member_idx " +
+            "JOIN board b ON b.idx = r.board_idx AND b.is_deleted = 0 " +
+            "WHERE m.provider_id = :providerId AND r.board_idx = :boardIdx", nativeQuery = true)
+    int deleteByProviderIdAndBoardIdx(@Param("boardIdx") long boardIdx, @Param("providerId") String providerId);
 
     // 특정 게시글의 추천 수 직접 카운트 (필요시 사용)
     long countByBoard(BoardEntity board);
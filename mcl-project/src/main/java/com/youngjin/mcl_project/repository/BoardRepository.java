@@ -5,12 +5,19 @@ import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface BoardRepository extends JpaRepository<BoardEntity, Long> {
+public interface BoardRepository extends JpaRepository<BoardEntity, Long>, BoardRepositoryCustom {
 
     // 1. 특정 게시판 타입(NOTICE/FREE)에 해당하는 게시글 목록을 페이징하여 조회
     // isDeleted = false 인 활성화된 게시글만 조회해야 합니다.
@@ -24,10 +31,88 @@ public interface BoardRepository extends JpaRepository<BoardEntity, Long> {
     // findById는 Optional<T>를 반환합니다.
     BoardEntity findByIdxAndIsDeletedFalse(long idx);
 
-    // 4. (선택) 제목 또는 내용으로 검색
-    Page<BoardEntity> findByTitleContainingOrContentContainingAndBoardTypeAndIsDeletedFalse(
-            String titleKeyword, String contentKeyword, BoardType boardType, Pageable pageable);
+    // 4. 제목/내용 검색은 BoardSearchIndex(메모리 역색인)로 처리합니다. (LIKE '%kw%' 본문 풀 스캔 제거)
+
+    // 검색 색인 전체 재구성용 (PK 구간 조회, 삭제된 글 포함)
+    List<BoardEntity> findAllByIdxBetween(long fromIdx, long toIdx);
+
+    // 검색 색인 스냅샷/마지막 동기화 이후 작성/수정/삭제된 글 (idx_board_regdate, idx_board_moddate)
+    @Query("SELECT b FROM BoardEntity b WHERE b.regdate >= :since OR b.moddate >= :since")
+    List<BoardEntity> findChangedSince(@Param("since") LocalDateTime since);
+
+    // --- 일괄 삭제 ---
+
+    // 삭제 대상 분류용 {idx, member_idx, board_type} (FOR UPDATE로 잠가서 이어지는 UPDATE 결과와 일치시킴)
+    @Query(value = "SELECT idx, member_idx, board_type FROM board WHERE idx IN (:idxs) AND is_deleted = 0 FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockDeleteTargets(@Param("idxs") Collection<Long> idxs);
+
+    // 본인 글만 한 번에 소프트 삭제 (댓글이 모두 삭제되므로 댓글 수도 0으로 초기화)
+    @Modifying
+    @Query("UPDATE BoardEntity b SET b.isDeleted = true, b.moddate = :now, b.commentCount = 0, b.commentVersion = b.commentVersion + 1 " +
+            "WHERE b.idx IN :idxs AND b.memberIdx = :memberIdx AND b.isDeleted = false")
+    int softDeleteAllByIdxInAndMemberIdx(@Param("idxs") Collection<Long> idxs, @Param("memberIdx") long memberIdx, @Param("now") LocalDateTime now);
 
     // 특정 사용자의 최신 게시글 조회 (Pageable로 개수 제한)
     Page<BoardEntity> findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc(long memberIdx, Pageable pageable);
+
+    // 추천 수 증감 (엔티티 read-modify-write 대신 DB에서 원자적으로)
+    @Modifying
+    @Query("UPDATE BoardEntity b SET b.recommend = b.recommend + :delta WHERE b.idx = :boardIdx")
+    int addRecommend(@Param("boardIdx") long boardIdx, @Param("delta") long delta);
+
+    // --- 댓글 수(comment_count) 관리 ---
+
+    // 댓글 작성 시 +1 (read-modify-write 없이 DB에서 원자적으로 증가)
+    @Modifying
+    @Query("UPDATE BoardEntity b SET b.commentCount = b.commentCount + 1, b.commentVersion = b.commentVersion + 1 WHERE b.idx = :boardIdx")
+    int increaseCommentCount(@Param("boardIdx") long boardIdx);
+
+    // 댓글 삭제 시 -1 (0 미만으로 내려가지 않게 방어)
+    @Modifying
+    @Query("UPDATE BoardEntity b SET b.commentCount = CASE WHEN b.commentCount > 0 THEN b.commentCount - 1 ELSE 0 END, b.commentVersion = b.commentVersion + 1 WHERE b.idx = :boardIdx")
+    int decreaseCommentCount(@Param("boardIdx") long boardIdx);
+
+    // 게시글 삭제로 댓글이 일괄 소프트 삭제될 때 0으로 초기화
+    @Modifying
+    @Query("UPDATE BoardEntity b SET b.commentCount = 0, b.commentVersion = b.commentVersion + 1 WHERE b.idx = :boardIdx")
+    int resetCommentCount(@Param("boardIdx") long boardIdx);
+
+    // 댓글 일괄 삭제 후 대상 게시글들의 댓글 수를 다시 계산 (게시글별 -n을 한 문장으로)
+    @Modifying
+    @Query(value = "UPDATE board b SET b.comment_count = (SELECT COUNT(*) FROM board_comments c " +
+            "WHERE c.board_idx = b.idx AND c.is_deleted = 0), b.comment_version = b.comment_version + 1 " +
+            "WHERE b.idx IN (:boardIdxs)", nativeQuery = true)
+    int recountCommentCounts(@Param("boardIdxs") Collection<Long> boardIdxs);
+
+    // 댓글 수정 시 워터마크만 +1 (댓글 목록 ETag 갱신)
+    @Modifying
+    @Query("UPDATE BoardEntity b SET b.commentVersion = b.commentVersion + 1 WHERE b.idx = :boardIdx")
+    int increaseCommentVersion(@Param("boardIdx") long boardIdx);
+
+    // 댓글 목록 ETag용 워터마크 조회
+    @Query("SELECT b.commentVersion FROM BoardEntity b WHERE b.idx = :boardIdx")
+    Optional<Long> findCommentVersion(@Param("boardIdx") long boardIdx);
+
+    // 보정 스케줄러가 idx 구간을 나누기 위해 사용
+    @Query("SELECT COALESCE(MAX(b.idx), 0) FROM BoardEntity b")
+    long findMaxIdx();
+
+    /**
+     * [보정 스케줄러에서 사용]
+     * idx 구간(fromIdx < idx <= toIdx)의 게시글에 대해 실제 댓글 수와 다른 comment_count만 다시 계산합니다.
+     * 구간마다 별도 트랜잭션으로 실행되어 한 번에 잡는 락 범위를 제한합니다.
+     * 댓글 목록 ETag가 바뀌도록 보정된 게시글의 comment_version도 +1 합니다.
+     *
+     * @return 보정된 게시글 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE board b " +
+            "LEFT JOIN (SELECT c.board_idx, COUNT(*) AS cnt FROM board_comments c " +
+            "           WHERE c.is_deleted = 0 AND c.board_idx > :fromIdx AND c.board_idx <= :toIdx " +
+            "           GROUP BY c.board_idx) t ON t.board_idx = b.idx " +
+            "SET b.comment_count = COALESCE(t.cnt, 0), b.comment_version = b.comment_version + 1 " +
+            "WHERE b.idx > :fromIdx AND b.idx <= :toIdx AND b.comment_count <> COALESCE(t.cnt, 0)",
+            nativeQuery = true)
+    int reconcileCommentCount(@Param("fromIdx") long fromIdx, @Param("toIdx") long toIdx);
 }
\ No newline at end of file
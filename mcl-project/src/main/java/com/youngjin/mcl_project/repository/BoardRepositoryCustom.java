@@ -0,0 +1,28 @@
+package com.youngjin.mcl_project.repository;
+
+import com.youngjin.mcl_project.dto.BoardListResponse;
+import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BoardRepositoryCustom {
+
+    // 게시판 목록 (닉네임 + 댓글 수를 한 번의 쿼리로 조회, idx 내림차순)
+    Page<BoardListResponse> findBoardList(BoardType boardType, Pageable pageable);
+
+    // 특정 사용자의 게시글 목록 (regdate 내림차순)
+    Page<BoardListResponse> findBoardListByMemberIdx(long memberIdx, Pageable pageable);
+
+    // 게시판 목록 커서 조회 (idx < afterIdx, idx 내림차순, COUNT 없음)
+    List<BoardListResponse> findBoardListAfter(BoardType boardType, Long afterIdx, int limit);
+
+    // 검색 결과 페이지의 게시글 목록 (idx 목록으로 조회, 순서는 호출하는 쪽에서 맞춤)
+    List<BoardListResponse> findBoardListByIdxIn(Collection<Long> idxs);
+
+    // 게시글 상세 ETag 계산용 버전 값 (수정일, 추천 수, 댓글 수만 조회 / 없거나 삭제되었으면 empty)
+    Optional<String> findDetailVersion(long idx);
+}
@@ -0,0 +1,129 @@
+package com.youngjin.mcl_project.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.youngjin.mcl_project.dto.BoardListResponse;
+import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.youngjin.mcl_project.entity.QBoardEntity.boardEntity;
+import static com.youngjin.mcl_project.entity.QMemberEntity.memberEntity;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
+// 목록 화면 전용 조회 (행마다 닉네임/댓글 수를 따로 조회하던 N+1 제거)
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public Page<BoardListResponse> findBoardList(BoardType boardType, Pageable pageable) {
+        BooleanExpression condition = boardEntity.boardType.eq(boardType)
+                .and(boardEntity.isDeleted.isFalse());
+
+        return fetchPage(condition, boardEntity.idx.desc(), pageable);
+    }
+
+    @Override
+    public Page<BoardListResponse> findBoardListByMemberIdx(long memberIdx, Pageable pageable) {
+        BooleanExpression condition = boardEntity.memberIdx.eq(memberIdx)
+                .and(boardEntity.isDeleted.isFalse());
+
+        return fetchPage(condition, boardEntity.regdate.desc(), pageable);
+    }
+
+    @Override
+    public List<BoardListResponse> findBoardListAfter(BoardType boardType, Long afterIdx, int limit) {
+        // (board_type, is_deleted, idx) 인덱스를 타고 커서 위치부터 바로 읽습니다. (OFFSET 없음)
+        BooleanExpression condition = boardEntity.boardType.eq(boardType)
+                .and(boardEntity.isDeleted.isFalse());
+
+        if (afterIdx != null) {
+            condition = condition.and(boardEntity.idx.lt(afterIdx));
+        }
+
+        return selectListResponse()
+                .where(condition)
+                .orderBy(boardEntity.idx.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<BoardListResponse> findBoardListByIdxIn(Collection<Long> idxs) {
+        if (idxs.isEmpty()) {
+            return List.of();
+        }
+
+        return selectListResponse()
+                .where(boardEntity.idx.in(idxs), boardEntity.isDeleted.isFalse())
+                .fetch();
+    }
+
+    @Override
+    public Optional<String> findDetailVersion(long idx) {
+        // PK로 버전 관련 컬럼만 조회 (본문/닉네임/첨부파일은 읽지 않음)
+        Tuple row = jpaQueryFactory
+                .select(boardEntity.regdate, boardEntity.moddate, boardEntity.recommend, boardEntity.commentCount)
+                .from(boardEntity)
+                .where(boardEntity.idx.eq(idx), boardEntity.isDeleted.isFalse())
+                .fetchOne();
+
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(row.get(boardEntity.regdate) + "|" + row.get(boardEntity.moddate)
+                + "|" + row.get(boardEntity.recommend) + "|" + row.get(boardEntity.commentCount));
+    }
+
+    /**
+     * 본문 조회 1회 + (필요할 때만) COUNT 1회로 페이지를 구성합니다.
+     * 닉네임은 member 테이블 조인으로, 댓글 수는 board.comment_count 컬럼에서 같은 SELECT 안에서 가져옵니다.
+     */
+    private Page<BoardListResponse> fetchPage(BooleanExpression condition, OrderSpecifier<?> order, Pageable pageable) {
+
+        List<BoardListResponse> content = selectListResponse()
+                .where(condition)
+                .orderBy(order)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(boardEntity.count())
+                .from(boardEntity)
+                .where(condition);
+
+        // 첫 페이지에서 결과가 size보다 적으면 COUNT 쿼리를 생략합니다.
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    // 목록 DTO 프로젝션 (닉네임은 member 조인, 댓글 수는 board.comment_count)
+    private JPAQuery<BoardListResponse> selectListResponse() {
+        return jpaQueryFactory
+                .select(Projections.constructor(BoardListResponse.class,
+                        boardEntity.idx,
+                        boardEntity.boardType,
+                        boardEntity.title,
+                        boardEntity.hit,
+                        boardEntity.recommend,
+                        boardEntity.regdate,
+                        memberEntity.nickname.coalesce("알 수 없음"),
+                        boardEntity.commentCount))
+                .from(boardEntity)
+                .leftJoin(memberEntity).on(memberEntity.idx.eq(boardEntity.memberIdx));
+    }
+}
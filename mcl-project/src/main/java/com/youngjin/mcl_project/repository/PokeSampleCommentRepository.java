@@ -7,7 +7,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface PokeSampleCommentRepository extends JpaRepository<PokeSampleComment, Long> {
+public interface PokeSampleCommentRepository extends JpaRepository<PokeSampleComment, Long>, PokeSampleCommentRepositoryCustom {
 
     // 특정 샘플의 댓글 목록 조회 (부모 댓글만 조회 -> 대댓글은 Entity 연관관계로 가져옴)
     // N+1 문제를 방지하기 위해 @EntityGraph나 Fetch Join을 고려할 수 있지만,
@@ -16,7 +16,8 @@ public interface PokeSampleCommentRepository extends JpaRepository<PokeSampleCom
     List<PokeSampleComment> findRootCommentsBySampleIdx(@Param("sampleIdx") Long sampleIdx);
 
     // 특정 샘플의 모든 댓글 조회 (삭제된 것도 포함해서 가져와야 계층 구조가 깨지지 않음)
-    List<PokeSampleComment> findAllByPokeSampleIdxOrderByRegdateAsc(Long sampleIdx);
+    // sort_path 순서 = 화면 표시 순서 (부모 바로 뒤에 답글)
+    List<PokeSampleComment> findAllByPokeSampleIdxOrderBySortPathAsc(Long sampleIdx);
 
     // 특정 샘플의 댓글 수 조회 (삭제되지 않은 것만)
     long countByPokeSampleIdxAndIsDeletedFalse(Long sampleIdx);
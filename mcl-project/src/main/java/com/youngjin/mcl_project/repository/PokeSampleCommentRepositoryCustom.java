@@ -0,0 +1,28 @@
+package com.youngjin.mcl_project.repository;
+
+import com.youngjin.mcl_project.entity.PokeSampleComment;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 페이징 댓글 조회 (모두 (poke_sample_idx, parent_idx, idx) 인덱스 탐색)
+ */
+public interface PokeSampleCommentRepositoryCustom {
+
+    // 최상위 댓글 커서 조회 (idx > afterIdx, idx 오름차순)
+    List<PokeSampleComment> findRootsAfter(Long sampleIdx, Long afterIdx, int limit);
+
+    // 특정 댓글의 답글 커서 조회 (idx > afterIdx, idx 오름차순)
+    List<PokeSampleComment> findRepliesAfter(Long sampleIdx, Long parentIdx, Long afterIdx, int limit);
+
+    // 여러 부모 댓글의 첫 답글 perParent개씩 (부모별 LIMIT 조회를 UNION ALL로 한 번에)
+    List<PokeSampleComment> findFirstRepliesOf(Long sampleIdx, Collection<Long> parentIdxs, int perParent);
+
+    // 부모 댓글별 답글 수 (삭제된 답글 포함)
+    Map<Long, Long> countRepliesByParent(Long sampleIdx, Collection<Long> parentIdxs);
+
+    // 샘플별 삭제되지 않은 댓글 수 (여러 샘플을 한 번에)
+    Map<Long, Long> countBySampleIdxs(Collection<Long> sampleIdxs);
+}
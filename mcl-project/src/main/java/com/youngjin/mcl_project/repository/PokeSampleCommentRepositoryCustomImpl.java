@@ -0,0 +1,123 @@
+package com.youngjin.mcl_project.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.youngjin.mcl_project.entity.PokeSampleComment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.youngjin.mcl_project.entity.QPokeSampleComment.pokeSampleComment;
+
+@Repository
+@RequiredArgsConstructor
+public class PokeSampleCommentRepositoryCustomImpl implements PokeSampleCommentRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<PokeSampleComment> findRootsAfter(Long sampleIdx, Long afterIdx, int limit) {
+        BooleanExpression condition = pokeSampleComment.pokeSample.idx.eq(sampleIdx)
+                .and(pokeSampleComment.parent.isNull());
+
+        if (afterIdx != null) {
+            condition = condition.and(pokeSampleComment.idx.gt(afterIdx));
+        }
+
+        return jpaQueryFactory.selectFrom(pokeSampleComment)
+                .where(condition)
+                .orderBy(pokeSampleComment.idx.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<PokeSampleComment> findRepliesAfter(Long sampleIdx, Long parentIdx, Long afterIdx, int limit) {
+        BooleanExpression condition = pokeSampleComment.pokeSample.idx.eq(sampleIdx)
+                .and(pokeSampleComment.parent.idx.eq(parentIdx));
+
+        if (afterIdx != null) {
+            condition = condition.and(pokeSampleComment.idx.gt(afterIdx));
+        }
+
+        return jpaQueryFactory.selectFrom(pokeSampleComment)
+                .where(condition)
+                .orderBy(pokeSampleComment.idx.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * (SELECT * ... WHERE poke_sample_idx = ? AND parent_idx = ? ORDER BY idx LIMIT ?) UNION ALL (...)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PokeSampleComment> findFirstRepliesOf(Long sampleIdx, Collection<Long> parentIdxs, int perParent) {
+        if (parentIdxs.isEmpty() || perParent <= 0) {
+            return List.of();
+        }
+
+        List<String> parts = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        for (Long parentIdx : parentIdxs) {
+            parts.add("(SELECT * FROM poke_sample_comment WHERE poke_sample_idx = ?" + (params.size() + 1)
+                    + " AND parent_idx = ?" + (params.size() + 2)
+                    + " ORDER BY idx LIMIT " + perParent + ")");
+            params.add(sampleIdx);
+            params.add(parentIdx);
+        }
+
+        Query query = entityManager.createNativeQuery(String.join(" UNION ALL ", parts), PokeSampleComment.class);
+        for (int i = 0; i < params.size(); i++) {
+            query.setParameter(i + 1, params.get(i));
+        }
+
+        return query.getResultList();
+    }
+
+    @Override
+    public Map<Long, Long> countRepliesByParent(Long sampleIdx, Collection<Long> parentIdxs) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (parentIdxs.isEmpty()) {
+            return counts;
+        }
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(pokeSampleComment.parent.idx, pokeSampleComment.count())
+                .from(pokeSampleComment)
+                .where(pokeSampleComment.pokeSample.idx.eq(sampleIdx), pokeSampleComment.parent.idx.in(parentIdxs))
+                .groupBy(pokeSampleComment.parent.idx)
+                .fetch();
+
+        rows.forEach(row -> counts.put(row.get(pokeSampleComment.parent.idx), row.get(pokeSampleComment.count())));
+        return counts;
+    }
+
+    @Override
+    public Map<Long, Long> countBySampleIdxs(Collection<Long> sampleIdxs) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (sampleIdxs.isEmpty()) {
+            return counts;
+        }
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(pokeSampleComment.pokeSample.idx, pokeSampleComment.count())
+                .from(pokeSampleComment)
+                .where(pokeSampleComment.pokeSample.idx.in(sampleIdxs), pokeSampleComment.isDeleted.isFalse())
+                .groupBy(pokeSampleComment.pokeSample.idx)
+                .fetch();
+
+        rows.forEach(row -> counts.put(row.get(pokeSampleComment.pokeSample.idx), row.get(pokeSampleComment.count())));
+        return counts;
+    }
+}
@@ -1,27 +1,24 @@
 package com.youngjin.mcl_project.repository;
 
-import com.youngjin.mcl_project.entity.PokeSampleEntity;
 import com.youngjin.mcl_project.entity.PokeSampleLikeEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-
-import java.time.LocalDateTime;
-import java.util.List;
+import org.springframework.data.repository.query.Param;
 
 public interface PokeSampleLikeRepository extends JpaRepository<PokeSampleLikeEntity, Long> {
-    boolean existsByPokeSampleAndMemberIdx(PokeSampleEntity pokeSample, long memberIdx);
-    void deleteByPokeSampleAndMemberIdx(PokeSampleEntity pokeSample, long memberIdx);
-
-    // 좋아요 누른 목록 조회 (페이징)
-    Page<PokeSampleLikeEntity> findByMemberIdxOrderByRegdateDesc(Long memberIdx, Pageable pageable);
+    // 좋아요 (uq_sample_member에 걸리면 0행 = 이미 좋아요함, 회원/샘플이 없어도 0행)
+    // 요청 중에는 샘플 행을 UPDATE하지 않으므로(like_count는 LikeEventAggregator가 반영) S락만 잡고, 동시 좋아요끼리 막지 않음
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO poke_sample_like (sample_idx, member_idx) " +
+            "SELECT s.idx, m.idx FROM poke_sample s JOIN member m ON m.provider_id = :providerId " +
+            "WHERE s.idx = :sampleIdx AND s.is_deleted = 0", nativeQuery = true)
+    int insertIgnore(@Param("sampleIdx") long sampleIdx, @Param("providerId") String providerId);
 
-    // 최근 N일간 좋아요를 많이 받은 샘플 ID 조회 (내림차순)
-    // JPQL 사용: Like 테이블에서 regdate가 특정 시간 이후인 것들을 그룹화하여 count 순으로 정렬
-    @Query("SELECT l.pokeSample.idx FROM PokeSampleLikeEntity l " +
-            "WHERE l.regdate >= :startDate " +
-            "GROUP BY l.pokeSample.idx " +
-            "ORDER BY COUNT(l) DESC")
-    List<Long> findTopSampleIdsByDateAfter(LocalDateTime startDate, Pageable pageable);
+    // 좋아요 취소 (1행 = 취소됨, 삭제된 샘플이면 0행)
+    @Modifying
+    @Query(value = "DELETE l FROM poke_sample_like l JOIN member m ON m.idx = l.member_idx " +
+            "JOIN poke_sample s ON s.idx = l.sample_idx AND s.is_deleted = 0 " +
+            "WHERE m.provider_id = :providerId AND l.sample_idx = :sampleIdx", nativeQuery = true)
+    int deleteByProviderIdAndSampleIdx(@Param("sampleIdx") long sampleIdx, @Param("providerId") String providerId);
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.youngjin.mcl_project.repository;
+
+import com.youngjin.mcl_project.dto.PokeSampleSummary;
+import com.youngjin.mcl_project.enums.PokeStat;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PokeSampleRepositoryCustom {
+
+    // --- 목록 카드 요약 (PokeSampleSummary, 작성자 닉네임 + 댓글 수까지 쿼리 한 번) ---
+
+    // PUBLIC 샘플 페이지 (regdate 내림차순 / pokemonIdxs가 null이면 전체)
+    Page<PokeSampleSummary> findPublicSummaries(Collection<Integer> pokemonIdxs, Pageable pageable);
+
+    // PUBLIC 샘플 커서 조회 (regdate, idx 내림차순, COUNT 없음 / pokemonIdxs가 null이면 전체)
+    List<PokeSampleSummary> findPublicSummariesAfter(Collection<Integer> pokemonIdxs, Long afterIdx, int limit);
+
+    // PUBLIC 샘플 중 해당 능력치 노력치가 [minEv, maxEv]인 샘플 (idx 내림차순 커서, ev_* 생성 컬럼 인덱스 사용)
+    List<PokeSampleSummary> findPublicSummariesByEv(PokeStat stat, int minEv, Long afterIdx, int limit);
+
+    // idx 목록 중 PUBLIC 샘플 (순서 보장 없음, 필터 검색/비슷한 샘플처럼 메모리 색인에서 idx를 구한 경우)
+    List<PokeSampleSummary> findPublicSummariesByIdxIn(Collection<Long> idxs);
+
+    // 회원이 쓴 샘플 (PUBLIC + PRIVATE, regdate 내림차순)
+    Page<PokeSampleSummary> findMemberSummaries(long memberIdx, Pageable pageable);
+
+    // 회원이 좋아요한 샘플 (좋아요한 시각 내림차순)
+    Page<PokeSampleSummary> findLikedSummaries(long memberIdx, Pageable pageable);
+
+    // 샘플 상세 ETag 계산용 버전 값 (수정일, 좋아요 수, 댓글 수만 조회 / 없거나 삭제되었으면 empty)
+    Optional<String> findDetailVersion(Long idx);
+}
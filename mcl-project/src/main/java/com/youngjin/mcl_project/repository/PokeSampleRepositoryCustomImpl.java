@@ -0,0 +1,231 @@
+package com.youngjin.mcl_project.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.youngjin.mcl_project.dto.PokeSampleSummary;
+import com.youngjin.mcl_project.entity.QPokeSampleEntity;
+import com.youngjin.mcl_project.enums.PokeStat;
+import com.youngjin.mcl_project.enums.Visibility;
+import com.youngjin.mcl_project.util.StatSpreadCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.youngjin.mcl_project.entity.QMemberEntity.memberEntity;
+import static com.youngjin.mcl_project.entity.QPokeSampleComment.pokeSampleComment;
+import static com.youngjin.mcl_project.entity.QPokeSampleEntity.pokeSampleEntity;
+import static com.youngjin.mcl_project.entity.QPokeSampleLikeEntity.pokeSampleLikeEntity;
+
+@Repository
+@RequiredArgsConstructor
+public class PokeSampleRepositoryCustomImpl implements PokeSampleRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public Page<PokeSampleSummary> findPublicSummaries(Collection<Integer> pokemonIdxs, Pageable pageable) {
+        BooleanExpression sql = isPublic(pokemonIdxs);
+
+        List<PokeSampleSummary> content = selectSummary()
+                .where(sql)
+                .orderBy(pokeSampleEntity.regdate.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(pokeSampleEntity.count())
+                .from(pokeSampleEntity)
+                .where(sql);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<PokeSampleSummary> findPublicSummariesAfter(Collection<Integer> pokemonIdxs, Long afterIdx, int limit) {
+
+        BooleanExpression sql = isPublic(pokemonIdxs);
+
+        if (afterIdx != null) {
+            sql = sql.and(after(afterIdx));
+        }
+
+        return selectSummary()
+                .where(sql)
+                .orderBy(pokeSampleEntity.regdate.desc(), pokeSampleEntity.idx.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<PokeSampleSummary> findPublicSummariesByIdxIn(Collection<Long> idxs) {
+        return selectSummary()
+                .where(pokeSampleEntity.idx.in(idxs), isPublic(null))
+                .fetch();
+    }
+
+    @Override
+    public Page<PokeSampleSummary> findMemberSummaries(long memberIdx, Pageable pageable) {
+        BooleanExpression sql = pokeSampleEntity.memberIdx.eq(memberIdx)
+                .and(pokeSampleEntity.isDeleted.isFalse());
+
+        List<PokeSampleSummary> content = selectSummary()
+                .where(sql)
+                .orderBy(pokeSampleEntity.regdate.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(pokeSampleEntity.count())
+                .from(pokeSampleEntity)
+                .where(sql);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public Page<PokeSampleSummary> findLikedSummaries(long memberIdx, Pageable pageable) {
+        // idx_like_member_regdate_sample(V10)로 회원의 좋아요를 최신순으로 읽고 샘플은 PK로 조인
+        List<PokeSampleSummary> content = selectSummary()
+                .join(pokeSampleLikeEntity).on(pokeSampleLikeEntity.pokeSample.idx.eq(pokeSampleEntity.idx))
+                .where(pokeSampleLikeEntity.memberIdx.eq(memberIdx))
+                .orderBy(pokeSampleLikeEntity.regdate.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(pokeSampleLikeEntity.count())
+                .from(pokeSampleLikeEntity)
+                .where(pokeSampleLikeEntity.memberIdx.eq(memberIdx));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<PokeSampleSummary> findPublicSummariesByEv(PokeStat stat, int minEv, Long afterIdx, int limit) {
+        NumberPath<Integer> ev = evColumn(stat);
+
+        // 252(최대)는 등호로: idx_sample_ev_* 인덱스를 한 값으로 읽어 idx 순서 그대로 LIMIT (정렬 없음)
+        // 그 아래는 범위 조건: 인덱스 범위 스캔 + 일치 행만 정렬, 또는 PK 역순 스캔 (QueryPlanVerifier에 두 경우 모두 등록)
+        BooleanExpression sql = (minEv >= StatSpreadCodec.MAX_EV ? ev.eq(StatSpreadCodec.MAX_EV) : ev.goe(minEv))
+                .and(pokeSampleEntity.visibility.eq(Visibility.PUBLIC))
+                .and(pokeSampleEntity.isDeleted.isFalse());
+
+        if (afterIdx != null) {
+            sql = sql.and(pokeSampleEntity.idx.lt(afterIdx));
+        }
+
+        return selectSummary()
+                .where(sql)
+                .orderBy(pokeSampleEntity.idx.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<String> findDetailVersion(Long idx) {
+        // 댓글 수는 poke_sample_idx 인덱스로 세는 스칼라 서브쿼리 (샘플에는 비정규화 컬럼이 없음)
+        JPQLQuery<Long> commentCount = JPAExpressions.select(pokeSampleComment.count())
+                .from(pokeSampleComment)
+                .where(pokeSampleComment.pokeSample.idx.eq(idx), pokeSampleComment.isDeleted.isFalse());
+
+        Tuple row = jpaQueryFactory
+                .select(pokeSampleEntity.moddate, pokeSampleEntity.likeCount, commentCount)
+                .from(pokeSampleEntity)
+                .where(pokeSampleEntity.idx.eq(idx), pokeSampleEntity.isDeleted.isFalse())
+                .fetchOne();
+
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(row.get(pokeSampleEntity.moddate) + "|" + row.get(pokeSampleEntity.likeCount)
+                + "|" + row.get(commentCount));
+    }
+
+    /**
+     * 목록 카드 요약 프로젝션 (필요한 컬럼만, description TEXT 제외)
+     * 닉네임은 member 조인, 댓글 수는 idx_sample_comment_sample_deleted(커버링)로 세는 스칼라 서브쿼리
+     */
+    private JPAQuery<PokeSampleSummary> selectSummary() {
+        JPQLQuery<Long> commentCount = JPAExpressions.select(pokeSampleComment.count())
+                .from(pokeSampleComment)
+                .where(pokeSampleComment.pokeSample.idx.eq(pokeSampleEntity.idx), pokeSampleComment.isDeleted.isFalse());
+
+        return jpaQueryFactory
+                .select(Projections.constructor(PokeSampleSummary.class,
+                        pokeSampleEntity.idx,
+                        pokeSampleEntity.memberIdx,
+                        memberEntity.nickname.coalesce("알 수 없음"),
+                        pokeSampleEntity.pokemonIdx,
+                        pokeSampleEntity.pokemonName,
+                        pokeSampleEntity.teraType,
+                        pokeSampleEntity.item,
+                        pokeSampleEntity.nature,
+                        pokeSampleEntity.ability,
+                        pokeSampleEntity.move1,
+                        pokeSampleEntity.move2,
+                        pokeSampleEntity.move3,
+                        pokeSampleEntity.move4,
+                        pokeSampleEntity.visibility,
+                        pokeSampleEntity.likeCount,
+                        pokeSampleEntity.hit,
+                        commentCount,
+                        pokeSampleEntity.regdate))
+                .from(pokeSampleEntity)
+                .leftJoin(memberEntity).on(memberEntity.idx.eq(pokeSampleEntity.memberIdx));
+    }
+
+    // PUBLIC + 삭제 안 됨 (pokemonIdxs가 null이면 전체 포켓몬)
+    private BooleanExpression isPublic(Collection<Integer> pokemonIdxs) {
+        BooleanExpression sql = pokeSampleEntity.visibility.eq(Visibility.PUBLIC)
+                .and(pokeSampleEntity.isDeleted.isFalse());
+
+        if (pokemonIdxs != null) {
+            sql = sql.and(pokeSampleEntity.pokemonIdx.in(pokemonIdxs));
+        }
+        return sql;
+    }
+
+    // 능력치별 노력치 생성 컬럼 (ev_h ~ ev_s, 각각 단일 인덱스)
+    private NumberPath<Integer> evColumn(PokeStat stat) {
+        return switch (stat) {
+            case H -> pokeSampleEntity.evH;
+            case A -> pokeSampleEntity.evA;
+            case B -> pokeSampleEntity.evB;
+            case C -> pokeSampleEntity.evC;
+            case D -> pokeSampleEntity.evD;
+            case S -> pokeSampleEntity.evS;
+        };
+    }
+
+    /**
+     * (regdate, idx) < (커서 행의 regdate, afterIdx) 조건.
+     * 클라이언트는 idx만 넘기므로 커서 행의 regdate는 PK 서브쿼리로 가져옵니다.
+     * (visibility, is_deleted, regdate, idx) 인덱스에서 커서 위치부터 범위 스캔이 가능합니다.
+     */
+    private BooleanExpression after(long afterIdx) {
+        QPokeSampleEntity cursor = new QPokeSampleEntity("cursor");
+        JPQLQuery<LocalDateTime> cursorRegdate = JPAExpressions.select(cursor.regdate)
+                .from(cursor)
+                .where(cursor.idx.eq(afterIdx));
+
+        return pokeSampleEntity.regdate.lt(cursorRegdate)
+                .or(pokeSampleEntity.regdate.eq(cursorRegdate).and(pokeSampleEntity.idx.lt(afterIdx)));
+    }
+}
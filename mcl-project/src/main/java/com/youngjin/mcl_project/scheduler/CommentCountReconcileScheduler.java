@@ -0,0 +1,55 @@
+package com.youngjin.mcl_project.scheduler;
+
+import com.youngjin.mcl_project.repository.BoardRepository;
+import com.youngjin.mcl_project.service.BoardDetailCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconcileScheduler {
+
+    private final BoardRepository boardRepository;
+    private final BoardDetailCache boardDetailCache;
+
+    // 한 번의 UPDATE가 다루는 게시글 idx 구간 크기
+    @Value("${board.comment-count.reconcile-chunk-size:500}")
+    private int CHUNK_SIZE;
+
+    /**
+     * board.comment_count 보정 스케줄러
+     * 설정: 매일 새벽 4시 실행
+     * 대상: comment_count가 실제 (삭제되지 않은) 댓글 수와 다른 게시글
+     *
+     * 댓글 작성/삭제는 트랜잭션 안에서 comment_count를 +1/-1 하지만,
+     * 수동 DB 작업이나 과거 데이터 때문에 생긴 차이를 구간(chunk) 단위로 바로잡습니다.
+     * 구간마다 별도 트랜잭션으로 실행되므로 전체 테이블을 한 번에 잠그지 않습니다.
+     * 보정된 게시글이 있는 구간은 캐시된 상세(댓글 수 포함)도 무효화합니다.
+     */
+    @Scheduled(cron = "${board.comment-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcileCommentCounts() {
+        log.info("🔢 [스케줄러 시작] 게시글 댓글 수 보정 작업 시작...");
+
+        long maxIdx = boardRepository.findMaxIdx();
+        int fixedCount = 0;
+
+        for (long from = 0; from < maxIdx; from += CHUNK_SIZE) {
+            try {
+                int fixed = boardRepository.reconcileCommentCount(from, from + CHUNK_SIZE);
+                if (fixed > 0) {
+                    boardDetailCache.evictRange(from, from + CHUNK_SIZE);
+                }
+                fixedCount += fixed;
+            } catch (Exception e) {
+                log.error("댓글 수 보정 중 오류 발생 (구간: {} ~ {}): {}", from, from + CHUNK_SIZE, e.getMessage());
+                // 한 구간의 실패가 전체 작업을 멈추지 않도록 catch 처리
+            }
+        }
+
+        log.info("🔢 [스케줄러 종료] 총 {}개 게시글의 댓글 수를 보정했습니다.", fixedCount);
+    }
+}
@@ -0,0 +1,409 @@
+package com.youngjin.mcl_project.service;
+
+import com.youngjin.mcl_project.dto.PokeSampleResponseDTO;
+import com.youngjin.mcl_project.entity.PokeSampleEntity;
+import com.youngjin.mcl_project.enums.Visibility;
+import com.youngjin.mcl_project.repository.MemberRepository;
+import com.youngjin.mcl_project.repository.PokeSampleCommentRepository;
+import com.youngjin.mcl_project.repository.PokeSampleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 기간별 인기 샘플(DAILY/WEEKLY/MONTHLY/ALL) 메모리 랭킹.
+ *
+ * - 샘플마다 1시간 단위 좋아요 순증가를 31일치 링 버퍼에 담고, 좋아요/취소가 커밋되면 바로 더합니다.
+ * - 주기마다(leaderboard.refresh-interval-ms) 기간별 상위 K개를 계산하고, 응답 DTO까지 만들어 스냅샷으로 교체합니다.
+ *   조회(top)는 스냅샷만 읽으므로 DB에 접근하지 않습니다.
+ * - 삭제/비공개 전환은 커밋 후 바로 랭킹에서 빼고, 스냅샷을 만들 때 DB 상태로 한 번 더 거릅니다.
+ * - 시작 시와 주기마다(leaderboard.rebuild-interval-ms) DB(시간대별 집계 + 반영 대기 이벤트)에서 다시 만들어
+ *   다른 서버에서 들어온 좋아요와 어긋난 값을 맞춥니다.
+ *   DB를 읽는 동안 커밋된 좋아요/삭제/공개 전환은 따로 모아 두었다가 교체 직전에 새 집계에 다시 반영합니다.
+ */
+@Slf4j
+@Service
+public class BestSampleLeaderboard implements ApplicationRunner {
+
+    // 링 버퍼 길이 (시간). MONTHLY(30일)보다 넉넉하게
+    static final int RING_HOURS = 31 * 24;
+
+    // 시간대를 나누는 기준 시간대 (LikeEventAggregator가 poke_sample_like_hourly.bucket_start를 나누는 JVM 기본 시간대와 같아야 함)
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    public enum Period {
+        DAILY(24),
+        WEEKLY(7 * 24),
+        MONTHLY(30 * 24),
+        ALL(0); // 전체 기간 (like_count)
+
+        private final int hours;
+
+        Period(int hours) {
+            this.hours = hours;
+        }
+
+        // 알 수 없는 값은 기존 API와 같이 WEEKLY
+        public static Period from(String value) {
+            for (Period period : values()) {
+                if (period.name().equalsIgnoreCase(value)) {
+                    return period;
+                }
+            }
+            return WEEKLY;
+        }
+    }
+
+    private final PokeSampleRepository pokeSampleRepository;
+    private final MemberRepository memberRepository;
+    private final PokeSampleCommentRepository commentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 기간별로 보여줄 개수
+    private final int topK;
+
+    // 샘플 idx -> 좋아요 집계 (재구성 시 통째로 교체)
+    private volatile ConcurrentHashMap<Long, Counts> samples = new ConcurrentHashMap<>();
+    // 재구성 중에 커밋된 변경 (재구성 중이 아니면 null, changesLock으로 보호)
+    private final Object changesLock = new Object();
+    private List<Consumer<Map<Long, Counts>>> changesDuringRebuild;
+    private final AtomicReference<Map<Period, List<PokeSampleResponseDTO>>> snapshot =
+            new AtomicReference<>(new EnumMap<>(Period.class));
+
+    public BestSampleLeaderboard(PokeSampleRepository pokeSampleRepository,
+                                 MemberRepository memberRepository,
+                                 PokeSampleCommentRepository commentRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${leaderboard.top-k:3}") int topK) {
+        this.pokeSampleRepository = pokeSampleRepository;
+        this.memberRepository = memberRepository;
+        this.commentRepository = commentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.topK = topK;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    // 기간별 인기 샘플 (미리 만든 스냅샷, DB 접근 없음)
+    public List<PokeSampleResponseDTO> top(Period period) {
+        return snapshot.get().getOrDefault(period, List.of());
+    }
+
+    // 좋아요(+1)/취소(-1)가 커밋되면 현재 시간대에 반영
+    public void recordLikeAfterCommit(long sampleIdx, int delta) {
+        afterCommit(() -> {
+            long hour = currentHour(); // 재구성 후 다시 반영할 때도 커밋된 시간대에 더함
+            apply(map -> map.computeIfAbsent(sampleIdx, k -> new Counts(hour)).add(hour, delta));
+        });
+    }
+
+    // 삭제가 커밋되면 랭킹에서 제거
+    public void removeAfterCommit(long sampleIdx) {
+        afterCommit(() -> apply(map -> map.remove(sampleIdx)));
+    }
+
+    // 공개 여부가 바뀌면 랭킹 포함 여부만 바꿈 (좋아요 기록은 유지)
+    public void setVisibleAfterCommit(long sampleIdx, boolean visible) {
+        afterCommit(() -> apply(map -> {
+            Counts counts = map.get(sampleIdx);
+            if (counts != null) {
+                counts.eligible = visible;
+            }
+        }));
+    }
+
+    // 현재 집계에 반영하고, 재구성 중이면 새 집계에도 다시 반영하도록 모아 둠
+    private void apply(Consumer<Map<Long, Counts>> change) {
+        synchronized (changesLock) {
+            change.accept(samples);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    /**
+     * 기간별 상위 K개를 다시 계산해 스냅샷 교체
+     * 설정: leaderboard.refresh-interval-ms 간격 (기본 10초)
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.refresh-interval-ms:10000}", initialDelayString = "${leaderboard.refresh-interval-ms:10000}")
+    public synchronized void refresh() {
+        long nowHour = currentHour();
+
+        // DB에서 삭제/비공개로 확인된 샘플이 있으면 빼고 다시 계산 (최대 3번)
+        for (int attempt = 0; attempt < 3; attempt++) {
+            Map<Period, List<Long>> ranked = new EnumMap<>(Period.class);
+            for (Period period : Period.values()) {
+                ranked.put(period, rank(period, nowHour));
+            }
+
+            // 기간 내 데이터가 부족하면 전체 기간 순위로 채움 (기존 fallback과 같음)
+            for (Period period : Period.values()) {
+                Set<Long> filled = new LinkedHashSet<>(ranked.get(period));
+                for (Long idx : ranked.get(Period.ALL)) {
+                    if (filled.size() >= topK) break;
+                    filled.add(idx);
+                }
+                ranked.put(period, new ArrayList<>(filled));
+            }
+
+            Set<Long> ids = ranked.values().stream().flatMap(List::stream).collect(Collectors.toSet());
+            Map<Long, PokeSampleResponseDTO> dtos = loadDtos(ids);
+
+            if (dtos.size() < ids.size() && attempt < 2) {
+                ids.stream().filter(idx -> !dtos.containsKey(idx)).forEach(idx -> {
+                    Counts counts = samples.get(idx);
+                    if (counts != null) {
+                        counts.eligible = false;
+                    }
+                });
+                continue;
+            }
+
+            Map<Period, List<PokeSampleResponseDTO>> next = new EnumMap<>(Period.class);
+            ranked.forEach((period, idxs) -> next.put(period, idxs.stream()
+                    .map(dtos::get)
+                    .filter(Objects::nonNull)
+                    .toList()));
+            snapshot.set(next);
+            return;
+        }
+    }
+
+    /**
+     * DB에서 랭킹 데이터를 다시 읽어 교체하고 스냅샷을 새로 만듭니다.
+     * 전체 좋아요 수, 시간대별 집계, 반영 대기 이벤트를 읽기 전용 트랜잭션 하나(같은 시점)에서 읽습니다.
+     * 읽는 동안 커밋된 변경은 교체 직전에 새 집계에 다시 반영합니다.
+     * (트랜잭션 시작 직전에 커밋된 좋아요는 두 번 더해질 수 있으나 다음 재구성에서 맞춰짐)
+     * 설정: leaderboard.rebuild-interval-ms 간격 (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.rebuild-interval-ms:600000}", initialDelayString = "${leaderboard.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long nowHour = currentHour();
+        ConcurrentHashMap<Long, Counts> rebuilt = new ConcurrentHashMap<>();
+
+        synchronized (changesLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.query("SELECT idx, like_count FROM poke_sample " +
+                                "WHERE visibility = 'PUBLIC' AND is_deleted = 0 AND like_count > 0",
+                        rs -> {
+                            rebuilt.computeIfAbsent(rs.getLong("idx"), k -> new Counts(nowHour)).total += rs.getLong("like_count");
+                        });
+
+                jdbcTemplate.query("SELECT bucket_start, sample_idx, likes FROM poke_sample_like_hourly WHERE bucket_start >= ?",
+                        rs -> {
+                            rebuilt.computeIfAbsent(rs.getLong("sample_idx"), k -> new Counts(nowHour))
+                                    .addToBucket(toHour(rs.getTimestamp("bucket_start")), rs.getInt("likes"));
+                        }, Timestamp.valueOf(ZonedDateTime.now(zone).truncatedTo(ChronoUnit.HOURS)
+                                .minusHours(RING_HOURS - 1).toLocalDateTime()));
+
+                // 아직 like_count/시간대별 집계에 반영되지 않은 이벤트
+                jdbcTemplate.query("SELECT created_at, sample_idx, delta FROM poke_sample_like_event",
+                        rs -> {
+                            rebuilt.computeIfAbsent(rs.getLong("sample_idx"), k -> new Counts(nowHour))
+                                    .add(toHour(rs.getTimestamp("created_at")), rs.getInt("delta"));
+                        });
+            });
+        } catch (RuntimeException e) {
+            synchronized (changesLock) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (changesLock) {
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            samples = rebuilt;
+        }
+        log.info("인기 샘플 랭킹 재구성: 샘플 {}개", rebuilt.size());
+        refresh();
+    }
+
+    // 기간 내 순증가(ALL은 전체 좋아요 수) 상위 K개 idx
+    private List<Long> rank(Period period, long nowHour) {
+        PriorityQueue<long[]> heap = new PriorityQueue<>(Comparator.comparingLong((long[] entry) -> entry[1])); // {idx, score}
+
+        samples.forEach((idx, counts) -> {
+            if (!counts.eligible) return;
+            long score = period == Period.ALL ? counts.total() : counts.sum(nowHour, period.hours);
+            if (score <= 0) return;
+
+            if (heap.size() < topK) {
+                heap.add(new long[]{idx, score});
+            } else if (heap.peek()[1] < score) {
+                heap.poll();
+                heap.add(new long[]{idx, score});
+            }
+        });
+
+        List<long[]> sorted = new ArrayList<>(heap);
+        sorted.sort(Comparator.comparingLong((long[] entry) -> entry[1]).reversed());
+        return sorted.stream().map(entry -> entry[0]).toList();
+    }
+
+    // 공개 + 삭제되지 않은 샘플만 DTO로 (샘플/닉네임/댓글 수 각각 쿼리 1번)
+    private Map<Long, PokeSampleResponseDTO> loadDtos(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<PokeSampleEntity> entities = pokeSampleRepository.findAllById(ids).stream()
+                .filter(entity -> !entity.isDeleted() && entity.getVisibility() == Visibility.PUBLIC)
+                .toList();
+        if (entities.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> memberIdxs = entities.stream().map(PokeSampleEntity::getMemberIdx).distinct().toList();
+        Map<Long, String> nicknameMap = memberRepository.findAllNicknameByIdxs(memberIdxs).stream()
+                .collect(Collectors.toMap(
+                        result -> (Long) result[0], // memberIdx
+                        result -> (String) result[1] // nickname
+                ));
+        Map<Long, Long> commentCounts = commentRepository.countBySampleIdxs(
+                entities.stream().map(PokeSampleEntity::getIdx).toList());
+
+        return entities.stream().collect(Collectors.toMap(PokeSampleEntity::getIdx, entity -> PokeSampleResponseDTO.fromEntity(
+                entity,
+                nicknameMap.getOrDefault(entity.getMemberIdx(), "알 수 없음"),
+                false, false,
+                commentCounts.getOrDefault(entity.getIdx(), 0L)), (a, b) -> a));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private long currentHour() {
+        return toHour(ZonedDateTime.now(zone));
+    }
+
+    // DB의 DATETIME(시간대 없는 벽시계 값)은 기준 시간대의 시각으로 해석
+    private long toHour(Timestamp timestamp) {
+        return toHour(timestamp.toLocalDateTime().atZone(zone));
+    }
+
+    /**
+     * 시간대 번호 = 기준 시간대에서 정각으로 자른 시각의 epoch 시간 (연속된 정수)
+     * epoch 밀리초를 3,600,000으로 나누면 UTC 정각 기준이 되어, 오프셋이 30/45분 단위인 시간대에서는 DB 버킷과 경계가 어긋남
+     */
+    private static long toHour(ZonedDateTime time) {
+        return Math.floorDiv(time.truncatedTo(ChronoUnit.HOURS).toEpochSecond(), 3600L);
+    }
+
+    /**
+     * 샘플 1개의 좋아요 집계.
+     * ring[hour % RING_HOURS] = 그 시간대의 순증가. lastHour 이후로 시간이 지나면 지난 칸을 0으로 비우며 앞으로 감습니다.
+     * 최근 31일 동안 좋아요가 없던 샘플은 ring을 만들지 않습니다. (ALL용 total만 보관)
+     */
+    static final class Counts {
+        private int[] ring;
+        private long lastHour;
+        private long total;
+        volatile boolean eligible = true;
+
+        Counts(long nowHour) {
+            this.lastHour = nowHour;
+        }
+
+        // 좋아요 이벤트: 시간대별 + 전체 모두 반영
+        synchronized void add(long hour, int delta) {
+            addToBucket(hour, delta);
+            total += delta;
+        }
+
+        // 시간대별만 반영 (재구성 시 전체 수는 like_count로 따로 채움)
+        synchronized void addToBucket(long hour, int delta) {
+            advance(hour);
+            if (hour <= lastHour - RING_HOURS) {
+                return; // 31일보다 오래된 값
+            }
+            if (ring == null) {
+                ring = new int[RING_HOURS];
+            }
+            ring[slot(Math.min(hour, lastHour))] += delta;
+        }
+
+        synchronized long total() {
+            return total;
+        }
+
+        // nowHour까지 최근 hours시간의 합
+        synchronized long sum(long nowHour, int hours) {
+            advance(nowHour);
+            if (ring == null) {
+                return 0;
+            }
+            long sum = 0;
+            for (int i = 0; i < hours; i++) {
+                sum += ring[slot(lastHour - i)];
+            }
+            return sum;
+        }
+
+        private void advance(long hour) {
+            if (hour <= lastHour) {
+                return;
+            }
+            if (ring != null) {
+                long gap = Math.min(hour - lastHour, RING_HOURS);
+                for (long i = 1; i <= gap; i++) {
+                    ring[slot(lastHour + i)] = 0;
+                }
+            }
+            lastHour = hour;
+        }
+
+        private static int slot(long hour) {
+            return (int) Math.floorMod(hour, (long) RING_HOURS);
+        }
+    }
+}
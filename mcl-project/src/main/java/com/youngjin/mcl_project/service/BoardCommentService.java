@@ -1,20 +1,31 @@
 package com.youngjin.mcl_project.service;
 
+import com.youngjin.mcl_project.dto.BatchDeleteResult;
 import com.youngjin.mcl_project.dto.BoardCommentCreationRequest;
 import com.youngjin.mcl_project.dto.BoardCommentResponse;
 import com.youngjin.mcl_project.dto.BoardCommentUpdateRequest;
+import com.youngjin.mcl_project.dto.CursorResponse;
+import com.youngjin.mcl_project.dto.LiveUpdateMessage;
 import com.youngjin.mcl_project.entity.BoardCommentEntity;
 import com.youngjin.mcl_project.repository.BoardCommentRepository;
 import com.youngjin.mcl_project.repository.BoardRepository;
 import com.youngjin.mcl_project.repository.MemberRepository;
+import com.youngjin.mcl_project.util.CommentPath;
+import com.youngjin.mcl_project.util.ETagUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +35,15 @@ public class BoardCommentService {
     private final BoardCommentRepository commentRepository;
     private final BoardRepository boardRepository; // 게시글 존재 여부 확인용
     private final MemberRepository memberRepository; // 작성자 닉네임 조회용
+    private final BoardDetailCache boardDetailCache; // 댓글 수 변경 시 게시글 상세 캐시 무효화
+    private final LiveUpdatePublisher liveUpdatePublisher; // 상세 화면 구독자에게 변경분 전송
+
+    // 페이징 조회 한 번에 가져올 수 있는 최대 댓글 수 / 댓글마다 미리 담는 최대 답글 수
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_REPLY_PREVIEW_SIZE = 20;
+
+    // 일괄 삭제 한 번에 처리할 수 있는 최대 개수
+    private static final int MAX_BATCH_DELETE_SIZE = 100;
 
     /**
      * 댓글 또는 대댓글을 생성합니다.
@@ -39,11 +59,15 @@ public class BoardCommentService {
             throw new IllegalArgumentException("댓글을 작성할 게시글이 존재하지 않거나 삭제되었습니다. ID: " + request.getBoardIdx());
         }
 
-        // 2. 대댓글인 경우, 부모 댓글 존재 여부 확인 (Optional)
+        // 2. 대댓글인 경우, 부모 댓글 존재 여부 확인 (정렬 키를 이어 붙이기 위해 부모 경로도 가져옴)
+        String parentPath = null;
         if (request.getParentIdx() != null) {
-            if (!commentRepository.existsById(request.getParentIdx())) {
-                throw new IllegalArgumentException("부모 댓글이 존재하지 않습니다. ID: " + request.getParentIdx());
+            BoardCommentEntity parent = commentRepository.findById(request.getParentIdx())
+                    .orElseThrow(() -> new IllegalArgumentException("부모 댓글이 존재하지 않습니다. ID: " + request.getParentIdx()));
+            if (parent.getBoardIdx() != request.getBoardIdx()) {
+                throw new IllegalArgumentException("다른 게시글의 댓글에는 답글을 달 수 없습니다. ID: " + request.getParentIdx());
             }
+            parentPath = parent.getSortPath();
         }
 
         // 3. Entity 생성 및 저장
@@ -59,6 +83,19 @@ public class BoardCommentService {
                 .build();
 
         BoardCommentEntity savedEntity = commentRepository.save(entity);
+
+        // save(persist) 시점에 풀링 생성기가 idx를 배정 -> 그 idx로 정렬 키 지정
+        // INSERT 값은 persist 시점에 이미 정해지므로 정렬 키는 flush 때 dirty checking UPDATE로 한 번 더 나감 (댓글 1건 = INSERT + UPDATE)
+        // 두 문장 모두 이 트랜잭션 안이라 다른 요청의 목록 조회에는 정렬 키가 빈 댓글이 보이지 않음
+        savedEntity.setSortPath(CommentPath.of(parentPath, savedEntity.getIdx()));
+
+        // 4. 게시글의 댓글 수 +1 (board.comment_count 원자적 증가)
+        boardRepository.increaseCommentCount(request.getBoardIdx());
+        boardDetailCache.evict(request.getBoardIdx());
+
+        // 5. 구독자에게 새 댓글 전송 (커밋 후)
+        publishComment(LiveUpdateMessage.Type.COMMENT_CREATED, savedEntity);
+
         return savedEntity.getIdx();
     }
 
@@ -88,6 +125,10 @@ public class BoardCommentService {
         entity.setMent(request.getMent());
         entity.setModdate(LocalDateTime.now());
 
+        // 5. 게시글의 댓글 워터마크 +1 (댓글 목록 ETag 갱신)
+        boardRepository.increaseCommentVersion(entity.getBoardIdx());
+        publishComment(LiveUpdateMessage.Type.COMMENT_UPDATED, entity);
+
         // Dirty Checking으로 자동 업데이트
     }
 
@@ -119,21 +160,92 @@ public class BoardCommentService {
 
         // Dirty Checking으로 자동 업데이트
 
+        // 5. 게시글의 댓글 수 -1 (board.comment_count 원자적 감소)
+        boardRepository.decreaseCommentCount(entity.getBoardIdx());
+        boardDetailCache.evict(entity.getBoardIdx());
+        publishDeleted(entity.getBoardIdx(), entity.getIdx(), entity.getParentIdx());
+
         // 💡 주의: 대댓글이 달린 댓글의 경우 isDeleted=true 상태만 유지하고,
         // 내용(ment)은 '삭제된 댓글입니다.'로 표시하는 것이 일반적입니다. (Response DTO에서 처리)
         // 자식 댓글이 없는 경우에만 물리적 삭제를 고려할 수 있으나, 여기서는 일관성을 위해 소프트 삭제만 합니다.
     }
 
+    /**
+     * 댓글 일괄 삭제 (마이페이지 활동기록 정리용)
+     * 대상 잠금 조회 1번 + 댓글 UPDATE 1번 + 게시글 댓글 수 재계산 1번으로 처리합니다.
+     *
+     * @param idxs      삭제할 댓글 ID 목록 (최대 MAX_BATCH_DELETE_SIZE개)
+     * @param memberIdx 현재 로그인된 사용자 ID
+     * @return ID별 처리 결과 (요청 순서 유지)
+     */
+    @Transactional
+    public Map<Long, BatchDeleteResult> deleteCommentsBatch(List<Long> idxs, long memberIdx) {
+        if (idxs.size() > MAX_BATCH_DELETE_SIZE) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 댓글은 최대 " + MAX_BATCH_DELETE_SIZE + "개입니다.");
+        }
+
+        // 1. 결과 기본값: 존재하지 않음
+        Map<Long, BatchDeleteResult> results = new LinkedHashMap<>();
+        idxs.stream().filter(Objects::nonNull).forEach(idx -> results.put(idx, BatchDeleteResult.NOT_FOUND));
+        if (results.isEmpty()) {
+            return results;
+        }
+
+        // 2. 대상 분류 (잠금 조회라 아래 UPDATE와 같은 행 집합을 보장)
+        List<Long> ownedIdxs = new ArrayList<>();
+        Set<Long> boardIdxs = new HashSet<>();
+        List<LiveUpdateMessage> deletedMessages = new ArrayList<>();
+        for (Object[] row : commentRepository.lockDeleteTargets(results.keySet())) {
+            long idx = ((Number) row[0]).longValue();
+            if (((Number) row[1]).longValue() != memberIdx) {
+                results.put(idx, BatchDeleteResult.FORBIDDEN);
+                continue;
+            }
+            long boardIdx = ((Number) row[2]).longValue();
+            results.put(idx, BatchDeleteResult.DELETED);
+            ownedIdxs.add(idx);
+            boardIdxs.add(boardIdx);
+            deletedMessages.add(LiveUpdateMessage.builder()
+                    .type(LiveUpdateMessage.Type.COMMENT_DELETED)
+                    .targetIdx(boardIdx)
+                    .commentIdx(idx)
+                    .build());
+        }
+        if (ownedIdxs.isEmpty()) {
+            return results;
+        }
+
+        // 3. 댓글 소프트 삭제 + 영향받은 게시글들의 댓글 수 재계산
+        commentRepository.softDeleteAllByIdxInAndMemberIdx(ownedIdxs, memberIdx, LocalDateTime.now());
+        boardRepository.recountCommentCounts(boardIdxs);
+        boardIdxs.forEach(boardDetailCache::evict);
+        deletedMessages.forEach(liveUpdatePublisher::publishBoardAfterCommit);
+
+        return results;
+    }
+
+    /**
+     * 댓글 목록 ETag를 계산합니다. (게시글의 댓글 워터마크 comment_version 한 컬럼만 조회)
+     * @return ETag, 게시글이 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public String getCommentListETag(long boardIdx) {
+        return boardRepository.findCommentVersion(boardIdx)
+                .map(version -> ETagUtil.strong("comments", boardIdx, version))
+                .orElse(null);
+    }
+
     /**
      * 특정 게시글의 댓글 목록을 계층형 구조(BoardCommentResponse)로 조회합니다.
+     * 댓글은 sort_path 순서(부모 바로 뒤에 자식)로 오므로, 조상 스택 하나로 한 번에 트리를 만듭니다.
      * * @param boardIdx 게시글 ID
      * @return 계층 구조화된 댓글 목록 (최상위 댓글만 리스트에 담겨 반환)
      */
     @Transactional(readOnly = true)
     public List<BoardCommentResponse> getCommentList(long boardIdx) {
 
-        // 1. 해당 게시글의 모든 댓글 (삭제된 댓글 포함)을 가져옵니다.
-        List<BoardCommentEntity> entities = commentRepository.findAllByBoardIdxOrderByRegdateAsc(boardIdx);
+        // 1. 해당 게시글의 모든 댓글 (삭제된 댓글 포함)을 화면 순서대로 가져옵니다.
+        List<BoardCommentEntity> entities = commentRepository.findAllByBoardIdxOrderBySortPathAsc(boardIdx);
 
         // 2. 작성자 닉네임을 한 번에 조회하기 위한 Map 생성 (최적화)
         // 필요한 memberIdx 목록을 추출합니다.
@@ -144,7 +256,7 @@ public class BoardCommentService {
 
         // ⭐️ 최적화된 DB 쿼리 호출: memberRepository.findAllNicknameByIdxs 사용
         // List<Object[]> 형태로 반환되며, 각 Object[]는 {memberIdx, nickname} 쌍입니다.
-        List<Object[]> nicknameResults = memberRepository.findAllNicknameByIdxs(memberIdxs);
+        List<Object[]> nicknameResults = memberIdxs.isEmpty() ? List.of() : memberRepository.findAllNicknameByIdxs(memberIdxs);
 
         // 닉네임 조회를 위한 Map 생성 (key: memberIdx, value: nickname)
         Map<Long, String> nicknameMap = nicknameResults.stream()
@@ -153,36 +265,138 @@ public class BoardCommentService {
                         result -> (String) result[1] // nickname
                 ));
 
-        // 3. Entity List를 DTO List로 변환하고 Map에 저장
-        Map<Long, BoardCommentResponse> commentMap = entities.stream()
-                .map(entity -> {
-                    BoardCommentResponse dto = BoardCommentResponse.fromEntity(entity);
-                    // 닉네임 설정 (Map에서 한 번에 찾음)
-                    dto.setAuthorNickname(nicknameMap.getOrDefault(entity.getMemberIdx(), "탈퇴 회원"));
-                    dto.setReplies(new ArrayList<>()); // 대댓글 리스트 초기화
-                    return dto;
-                })
-                .collect(Collectors.toMap(BoardCommentResponse::getIdx, dto -> dto));
+        // 3. 계층형 구조 생성 (ancestors = 현재 댓글의 조상들, 크기 = 다음 댓글이 붙을 깊이)
+        List<BoardCommentResponse> rootComments = new ArrayList<>();
+        Deque<BoardCommentResponse> ancestors = new ArrayDeque<>();
 
+        for (BoardCommentEntity entity : entities) {
+            BoardCommentResponse comment = BoardCommentResponse.fromEntity(entity);
+            comment.setAuthorNickname(nicknameMap.getOrDefault(entity.getMemberIdx(), "탈퇴 회원"));
+            comment.setReplies(new ArrayList<>()); // 대댓글 리스트 초기화
 
-        // 4. 계층형 구조 생성
-        List<BoardCommentResponse> rootComments = new ArrayList<>();
+            // 형제/삼촌 댓글로 넘어왔으면 그만큼 조상을 걷어냄
+            while (ancestors.size() > comment.getDepth()) {
+                ancestors.pop();
+            }
 
-        for (BoardCommentResponse comment : commentMap.values()) {
-            if (comment.getParentIdx() == null) {
-                // 최상위 댓글 (ParentIdx가 NULL)
+            if (ancestors.isEmpty()) {
+                // 최상위 댓글
                 rootComments.add(comment);
             } else {
-                // 대댓글
-                BoardCommentResponse parent = commentMap.get(comment.getParentIdx());
-                if (parent != null) {
-                    // 부모 댓글이 Map에 존재하는 경우에만 대댓글로 추가
-                    parent.getReplies().add(comment);
-                }
-                // 부모 댓글이 Map에 없는 경우 (매우 드물지만 데이터 무결성 문제 시 발생 가능) 해당 댓글은 무시됩니다.
+                // 대댓글 (스택 맨 위가 부모)
+                ancestors.peek().getReplies().add(comment);
             }
+            ancestors.push(comment);
         }
 
         return rootComments;
     }
-}
\ No newline at end of file
+
+    /**
+     * 댓글 목록 페이징 조회.
+     * 최상위 댓글을 커서로 size개 가져오고, 댓글마다 첫 답글 replySize개와 전체 답글 수(replyCount)를 담습니다.
+     * 나머지 답글은 getReplyPage로 이어서 조회합니다.
+     *
+     * @param boardIdx  게시글 ID
+     * @param afterIdx  이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size      최상위 댓글 수
+     * @param replySize 댓글마다 미리 담을 답글 수
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<BoardCommentResponse> getCommentPage(long boardIdx, Long afterIdx, int size, int replySize) {
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        replySize = Math.min(Math.max(replySize, 0), MAX_REPLY_PREVIEW_SIZE);
+
+        // 1. 최상위 댓글 (다음 페이지 존재 여부 판단을 위해 size + 1개 조회)
+        CursorResponse<BoardCommentEntity> roots = CursorResponse.of(
+                commentRepository.findRootsAfter(boardIdx, afterIdx, size + 1), size, BoardCommentEntity::getIdx);
+
+        List<Long> rootIdxs = roots.getContent().stream()
+                .map(BoardCommentEntity::getIdx)
+                .collect(Collectors.toList());
+
+        // 2. 댓글마다 첫 답글 replySize개 (한 번의 쿼리)
+        List<BoardCommentEntity> replies = commentRepository.findFirstRepliesOf(boardIdx, rootIdxs, replySize);
+
+        List<BoardCommentEntity> entities = new ArrayList<>(roots.getContent());
+        entities.addAll(replies);
+        Map<Long, BoardCommentResponse> dtoMap = toPagedResponses(boardIdx, entities);
+
+        // 3. 답글을 부모 댓글 아래에 붙임 (조회 순서 = idx 오름차순 유지)
+        for (BoardCommentEntity reply : replies) {
+            dtoMap.get(reply.getParentIdx()).getReplies().add(dtoMap.get(reply.getIdx()));
+        }
+
+        return roots.withContent(rootIdxs.stream().map(dtoMap::get).collect(Collectors.toList()));
+    }
+
+    /**
+     * 특정 댓글의 답글 더보기 (커서 페이징)
+     *
+     * @param parentIdx 부모 댓글 ID
+     * @param afterIdx  이미 받은 마지막 답글 ID (처음이면 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<BoardCommentResponse> getReplyPage(long boardIdx, long parentIdx, Long afterIdx, int size) {
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        CursorResponse<BoardCommentEntity> page = CursorResponse.of(
+                commentRepository.findRepliesAfter(boardIdx, parentIdx, afterIdx, size + 1), size, BoardCommentEntity::getIdx);
+
+        return page.withContent(new ArrayList<>(toPagedResponses(boardIdx, page.getContent()).values()));
+    }
+
+    // 페이징 응답용 DTO 변환 (답글 수와 닉네임은 각각 한 번의 쿼리로 조회, 순서 유지)
+    private Map<Long, BoardCommentResponse> toPagedResponses(long boardIdx, List<BoardCommentEntity> entities) {
+        List<Long> idxs = entities.stream()
+                .map(BoardCommentEntity::getIdx)
+                .collect(Collectors.toList());
+
+        Map<Long, Long> replyCounts = commentRepository.countRepliesByParent(boardIdx, idxs);
+
+        List<Long> memberIdxs = entities.stream()
+                .map(BoardCommentEntity::getMemberIdx)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, String> nicknameMap = memberIdxs.isEmpty() ? Map.of() : memberRepository.findAllNicknameByIdxs(memberIdxs).stream()
+                .collect(Collectors.toMap(
+                        result -> (Long) result[0], // memberIdx
+                        result -> (String) result[1] // nickname
+                ));
+
+        Map<Long, BoardCommentResponse> dtoMap = new LinkedHashMap<>();
+        for (BoardCommentEntity entity : entities) {
+            BoardCommentResponse dto = BoardCommentResponse.fromEntity(entity);
+            dto.setAuthorNickname(nicknameMap.getOrDefault(entity.getMemberIdx(), "탈퇴 회원"));
+            dto.setReplyCount(replyCounts.getOrDefault(entity.getIdx(), 0L));
+            dto.setReplies(new ArrayList<>());
+            dtoMap.put(entity.getIdx(), dto);
+        }
+        return dtoMap;
+    }
+
+    // 작성/수정된 댓글 하나를 구독자에게 전송 (답글 목록은 비워서 보냄)
+    private void publishComment(LiveUpdateMessage.Type type, BoardCommentEntity entity) {
+        BoardCommentResponse dto = BoardCommentResponse.fromEntity(entity);
+        dto.setAuthorNickname(memberRepository.findNicknameByIdx(entity.getMemberIdx()).orElse("탈퇴 회원"));
+        dto.setReplies(new ArrayList<>());
+
+        liveUpdatePublisher.publishBoardAfterCommit(LiveUpdateMessage.builder()
+                .type(type)
+                .targetIdx(entity.getBoardIdx())
+                .commentIdx(entity.getIdx())
+                .parentIdx(entity.getParentIdx())
+                .comment(dto)
+                .build());
+    }
+
+    private void publishDeleted(long boardIdx, long commentIdx, Long parentIdx) {
+        liveUpdatePublisher.publishBoardAfterCommit(LiveUpdateMessage.builder()
+                .type(LiveUpdateMessage.Type.COMMENT_DELETED)
+                .targetIdx(boardIdx)
+                .commentIdx(commentIdx)
+                .parentIdx(parentIdx)
+                .build());
+    }
+}
@@ -0,0 +1,217 @@
+package com.youngjin.mcl_project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.youngjin.mcl_project.config.ReadWriteRoutingDataSource;
+import com.youngjin.mcl_project.dto.BoardDetailResponse;
+import com.youngjin.mcl_project.dto.FileAttachmentResponse;
+import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 중 사용자와 무관한 부분(본문, 작성자 닉네임, 첨부파일, 카운트)을 보관하는 메모리 캐시.
+ *
+ * - 크기는 제목+본문 글자 수 합계(board.detail-cache.max-weight)로 제한합니다.
+ * - 캐시 미스는 복제본이 아닌 primary에서 읽습니다. (복제 지연으로 옛 값이 expire-after-write 동안 남지 않도록)
+ * - 게시글 수정/삭제, 추천, 댓글 작성/삭제 시 evict()로 무효화합니다. (커밋 후 한 번 더 무효화)
+ * - 추천 여부(isRecommended)와 아직 반영되지 않은 조회수는 캐시하지 않고 요청마다 더합니다.
+ * - ViewCountService가 조회수를 DB에 반영하면 지우지 않고 캐시된 조회수에 그만큼 더합니다. (인기 글일수록 캐시에 남음)
+ *   반영 중에 DB에서 읽은 스냅샷은 반영 전/후 값인지 알 수 없으므로 응답에만 쓰고 캐시하지 않습니다.
+ * - board.detail-cache.enabled 또는 관리자 API로 실행 중에 끌 수 있습니다.
+ */
+@Slf4j
+@Service
+public class BoardDetailCache {
+
+    private final Cache<Long, Snapshot> cache;
+    private final AtomicBoolean enabled;
+    // 조회수 반영 순번 (반영 중이면 홀수, ViewCountService.flush는 한 번에 하나만 실행)
+    private final AtomicLong hitFlushSeq = new AtomicLong();
+    // 캐시 미스 적재용 (호출한 쪽의 읽기 전용 트랜잭션과 분리해 primary에서 읽음)
+    private final TransactionTemplate primaryLoad;
+
+    public BoardDetailCache(PlatformTransactionManager transactionManager,
+                            @Value("${board.detail-cache.enabled:true}") boolean enabled,
+                            @Value("${board.detail-cache.max-weight:20000000}") long maxWeight,
+                            @Value("${board.detail-cache.expire-after-write-minutes:30}") long expireAfterWriteMinutes) {
+        this.enabled = new AtomicBoolean(enabled);
+        this.primaryLoad = new TransactionTemplate(transactionManager);
+        this.primaryLoad.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryLoad.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long idx, Snapshot snapshot) -> snapshot.weight())
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 스냅샷을 반환하고, 없으면 loader로 만들어 저장합니다. (loader는 primary에서 읽는 새 트랜잭션에서 실행)
+     * 캐시가 꺼져 있으면 항상 loader를 호출합니다. (호출한 쪽 트랜잭션 그대로)
+     */
+    public Snapshot get(long idx, Function<Long, Snapshot> loader) {
+        if (!enabled.get()) {
+            return loader.apply(idx);
+        }
+
+        // 읽는 동안 조회수 반영이 있었으면 캐시하지 않고 이번 응답에만 사용
+        long seq = hitFlushSeq.get();
+        Snapshot[] uncached = new Snapshot[1];
+        Snapshot snapshot = cache.get(idx, key -> {
+            Snapshot loaded = ReadWriteRoutingDataSource.readFromPrimary(
+                    () -> primaryLoad.execute(status -> loader.apply(key)));
+            if ((seq & 1) == 1 || hitFlushSeq.get() != seq) {
+                uncached[0] = loaded;
+                return null;
+            }
+            return loaded;
+        });
+        return snapshot != null ? snapshot : uncached[0];
+    }
+
+    // 캐시에 있을 때만 반환 (ETag 계산용, 없으면 null)
+    public Snapshot getIfPresent(long idx) {
+        return enabled.get() ? cache.getIfPresent(idx) : null;
+    }
+
+    /**
+     * 게시글 캐시 무효화.
+     * 트랜잭션 안에서 호출되면 커밋 직후에도 한 번 더 지워서,
+     * 커밋 전에 다른 요청이 옛 데이터로 다시 채워 넣은 경우까지 정리합니다.
+     */
+    public void evict(long idx) {
+        cache.invalidate(idx);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(idx);
+                }
+            });
+        }
+    }
+
+    // idx 구간(fromIdx < idx <= toIdx)의 캐시 무효화 (트랜잭션 밖, 커밋된 일괄 UPDATE 이후에 호출)
+    public void evictRange(long fromIdx, long toIdx) {
+        cache.asMap().keySet().removeIf(idx -> idx > fromIdx && idx <= toIdx);
+    }
+
+    // 조회수 UPDATE 직전에 호출 (이후 endHitFlush까지 읽은 스냅샷은 캐시하지 않음)
+    public void beginHitFlush() {
+        hitFlushSeq.incrementAndGet();
+    }
+
+    /**
+     * 조회수 UPDATE 후 호출. DB에 반영된 만큼 캐시된 조회수에 더합니다. (실패했으면 빈 맵)
+     * compute는 같은 게시글을 읽어 넣는 중인 get()이 끝날 때까지 기다렸다가 더합니다.
+     */
+    public void endHitFlush(Map<Long, Long> appliedHits) {
+        appliedHits.forEach((idx, delta) -> cache.asMap()
+                .compute(idx, (key, snapshot) -> snapshot == null ? null : snapshot.withHitAdded(delta)));
+        hitFlushSeq.incrementAndGet();
+    }
+
+    public boolean isEnabled() {
+        return enabled.get();
+    }
+
+    // 실행 중 on/off. 끌 때는 메모리를 비웁니다.
+    public void setEnabled(boolean enabled) {
+        this.enabled.set(enabled);
+        if (!enabled) {
+            cache.invalidateAll();
+        }
+        log.info("게시글 상세 캐시 {}", enabled ? "사용" : "중지");
+    }
+
+    // 적중/미스 통계 (관리자 API에서 조회)
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled.get());
+        result.put("size", cache.estimatedSize());
+        result.put("weightedSize", cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L));
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    /**
+     * 캐시에 저장되는 게시글 상세 (모든 사용자에게 동일한 부분만)
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    public static class Snapshot {
+        private final long idx;
+        private final BoardType boardType;
+        private final String title;
+        private final String content;
+        private final long hit; // DB 조회수 (캐시 후 이 서버가 반영한 조회수 포함)
+        private final long recommend;
+        private final long commentCount;
+        private final LocalDateTime regdate;
+        private final LocalDateTime moddate;
+        private final String authorNickname;
+        private final List<FileAttachmentResponse> attachments;
+
+        // ETag 계산용 버전 값 (BoardRepositoryCustom.findDetailVersion과 같은 형식)
+        public String version() {
+            return regdate + "|" + moddate + "|" + recommend + "|" + commentCount;
+        }
+
+        Snapshot withHitAdded(long delta) {
+            return toBuilder().hit(hit + delta).build();
+        }
+
+        // 캐시 용량 계산용 (대략적인 글자 수)
+        int weight() {
+            int weight = 64;
+            weight += title == null ? 0 : title.length();
+            weight += content == null ? 0 : content.length();
+            weight += attachments == null ? 0 : attachments.size() * 128;
+            return weight;
+        }
+
+        // 요청마다 달라지는 값(조회수, 추천 수, 추천 여부)을 채워서 응답 DTO 생성
+        public BoardDetailResponse toResponse(long hit, long recommend, boolean isRecommended) {
+            return BoardDetailResponse.builder()
+                    .idx(idx)
+                    .boardType(boardType)
+                    .title(title)
+                    .content(content)
+                    .hit(hit)
+                    .recommend(recommend)
+                    .commentCount(commentCount)
+                    .regdate(regdate)
+                    .moddate(moddate)
+                    .authorNickname(authorNickname)
+                    .attachments(attachments)
+                    .isRecommended(isRecommended)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package com.youngjin.mcl_project.service;
+
+import com.youngjin.mcl_project.entity.BoardEntity;
+import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
+import com.youngjin.mcl_project.repository.BoardRepository;
+import com.youngjin.mcl_project.util.BigramTokenizer;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 검색용 메모리 역색인 (bigram -> 게시글별 빈도).
+ *
+ * - 제목과 (HTML 태그를 제거한) 본문을 BigramTokenizer로 나눠 색인합니다. 제목 토큰은 TITLE_WEIGHT배 가중치.
+ * - 게시글 작성/수정/삭제 트랜잭션이 커밋되면 해당 글만 다시 색인합니다.
+ * - 다른 인스턴스의 변경은 주기적으로 마지막 동기화 이후 변경된 글만 DB에서 다시 읽어 반영합니다.
+ * - 검색은 모든 질의 토큰을 포함하는 글만 골라 BM25 점수 순으로 정렬합니다. (DB 접근 없음)
+ * - 주기적으로(그리고 종료 시) 디스크에 스냅샷을 저장하고, 재시작 시 스냅샷 + 이후 변경분만 DB에서 읽어 복구합니다.
+ * - DB/파일 IO는 락 밖에서 하고, 색인 자료구조를 바꾸는 동안에만 writeLock을 잡습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardSearchIndex implements ApplicationRunner {
+
+    private static final int SNAPSHOT_MAGIC = 0x42534958; // "BSIX"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    // 변경분 조회 기준 시각을 앞당기는 폭 (afterCommit/커밋 지연, 서버 간 시계 차이만큼 겹치게 다시 읽음)
+    private static final Duration CHANGE_OVERLAP = Duration.ofMinutes(1);
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final BoardRepository boardRepository;
+
+    @Value("${board.search.snapshot-path:./data/board-search.snapshot}")
+    private String snapshotPath;
+
+    // token -> (게시글 idx -> 가중 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 게시글 idx -> 색인된 문서 정보 (삭제 시 postings 정리용 토큰 목록 포함)
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean dirty;
+    // 이 시각 이후 변경된 글은 다음 동기화 때 다시 읽음 (시작 시 복구가 끝나기 전에는 null)
+    private volatile LocalDateTime syncedAt;
+
+    /**
+     * 시작 시 스냅샷을 읽고, 스냅샷 이후 변경된 글만 DB에서 다시 색인합니다.
+     * 스냅샷이 없거나 읽을 수 없으면 전체 재색인합니다.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        LocalDateTime syncFrom = LocalDateTime.now().minus(CHANGE_OVERLAP);
+
+        LocalDateTime snapshotAt = loadSnapshot();
+        if (snapshotAt != null) {
+            List<BoardEntity> changed = boardRepository.findChangedSince(snapshotAt);
+            changed.forEach(this::apply);
+            log.info("검색 색인 스냅샷 복구: 문서 {}건, 스냅샷 이후 변경 {}건 ({}ms)",
+                    documents.size(), changed.size(), System.currentTimeMillis() - start);
+        } else {
+            rebuild();
+            log.info("검색 색인 전체 재구성: 문서 {}건 ({}ms)", documents.size(), System.currentTimeMillis() - start);
+        }
+        syncedAt = syncFrom;
+    }
+
+    /**
+     * 다른 인스턴스에서 작성/수정/삭제된 글 반영 (afterCommit 색인은 이 인스턴스의 변경만 반영하므로)
+     * 마지막 동기화 시각 이후 변경된 글을 다시 색인합니다. 같은 글을 다시 색인해도 결과는 같고,
+     * 조회 직후 이 인스턴스에서 커밋된 더 새 내용을 덮어쓰더라도 다음 동기화 때 다시 읽혀 바로잡힙니다.
+     * 설정: board.search.sync-interval-ms 간격 (기본 30초)
+     */
+    @Scheduled(fixedDelayString = "${board.search.sync-interval-ms:30000}")
+    public void syncChanges() {
+        LocalDateTime since = syncedAt;
+        if (since == null) {
+            return;
+        }
+
+        LocalDateTime next = LocalDateTime.now().minus(CHANGE_OVERLAP);
+        List<BoardEntity> changed = boardRepository.findChangedSince(since);
+        changed.forEach(this::apply);
+        syncedAt = next;
+
+        if (!changed.isEmpty()) {
+            log.debug("검색 색인 동기화: 변경 {}건", changed.size());
+        }
+    }
+
+    // idx 구간별로 읽어서 전체 재색인
+    public void rebuild() {
+        long maxIdx = boardRepository.findMaxIdx();
+        for (long from = 1; from <= maxIdx; from += REBUILD_CHUNK_SIZE) {
+            boardRepository.findAllByIdxBetween(from, from + REBUILD_CHUNK_SIZE - 1).forEach(this::apply);
+        }
+        dirty = true;
+    }
+
+    /**
+     * 게시글 색인 (트랜잭션 안이면 커밋 후에 반영, 롤백되면 반영하지 않음)
+     */
+    public void indexAfterCommit(long idx, BoardType boardType, String title, String content) {
+        runAfterCommit(() -> index(idx, boardType, title, content));
+    }
+
+    public void removeAfterCommit(long idx) {
+        runAfterCommit(() -> remove(idx));
+    }
+
+    public void index(long idx, BoardType boardType, String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        BigramTokenizer.tokenize(title).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.tokenize(BigramTokenizer.sanitize(content)).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(idx);
+            frequencies.forEach((token, frequency) ->
+                    postings.computeIfAbsent(token, k -> new HashMap<>()).put(idx, frequency));
+            documents.put(idx, new Document(boardType, length, frequencies.keySet().toArray(new String[0])));
+            totalLength += length;
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long idx) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(idx);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 게시글을 BM25 점수 내림차순(같으면 최신 글 먼저)으로 반환합니다.
+     *
+     * @param boardType null이면 전체 게시판
+     * @return 전체 일치 건수와 요청한 페이지의 게시글 idx 목록
+     */
+    public Hits search(String query, BoardType boardType, int page, int size) {
+        List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(BigramTokenizer.tokenize(query)));
+        if (queryTokens.isEmpty()) {
+            return new Hits(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>();
+            for (String token : queryTokens) {
+                Map<Long, Integer> list = postings.get(token);
+                if (list == null) {
+                    return new Hits(0, List.of());
+                }
+                lists.add(list);
+            }
+
+            // 가장 짧은 목록부터 교집합
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int docCount = documents.size();
+            double avgLength = docCount == 0 ? 1 : Math.max(1.0, (double) totalLength / docCount);
+
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = lists.get(i).size();
+                idf[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+
+            List<ScoredDocument> scored = new ArrayList<>();
+
+            candidates:
+            for (Long idx : lists.get(0).keySet()) {
+                Document document = documents.get(idx);
+                if (document == null || (boardType != null && document.boardType != boardType)) {
+                    continue;
+                }
+
+                double score = 0;
+                double norm = K1 * (1 - B + B * document.length / avgLength);
+                for (int i = 0; i < lists.size(); i++) {
+                    Integer frequency = lists.get(i).get(idx);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * frequency * (K1 + 1) / (frequency + norm);
+                }
+
+                scored.add(new ScoredDocument(idx, score));
+            }
+
+            scored.sort(Comparator.comparingDouble((ScoredDocument d) -> d.score).reversed()
+                    .thenComparing(Comparator.comparingLong((ScoredDocument d) -> d.idx).reversed()));
+
+            int from = (int) Math.min((long) page * size, scored.size());
+            int to = Math.min(from + size, scored.size());
+            List<Long> pageIdxs = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                pageIdxs.add(scored.get(i).idx);
+            }
+
+            return new Hits(scored.size(), pageIdxs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 변경이 있을 때만 스냅샷 저장
+     * 설정: board.search.snapshot-interval-ms 간격 (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${board.search.snapshot-interval-ms:600000}")
+    public void saveSnapshotIfDirty() {
+        if (dirty) {
+            saveSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        saveSnapshotIfDirty();
+    }
+
+    /**
+     * 스냅샷 형식 (gzip): magic, version, 기준 시각(ms), 문서 수, [idx, boardType, length, 토큰 수, [토큰, 빈도]...]
+     * readLock 안에서는 메모리에 직렬화만 하고, 압축/파일 쓰기는 락 밖에서 합니다. (저장 중에도 색인 갱신이 막히지 않음)
+     * 임시 파일에 쓴 뒤 교체하므로 저장 도중 종료되어도 이전 스냅샷은 유지됩니다.
+     */
+    public void saveSnapshot() {
+        Path path = Paths.get(snapshotPath);
+        Path temp = Paths.get(snapshotPath + ".tmp");
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        int documentCount;
+
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            // afterCommit 색인이 커밋보다 약간 늦을 수 있으므로 기준 시각을 앞당겨 재시작 시 겹치게 다시 읽습니다.
+            long snapshotAt = System.currentTimeMillis() - CHANGE_OVERLAP.toMillis();
+            dirty = false;
+            documentCount = documents.size();
+
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(snapshotAt);
+            out.writeInt(documentCount);
+
+            for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+                long idx = entry.getKey();
+                Document document = entry.getValue();
+                out.writeLong(idx);
+                out.writeUTF(document.boardType.name());
+                out.writeInt(document.length);
+                out.writeInt(document.tokens.length);
+                for (String token : document.tokens) {
+                    out.writeUTF(token);
+                    out.writeInt(postings.get(token).get(idx));
+                }
+            }
+        } catch (IOException e) {
+            dirty = true;
+            log.error("검색 색인 스냅샷 직렬화 실패: {}", e.getMessage());
+            return;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                buffer.writeTo(out);
+            }
+
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("검색 색인 스냅샷 저장: 문서 {}건 -> {}", documentCount, path);
+        } catch (IOException e) {
+            dirty = true;
+            log.error("검색 색인 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 파일은 락 밖에서 읽고, 다 읽은 뒤 writeLock 안에서 색인에 넣습니다.
+     * 읽는 동안 이미 색인된 글(시작 직후 작성/수정된 글)은 스냅샷보다 새 내용이므로 건너뜁니다.
+     *
+     * @return 스냅샷 기준 시각, 스냅샷이 없거나 손상되었으면 null (색인은 그대로)
+     */
+    private LocalDateTime loadSnapshot() {
+        Path path = Paths.get(snapshotPath);
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        long snapshotAt;
+        List<LoadedDocument> loaded;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("검색 색인 스냅샷 형식이 다릅니다. 전체 재구성합니다: {}", path);
+                return null;
+            }
+
+            snapshotAt = in.readLong();
+            int documentCount = in.readInt();
+            loaded = new ArrayList<>(documentCount);
+
+            for (int i = 0; i < documentCount; i++) {
+                long idx = in.readLong();
+                BoardType boardType = BoardType.valueOf(in.readUTF());
+                int length = in.readInt();
+                String[] tokens = new String[in.readInt()];
+                int[] frequencies = new int[tokens.length];
+
+                for (int t = 0; t < tokens.length; t++) {
+                    tokens[t] = in.readUTF();
+                    frequencies[t] = in.readInt();
+                }
+
+                loaded.add(new LoadedDocument(idx, new Document(boardType, length, tokens), frequencies));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("검색 색인 스냅샷을 읽지 못했습니다. 전체 재구성합니다: {}", e.getMessage());
+            return null;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (LoadedDocument document : loaded) {
+                if (documents.containsKey(document.idx)) {
+                    continue;
+                }
+                String[] tokens = document.document.tokens;
+                for (int t = 0; t < tokens.length; t++) {
+                    postings.computeIfAbsent(tokens[t], k -> new HashMap<>()).put(document.idx, document.frequencies[t]);
+                }
+                documents.put(document.idx, document.document);
+                totalLength += document.document.length;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshotAt), ZoneId.systemDefault());
+    }
+
+    // DB의 게시글 상태를 색인에 반영 (삭제된 글은 제거)
+    private void apply(BoardEntity entity) {
+        if (entity.isDeleted()) {
+            remove(entity.getIdx());
+        } else {
+            index(entity.getIdx(), entity.getBoardType(), entity.getTitle(), entity.getContent());
+        }
+    }
+
+    // writeLock을 잡은 상태에서 호출
+    private void removeInternal(long idx) {
+        Document old = documents.remove(idx);
+        if (old == null) {
+            return;
+        }
+        totalLength -= old.length;
+        for (String token : old.tokens) {
+            Map<Long, Integer> list = postings.get(token);
+            if (list != null) {
+                list.remove(idx);
+                if (list.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Document {
+        private final BoardType boardType;
+        private final int length;
+        private final String[] tokens;
+    }
+
+    @AllArgsConstructor
+    private static class LoadedDocument {
+        private final long idx;
+        private final Document document;
+        private final int[] frequencies;
+    }
+
+    @AllArgsConstructor
+    private static class ScoredDocument {
+        private final long idx;
+        private final double score;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hits {
+        private final long total;
+        private final List<Long> idxs;
+    }
+}
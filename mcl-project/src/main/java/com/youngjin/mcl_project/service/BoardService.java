@@ -5,15 +5,15 @@ import com.youngjin.mcl_project.entity.BoardAttachmentsEntity;
 import com.youngjin.mcl_project.entity.BoardAttachmentsEntity.FileStatus;
 import com.youngjin.mcl_project.entity.BoardEntity;
 import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
-import com.youngjin.mcl_project.entity.BoardRecommendEntity;
 import com.youngjin.mcl_project.entity.MemberEntity;
 import com.youngjin.mcl_project.repository.*;
+import com.youngjin.mcl_project.util.ETagUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,7 +25,11 @@ import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -38,6 +42,16 @@ public class BoardService {
     private final BoardCommentRepository commentRepository;
     private final BoardAttachmentsRepository attachmentsRepository;
     private final BoardRecommendRepository boardRecommendRepository;
+    private final ViewCountService viewCountService;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final NoticeRegistry noticeRegistry;
+    private final LiveUpdatePublisher liveUpdatePublisher;
+    private final ShardedCounterService shardedCounterService;
+    private final MemberReactionIndex memberReactionIndex;
+
+    // 일괄 삭제 한 번에 처리할 수 있는 최대 개수 (IN 목록/잠금 범위 제한)
+    private static final int MAX_BATCH_DELETE_SIZE = 100;
 
     @Value("${file.upload.base-dir}")
     private String BASE_DIR;
@@ -56,93 +70,144 @@ public class BoardService {
     @Transactional(readOnly = true)
     public Page<BoardListResponse> getBoardList(BoardType boardType, int page, int size) {
 
-        // 1. 페이징 및 정렬 설정 (idx 기준 내림차순 정렬)
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "idx"));
+        // 1. 페이징 설정 (정렬은 idx 내림차순으로 Repository에서 고정)
+        Pageable pageable = PageRequest.of(page, size);
 
-        // 2. Repository를 통해 DB에서 엔티티 목록 조회
-        Page<BoardEntity> entityPage = boardRepository.findAllByBoardTypeAndIsDeletedFalse(boardType, pageable);
+        // 2. 닉네임(JOIN)과 댓글 수(서브쿼리)까지 한 번의 쿼리로 DTO 조회
+        return boardRepository.findBoardList(boardType, pageable);
+    }
 
-        // 3. Entity Page를 DTO Page로 변환
-        return entityPage.map(entity -> {
+    /**
+     * 게시글 목록을 커서(keyset) 방식으로 조회합니다.
+     * OFFSET과 COUNT(*) 없이 afterIdx 다음 행부터 읽으므로 깊은 페이지에서도 비용이 일정합니다.
+     *
+     * @param boardType 게시판 유형 (NOTICE/FREE)
+     * @param afterIdx  이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size      페이지당 게시글 수
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<BoardListResponse> getBoardListByCursor(BoardType boardType, Long afterIdx, int size) {
+        // 다음 페이지 존재 여부 판단을 위해 size + 1개 조회
+        List<BoardListResponse> rows = boardRepository.findBoardListAfter(boardType, afterIdx, size + 1);
+        return CursorResponse.of(rows, size, BoardListResponse::getIdx);
+    }
 
-            // 💡 작성자 닉네임 조회
-            String nickname = memberRepository.findNicknameByIdx(entity.getMemberIdx())
-                    .orElse("알 수 없음");
+    /**
+     * 게시글 제목/내용 검색 (메모리 역색인으로 순위를 매기고, 해당 페이지의 게시글만 DB에서 조회)
+     *
+     * @param keyword   검색어 (두 글자 이상 권장 - 두 글자씩 잘라 모두 포함하는 글을 찾음)
+     * @param boardType 게시판 유형 (null이면 전체)
+     * @param page      요청 페이지 번호 (0부터 시작)
+     * @param size      페이지당 게시글 수
+     * @return 관련도 순으로 정렬된 BoardListResponse 페이지
+     */
+    @Transactional(readOnly = true)
+    public Page<BoardListResponse> searchBoards(String keyword, BoardType boardType, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
 
-            // 💡 댓글 수 조회
-            long commentCount = commentRepository.countByBoardIdxAndIsDeletedFalse(entity.getIdx());
+        // 1. 색인에서 순위 계산 (DB 접근 없음)
+        BoardSearchIndex.Hits hits = boardSearchIndex.search(keyword, boardType, page, size);
+        if (hits.getIdxs().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.getTotal());
+        }
 
-            return BoardListResponse.builder()
-                    .idx(entity.getIdx())
-                    .boardType(entity.getBoardType())
-                    .title(entity.getTitle())
-                    .hit(entity.getHit())
-                    .recommend(entity.getRecommend())
-                    .regdate(entity.getRegdate())
-                    .authorNickname(nickname)
-                    .commentCount(commentCount)
-                    .build();
-        });
+        // 2. 이번 페이지 게시글만 한 번의 쿼리로 조회 후 순위대로 정렬
+        Map<Long, BoardListResponse> rows = boardRepository.findBoardListByIdxIn(hits.getIdxs()).stream()
+                .collect(Collectors.toMap(BoardListResponse::getIdx, row -> row));
+
+        List<BoardListResponse> content = hits.getIdxs().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, hits.getTotal());
     }
 
     /**
      * 게시글 상세 정보를 조회합니다.
+     * 사용자와 무관한 부분은 BoardDetailCache에서 가져오고, 추천 여부는 회원별 추천 id 집합(MemberReactionIndex)에서 확인합니다.
      * @param idx 게시글 ID
      * @param currentProviderId 현재 로그인한 사용자 ID (없으면 null)
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public BoardDetailResponse getBoardDetail(long idx, String currentProviderId) {
 
+        // 1. 게시글 본문/닉네임/첨부파일 (캐시에 없을 때만 DB 조회)
+        BoardDetailCache.Snapshot snapshot = boardDetailCache.get(idx, this::loadDetailSnapshot);
+
+        // 2. 조회수 증가 (메모리 버퍼에 누적, DB 반영은 ViewCountService가 주기적으로 일괄 처리)
+        viewCountService.increase(ViewCountService.Target.BOARD, idx);
+        long hit = snapshot.getHit() + viewCountService.pending(ViewCountService.Target.BOARD, idx);
+
+        // ⭐️ 3. 내가 추천했는지 확인 (상세 캐시에는 넣지 않고 회원별 id 집합에서 확인)
+        boolean isRecommended = memberReactionIndex.contains(MemberReactionIndex.Kind.BOARD_RECOMMEND, currentProviderId, idx);
+
+        // hit/recommend: DB 값 + 아직 반영되지 않은 조회수/분산 카운터 슬롯
+        long recommend = snapshot.getRecommend()
+                + shardedCounterService.pending(ShardedCounterService.Target.BOARD_RECOMMEND, idx);
+        return snapshot.toResponse(hit, recommend, isRecommended);
+    }
+
+    /**
+     * 게시글 상세 ETag를 계산합니다. (응답 DTO를 만들지 않고 수정일/추천 수(분산 카운터 슬롯 포함)/댓글 수만 사용)
+     * 캐시에 스냅샷이 있으면 DB를 조회하지 않습니다. 응답의 추천 여부가 사용자마다 다르므로 사용자 ID와 추천 여부도 포함합니다.
+     * (추천 여부를 빼면 추천/취소 직후에도 304가 나와 이전 추천 상태가 그대로 보임)
+     * 조회수는 포함하지 않습니다. (조회할 때마다 바뀌므로 포함하면 304가 나오지 않음)
+     * @return ETag, 게시글이 없거나 삭제되었으면 null
+     */
+    @Transactional(readOnly = true)
+    public String getBoardDetailETag(long idx, String currentProviderId) {
+        BoardDetailCache.Snapshot snapshot = boardDetailCache.getIfPresent(idx);
+        String version = snapshot != null
+                ? snapshot.version()
+                : boardRepository.findDetailVersion(idx).orElse(null);
+
+        if (version == null) {
+            return null;
+        }
+        // 분산 카운터 슬롯에 쌓인 추천 수도 포함 (스냅샷/DB의 추천 수에는 합치기 전까지 반영되지 않음)
+        version += "|" + shardedCounterService.pending(ShardedCounterService.Target.BOARD_RECOMMEND, idx);
+        boolean isRecommended = memberReactionIndex.contains(MemberReactionIndex.Kind.BOARD_RECOMMEND, currentProviderId, idx);
+        return ETagUtil.strong("board", idx, version, currentProviderId, isRecommended);
+    }
+
+    // 304 응답 시에도 조회수는 증가 (메모리 버퍼)
+    public void recordView(long idx) {
+        viewCountService.increase(ViewCountService.Target.BOARD, idx);
+    }
+
+    // 캐시 미스 시 DB에서 게시글 상세 스냅샷 생성
+    private BoardDetailCache.Snapshot loadDetailSnapshot(long idx) {
+
         // 1. 게시글 조회
         BoardEntity entity = boardRepository.findByIdxAndIsDeletedFalse(idx);
         if (entity == null) {
             throw new IllegalArgumentException("존재하지 않거나 삭제된 게시글입니다. ID: " + idx);
         }
 
-        // 2. 조회수 증가
-        entity.setHit(entity.getHit() + 1);
-
-        // 3. 닉네임 조회
+        // 2. 닉네임 조회
         String nickname = memberRepository.findNicknameByIdx(entity.getMemberIdx())
                 .orElse("알 수 없음");
 
-        // 4. 첨부파일 조회
+        // 3. 첨부파일 조회
         List<FileAttachmentResponse> attachments = attachmentsRepository
                 .findAllByBoardIdxAndStatus(idx, FileStatus.ACTIVE)
                 .stream()
                 .map(FileAttachmentResponse::fromEntity)
                 .toList();
 
-        // 추가. 댓글 수 조회
-        long commentCount = commentRepository.countByBoardIdxAndIsDeletedFalse(idx);
-
-        // ⭐️ 5. [핵심] 내가 추천했는지 확인 로직
-        boolean isRecommended = false;
-
-        // 로그인한 사용자라면 DB 확인
-        if (currentProviderId != null) {
-            // providerId로 멤버 엔티티를 찾고
-            MemberEntity member = memberRepository.findByProviderId(currentProviderId).orElse(null);
-
-            // 멤버가 존재하면 추천 여부 확인
-            if (member != null) {
-                isRecommended = boardRecommendRepository.existsByMemberAndBoard(member, entity);
-            }
-        }
-
-        return BoardDetailResponse.builder()
+        return BoardDetailCache.Snapshot.builder()
                 .idx(entity.getIdx())
                 .boardType(entity.getBoardType())
                 .title(entity.getTitle())
                 .content(entity.getContent())
                 .hit(entity.getHit())
                 .recommend(entity.getRecommend()) // 총 개수
-                .commentCount(commentCount)
+                .commentCount(entity.getCommentCount()) // 비정규화된 댓글 수
                 .regdate(entity.getRegdate())
                 .moddate(entity.getModdate())
                 .authorNickname(nickname)
                 .attachments(attachments)
-                .isRecommended(isRecommended) // ⭐️ true/false 전달
                 .build();
     }
 
@@ -240,6 +305,17 @@ public class BoardService {
 
         BoardEntity savedEntity = boardRepository.save(boardEntity);
         long newBoardIdx = savedEntity.getIdx();
+        boardSearchIndex.indexAfterCommit(newBoardIdx, savedEntity.getBoardType(), savedEntity.getTitle(), savedEntity.getContent());
+
+        // 공지사항이면 메모리 공지 목록에도 추가 (커밋 후)
+        if (savedEntity.getBoardType() == BoardType.NOTICE) {
+            noticeRegistry.upsertAfterCommit(NoticeResponse.builder()
+                    .idx(newBoardIdx)
+                    .title(savedEntity.getTitle())
+                    .authorNickname(member.getNickname())
+                    .regdate(savedEntity.getRegdate())
+                    .build());
+        }
 
         // 2. 첨부 파일 연결 처리 (핵심 로직)
         List<Long> fileIdxList = request.getFileIdxList();
@@ -287,6 +363,18 @@ public class BoardService {
 
         // 3. 첨부 파일 연결 갱신 로직 (핵심 로직)
         long currentBoardIdx = request.getIdx();
+        boardDetailCache.evict(currentBoardIdx);
+        boardSearchIndex.indexAfterCommit(currentBoardIdx, entity.getBoardType(), entity.getTitle(), entity.getContent());
+
+        // 공지사항이면 메모리 공지 목록의 제목도 갱신 (커밋 후)
+        if (entity.getBoardType() == BoardType.NOTICE) {
+            noticeRegistry.upsertAfterCommit(NoticeResponse.builder()
+                    .idx(currentBoardIdx)
+                    .title(entity.getTitle())
+                    .authorNickname(memberRepository.findNicknameByIdx(entity.getMemberIdx()).orElse("알 수 없음"))
+                    .regdate(entity.getRegdate())
+                    .build());
+        }
 
         // 3-1. 기존 파일 모두 'TEMP' 상태로 초기화 (현재 게시글에서 파일 연결 해제)
         // 이 로직은 이전 게시글의 모든 ACTIVE 파일을 TEMP로 만들고 boardIdx를 NULL로 만듭니다.
@@ -336,11 +424,17 @@ public class BoardService {
         // 2. 게시글 소프트 삭제
         entity.setDeleted(true);
         entity.setModdate(LocalDateTime.now()); // 삭제 시각 기록
+        boardDetailCache.evict(idx);
+        boardSearchIndex.removeAfterCommit(idx);
+        if (entity.getBoardType() == BoardType.NOTICE) {
+            noticeRegistry.removeAfterCommit(idx);
+        }
         // boardRepository.save(entity); // Dirty Checking으로 자동 업데이트
 
         // 3. 연결된 댓글 소프트 삭제 (CASCADE DELETE 방지)
         int commentDeleteCount = commentRepository.softDeleteAllByBoardIdx(idx);
         System.out.println("게시글 ID " + idx + "와 함께 소프트 삭제된 댓글 수: " + commentDeleteCount);
+        boardRepository.resetCommentCount(idx); // 댓글이 모두 삭제되었으므로 댓글 수 0으로 초기화
 
         // 4. 연결된 파일 상태 TEMP로 리셋 (물리적 삭제 대기)
         // 파일의 boardIdx를 NULL로, status를 TEMP로 변경하여 스케줄러가 삭제할 수 있도록 합니다.
@@ -350,59 +444,116 @@ public class BoardService {
         // 💡 주의: 실제 물리적 파일 삭제는 별도의 스케줄러 서비스에서 TEMP 상태의 파일을 주기적으로 처리해야 합니다.
     }
 
+    /**
+     * 게시글 일괄 삭제 (마이페이지 활동기록 정리용)
+     * 한 트랜잭션에서 대상 잠금 조회 1번 + 게시글/댓글/첨부파일 UPDATE 각 1번으로 처리합니다.
+     *
+     * @param idxs      삭제할 게시글 ID 목록 (최대 MAX_BATCH_DELETE_SIZE개)
+     * @param memberIdx 현재 로그인된 사용자 ID
+     * @return ID별 처리 결과 (요청 순서 유지)
+     */
     @Transactional
-    public String toggleRecommendation(Long boardIdx, String providerId) {
-        // 1. 게시글 조회
-        BoardEntity board = boardRepository.findById(boardIdx)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+    public Map<Long, BatchDeleteResult> deleteBoardsBatch(List<Long> idxs, long memberIdx) {
+        if (idxs.size() > MAX_BATCH_DELETE_SIZE) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 게시글은 최대 " + MAX_BATCH_DELETE_SIZE + "개입니다.");
+        }
 
-        // 2. 회원 조회 (로그인한 사용자)
-        MemberEntity member = memberRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다."));
+        // 1. 결과 기본값: 존재하지 않음
+        Map<Long, BatchDeleteResult> results = new LinkedHashMap<>();
+        idxs.stream().filter(Objects::nonNull).forEach(idx -> results.put(idx, BatchDeleteResult.NOT_FOUND));
+        if (results.isEmpty()) {
+            return results;
+        }
 
-        // 3. 이미 추천했는지 확인
-        if (boardRecommendRepository.existsByMemberAndBoard(member, board)) {
-            // 3-1. 이미 추천했다면 -> 추천 취소 (삭제)
-            BoardRecommendEntity recommend = boardRecommendRepository.findByMemberAndBoard(member, board)
-                    .orElseThrow(() -> new IllegalArgumentException("추천 정보를 찾을 수 없습니다."));
+        // 2. 대상 분류 (잠금 조회라 아래 UPDATE와 같은 행 집합을 보장)
+        List<Long> ownedIdxs = new ArrayList<>();
+        List<Long> noticeIdxs = new ArrayList<>();
+        for (Object[] row : boardRepository.lockDeleteTargets(results.keySet())) {
+            long idx = ((Number) row[0]).longValue();
+            if (((Number) row[1]).longValue() != memberIdx) {
+                results.put(idx, BatchDeleteResult.FORBIDDEN);
+                continue;
+            }
+            results.put(idx, BatchDeleteResult.DELETED);
+            ownedIdxs.add(idx);
+            if (BoardType.NOTICE.name().equals(row[2])) {
+                noticeIdxs.add(idx);
+            }
+        }
+        if (ownedIdxs.isEmpty()) {
+            return results;
+        }
 
-            boardRecommendRepository.delete(recommend);
-            board.decreaseRecommend(); // 게시글 테이블의 숫자도 줄임
+        // 3. 게시글 / 연결된 댓글 / 첨부파일 일괄 처리
+        boardRepository.softDeleteAllByIdxInAndMemberIdx(ownedIdxs, memberIdx, LocalDateTime.now());
+        commentRepository.softDeleteAllByBoardIdxIn(ownedIdxs);
+        attachmentsRepository.resetFilesToTempByBoardIdxIn(ownedIdxs);
 
-            return "추천이 취소되었습니다.";
-        } else {
-            // 3-2. 추천하지 않았다면 -> 추천 저장
-            BoardRecommendEntity recommend = BoardRecommendEntity.builder()
-                    .member(member)
-                    .board(board)
-                    .build();
+        // 4. 캐시/색인 정리
+        ownedIdxs.forEach(boardDetailCache::evict);
+        ownedIdxs.forEach(boardSearchIndex::removeAfterCommit);
+        noticeIdxs.forEach(noticeRegistry::removeAfterCommit);
 
-            boardRecommendRepository.save(recommend);
-            board.increaseRecommend(); // 게시글 테이블의 숫자도 늘림
+        return results;
+    }
 
+    /**
+     * 추천 토글. 엔티티를 읽지 않고 유니크 키(uk_recommend_member_board)와 영향받은 행 수로 판단합니다.
+     * 추천: INSERT IGNORE + 카운터 UPDATE (2문장), 취소: INSERT IGNORE(0행) + DELETE + 카운터 UPDATE (3문장)
+     * 추천이 몰리는 게시글은 카운터를 board 행 대신 ShardedCounterService 슬롯에 씁니다.
+     */
+    @Transactional
+    public String toggleRecommendation(Long boardIdx, String providerId) {
+        boolean sharded = shardedCounterService.recordWrite(ShardedCounterService.Target.BOARD_RECOMMEND, boardIdx);
+
+        // 1. 추천 시도 (0행이면 이미 추천한 상태 - 해당 행은 커밋까지 잠금)
+        int inserted = sharded
+                ? boardRecommendRepository.insertIgnoreSharedLock(boardIdx, providerId)
+                : boardRecommendRepository.insertIgnore(boardIdx, providerId);
+        if (inserted == 1) {
+            changeRecommend(boardIdx, 1, sharded);
+            memberReactionIndex.recordAfterCommit(MemberReactionIndex.Kind.BOARD_RECOMMEND, providerId, boardIdx, true);
             return "추천하였습니다.";
         }
+
+        // 2. 이미 추천했다면 -> 추천 취소
+        if (boardRecommendRepository.deleteByProviderIdAndBoardIdx(boardIdx, providerId) == 1) {
+            changeRecommend(boardIdx, -1, sharded);
+            memberReactionIndex.recordAfterCommit(MemberReactionIndex.Kind.BOARD_RECOMMEND, providerId, boardIdx, false);
+            return "추천이 취소되었습니다.";
+        }
+
+        // 3. 둘 다 0행: 게시글(삭제됨 포함) 또는 회원이 없음
+        throw new IllegalArgumentException("게시글 또는 사용자 정보를 찾을 수 없습니다.");
+    }
+
+    // 추천 수 원자적 증감 + 상세 캐시 무효화 + 구독자에게 현재 추천 수 전송 (커밋 후)
+    // 분산 카운터 사용 중이면 슬롯에만 쓰고 캐시는 두어, 상세 응답에서 pending()으로 더함
+    private void changeRecommend(long boardIdx, int delta, boolean sharded) {
+        if (sharded) {
+            shardedCounterService.addToShard(ShardedCounterService.Target.BOARD_RECOMMEND, boardIdx, delta);
+        } else {
+            boardRepository.addRecommend(boardIdx, delta);
+            boardDetailCache.evict(boardIdx);
+        }
+        liveUpdatePublisher.publishBoardCountAfterCommit(LiveUpdateMessage.Type.RECOMMEND_CHANGED, boardIdx,
+                this::getRecommendCount);
+    }
+
+    /**
+     * 현재 추천 수 (board.recommend + 모든 서버의 분산 카운터 슬롯, primary에서 한 문장으로 조회)
+     * 실시간 구독을 시작/재연결한 화면이 그 사이 놓친 변경을 맞출 때 사용합니다.
+     * @return 게시글이 없거나 삭제되었으면 null
+     */
+    public Long getRecommendCount(long boardIdx) {
+        return shardedCounterService.currentCount(ShardedCounterService.Target.BOARD_RECOMMEND, boardIdx);
     }
 
     // 특정 유저의 최근 게시글 조회
+    @Transactional(readOnly = true)
     public List<BoardListResponse> getMyRecentBoards(long memberIdx, int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        return boardRepository.findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc(memberIdx, pageable)
-                .stream()
-                .map(entity -> {
-                    long commentCount = commentRepository.countByBoardIdxAndIsDeletedFalse(entity.getIdx());
-                    return BoardListResponse.builder()
-                            .idx(entity.getIdx())
-                            .boardType(entity.getBoardType())
-                            .title(entity.getTitle())
-                            .hit(entity.getHit())
-                            .recommend(entity.getRecommend())
-                            .regdate(entity.getRegdate())
-                            // 내 글이니 닉네임은 굳이 DB 조회 안 해도 됨 (필요하면 추가)
-                            .commentCount(commentCount)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return boardRepository.findBoardListByMemberIdx(memberIdx, pageable).getContent();
     }
 
     // 특정 유저의 최근 댓글 조회
@@ -415,22 +566,10 @@ public class BoardService {
     }
 
     // 내 게시글 전체 조회 (페이징)
+    @Transactional(readOnly = true)
     public Page<BoardListResponse> getMyBoards(long memberIdx, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-
-        return boardRepository.findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc(memberIdx, pageable)
-                .map(entity -> {
-                    long commentCount = commentRepository.countByBoardIdxAndIsDeletedFalse(entity.getIdx());
-                    return BoardListResponse.builder()
-                            .idx(entity.getIdx())
-                            .boardType(entity.getBoardType())
-                            .title(entity.getTitle())
-                            .hit(entity.getHit())
-                            .recommend(entity.getRecommend())
-                            .regdate(entity.getRegdate())
-                            .commentCount(commentCount)
-                            .build();
-                });
+        return boardRepository.findBoardListByMemberIdx(memberIdx, pageable);
     }
 
     // 내 댓글 전체 조회 (페이징)
@@ -0,0 +1,227 @@
+package com.youngjin.mcl_project.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좋아요 이벤트(poke_sample_like_event)를 모아 like_count와 시간대별 집계(poke_sample_like_hourly)에 반영하는 집계기.
+ *
+ * - 요청(PokeSampleService.toggleLike)은 좋아요 행과 이벤트 1행만 쓰고, 샘플 행은 건드리지 않습니다.
+ * - 이 클래스가 like_count의 유일한 writer입니다. 주기마다 이벤트를 배치 단위로 읽어
+ *   샘플별 합계로 UPDATE ... CASE 한 번, 구간별 upsert, 이벤트 DELETE를 한 트랜잭션으로 처리합니다.
+ *   (반영과 삭제가 함께 커밋되므로 중복/누락 없음)
+ * - 여러 서버가 동시에 돌면 먼저 DELETE한 쪽만 반영하고, 나머지는 롤백 후 다음 주기에 이어 갑니다.
+ * - 반영 지연(가장 오래된 대기 이벤트의 나이)은 관리자 API에서 stats()로 봅니다.
+ */
+@Slf4j
+@Service
+public class LikeEventAggregator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 트랜잭션에서 처리할 최대 이벤트 수
+    private final int batchSize;
+    // 시간대별 집계 보관 기간 (일)
+    private final int bucketRetentionDays;
+
+    // 누적 처리 이벤트 수 / 마지막 배치 크기 / 마지막 반영 완료 시각(ms)
+    private final AtomicLong processedTotal = new AtomicLong();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong lastAggregatedAt = new AtomicLong();
+
+    public LikeEventAggregator(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${like-event.batch-size:1000}") int batchSize,
+                               @Value("${like-event.bucket-retention-days:40}") int bucketRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.bucketRetentionDays = bucketRetentionDays;
+    }
+
+    /**
+     * 좋아요(+1)/취소(-1) 이벤트 추가. 호출한 쪽의 트랜잭션에 참여합니다. (좋아요 행과 함께 커밋/롤백)
+     */
+    public void append(long sampleIdx, int delta) {
+        jdbcTemplate.update("INSERT INTO poke_sample_like_event (sample_idx, delta) VALUES (?, ?)", sampleIdx, delta);
+    }
+
+    /**
+     * 아직 like_count에 반영되지 않은 증감 (상세 응답 시 DB 값에 더해서 보여줌, sample_idx 인덱스)
+     */
+    public long pending(long sampleIdx) {
+        Long sum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(delta), 0) FROM poke_sample_like_event WHERE sample_idx = ?", Long.class, sampleIdx);
+        return sum == null ? 0 : sum;
+    }
+
+    /**
+     * like_count + 대기 중인 이벤트 합계를 한 문장으로 읽은 현재 값 (실시간 갱신 메시지, 수 재조회용)
+     * 한 문장이라 집계기가 이벤트를 like_count로 옮기는 도중이어도 같은 시점의 값을 봅니다.
+     * @return 샘플이 없거나 삭제되었으면 null
+     */
+    public Long currentCount(long sampleIdx) {
+        List<Long> rows = jdbcTemplate.queryForList("SELECT like_count + " +
+                        "(SELECT COALESCE(SUM(delta), 0) FROM poke_sample_like_event WHERE sample_idx = ?) " +
+                        "FROM poke_sample WHERE idx = ? AND is_deleted = 0",
+                Long.class, sampleIdx, sampleIdx);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * 대기 중인 이벤트를 배치 단위로 모두 반영합니다.
+     * 설정: like-event.aggregate-interval-ms 간격 (기본 1초), 직접 호출과 겹치지 않게 synchronized
+     */
+    @Scheduled(fixedDelayString = "${like-event.aggregate-interval-ms:1000}", scheduler = "counterTaskScheduler")
+    public synchronized void aggregate() {
+        int processed;
+        do {
+            try {
+                processed = aggregateBatch();
+            } catch (Exception e) {
+                log.error("좋아요 이벤트 반영 실패: {}", e.getMessage());
+                // 이벤트는 그대로 남아 있으므로 다음 주기에 다시 시도
+                return;
+            }
+        } while (processed == batchSize);
+    }
+
+    /**
+     * 오래된 시간대별 집계 정리 (BestSampleLeaderboard가 다시 만들 때 읽는 31일보다 넉넉하게 보관)
+     * 설정: 매시 5분
+     */
+    @Scheduled(cron = "${like-event.bucket-cleanup-cron:0 5 * * * *}")
+    public void deleteOldBuckets() {
+        LocalDateTime before = LocalDateTime.now().minusDays(bucketRetentionDays).truncatedTo(ChronoUnit.HOURS);
+        int deleted = jdbcTemplate.update("DELETE FROM poke_sample_like_hourly WHERE bucket_start < ?", Timestamp.valueOf(before));
+        if (deleted > 0) {
+            log.info("오래된 좋아요 집계 {}건 삭제 ({} 이전)", deleted, before);
+        }
+    }
+
+    // 반영 지연 지표 (관리자 API에서 조회)
+    public Map<String, Object> stats() {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) AS pending, MIN(created_at) AS oldest FROM poke_sample_like_event");
+        Timestamp oldest = (Timestamp) row.get("oldest");
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pendingEvents", row.get("pending"));
+        result.put("lagMillis", oldest == null ? 0 : Math.max(System.currentTimeMillis() - oldest.getTime(), 0));
+        result.put("lastBatchSize", lastBatchSize.get());
+        result.put("processedTotal", processedTotal.get());
+        result.put("lastAggregatedAt", lastAggregatedAt.get());
+        return result;
+    }
+
+    /**
+     * 이벤트 batchSize개를 한 트랜잭션으로 반영하고 처리한 개수를 반환합니다.
+     * 순서: 이벤트 DELETE(행 락) -> 샘플 UPDATE -> 구간 upsert
+     * 요청 쪽은 샘플 행(S락) -> 새 이벤트 INSERT 순서라, 이미 있는 이벤트 행만 잠그는 집계기와 교착하지 않습니다.
+     */
+    private int aggregateBatch() {
+        Integer processed = transactionTemplate.execute(status -> {
+            List<long[]> events = new ArrayList<>(); // {idx, sample_idx, delta}
+            List<LocalDateTime> createdAts = new ArrayList<>();
+            jdbcTemplate.query("SELECT idx, sample_idx, delta, created_at FROM poke_sample_like_event ORDER BY idx LIMIT ?",
+                    rs -> {
+                        events.add(new long[]{rs.getLong("idx"), rs.getLong("sample_idx"), rs.getLong("delta")});
+                        createdAts.add(rs.getTimestamp("created_at").toLocalDateTime());
+                    }, batchSize);
+
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            // 1. 먼저 지워서 이 배치를 차지 (다른 서버가 이미 가져간 이벤트가 있으면 롤백)
+            List<Object> idxs = events.stream().map(event -> (Object) event[0]).toList();
+            int deleted = jdbcTemplate.update("DELETE FROM poke_sample_like_event WHERE idx IN (" + placeholders(idxs.size()) + ")",
+                    idxs.toArray());
+            if (deleted != events.size()) {
+                status.setRollbackOnly();
+                return 0;
+            }
+
+            // 2. 샘플별 / (구간, 샘플)별 합계
+            Map<Long, Long> countDeltas = new LinkedHashMap<>();
+            Map<LocalDateTime, Map<Long, Long>> bucketDeltas = new LinkedHashMap<>();
+            for (int i = 0; i < events.size(); i++) {
+                long sampleIdx = events.get(i)[1];
+                long delta = events.get(i)[2];
+                countDeltas.merge(sampleIdx, delta, Long::sum);
+                bucketDeltas.computeIfAbsent(createdAts.get(i).truncatedTo(ChronoUnit.HOURS), k -> new LinkedHashMap<>())
+                        .merge(sampleIdx, delta, Long::sum);
+            }
+
+            applyCountDeltas(countDeltas);
+            applyBucketDeltas(bucketDeltas);
+            return events.size();
+        });
+
+        int count = processed == null ? 0 : processed;
+        if (count > 0) {
+            processedTotal.addAndGet(count);
+            lastBatchSize.set(count);
+            lastAggregatedAt.set(System.currentTimeMillis());
+            log.debug("좋아요 이벤트 {}건 반영", count);
+        }
+        return count;
+    }
+
+    /**
+     * UPDATE poke_sample SET like_count = like_count + CASE idx WHEN ? THEN ? ... END WHERE idx IN (...)
+     * moddate = moddate 는 ON UPDATE CURRENT_TIMESTAMP가 좋아요만으로 바뀌지 않게 막습니다. (ViewCountService와 같음)
+     */
+    private void applyCountDeltas(Map<Long, Long> countDeltas) {
+        countDeltas.values().removeIf(delta -> delta == 0);
+        if (countDeltas.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE poke_sample SET moddate = moddate, like_count = like_count + CASE idx");
+        List<Object> params = new ArrayList<>();
+        countDeltas.forEach((idx, delta) -> {
+            sql.append(" WHEN ? THEN ?");
+            params.add(idx);
+            params.add(delta);
+        });
+        sql.append(" ELSE 0 END WHERE idx IN (").append(placeholders(countDeltas.size())).append(")");
+        params.addAll(countDeltas.keySet());
+
+        jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    private void applyBucketDeltas(Map<LocalDateTime, Map<Long, Long>> bucketDeltas) {
+        List<Object[]> rows = new ArrayList<>();
+        bucketDeltas.forEach((bucket, deltas) -> deltas.forEach((sampleIdx, delta) -> {
+            if (delta != 0) {
+                rows.add(new Object[]{Timestamp.valueOf(bucket), sampleIdx, delta, delta});
+            }
+        }));
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO poke_sample_like_hourly (bucket_start, sample_idx, likes) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE likes = likes + ?", rows);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
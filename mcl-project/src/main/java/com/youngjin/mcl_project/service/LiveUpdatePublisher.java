@@ -0,0 +1,147 @@
+package com.youngjin.mcl_project.service;
+
+import com.youngjin.mcl_project.dto.LiveUpdateMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * 댓글/추천/좋아요 변경분을 WebSocket 구독자에게 보내는 발행기.
+ *
+ * - 커밋된 변경만 보냅니다. (트랜잭션 안에서 호출되면 afterCommit에 발행)
+ * - 발행은 전용 스레드 1개 + 고정 크기 큐로 넘기고 바로 반환합니다. 큐가 가득 차면 버리고 dropped만 셉니다.
+ *   (실시간 갱신은 best-effort, 화면을 다시 열면 REST로 최신 상태를 받음)
+ * - 추천/좋아요 수는 발행 스레드에서 현재 값을 읽어 보냅니다. 같은 대상이 이미 큐에 있으면 새로 넣지 않고
+ *   그 작업이 읽는 값(더 나중 값)으로 합칩니다. (몰리는 글이어도 대상당 조회는 발행 속도 이하)
+ */
+@Slf4j
+@Service
+public class LiveUpdatePublisher {
+
+    private static final String BOARD_TOPIC = "/topic/board/";
+    private static final String SAMPLE_TOPIC = "/topic/poke-sample/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong dropped = new AtomicLong();
+    // 큐에 들어가 있는 수 발행 작업 (destination + type)
+    private final Set<String> pendingCounts = ConcurrentHashMap.newKeySet();
+
+    public LiveUpdatePublisher(SimpMessagingTemplate messagingTemplate,
+                               @Value("${live.publish-queue-capacity:10000}") int queueCapacity) {
+        this.messagingTemplate = messagingTemplate;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "live-update-publisher");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void publishBoardAfterCommit(LiveUpdateMessage message) {
+        afterCommit(BOARD_TOPIC + message.getTargetIdx(), message);
+    }
+
+    public void publishSampleAfterCommit(LiveUpdateMessage message) {
+        afterCommit(SAMPLE_TOPIC + message.getTargetIdx(), message);
+    }
+
+    /**
+     * 추천/좋아요 수 변경 알림. 커밋 후 발행 스레드에서 currentCount로 현재 값을 읽어 보냅니다.
+     * @param currentCount 대상 ID -> 현재 값 (대상이 없으면 null, 이때는 보내지 않음)
+     */
+    public void publishBoardCountAfterCommit(LiveUpdateMessage.Type type, long targetIdx, LongFunction<Long> currentCount) {
+        afterCommit(() -> enqueueCount(BOARD_TOPIC + targetIdx, type, targetIdx, currentCount));
+    }
+
+    public void publishSampleCountAfterCommit(LiveUpdateMessage.Type type, long targetIdx, LongFunction<Long> currentCount) {
+        afterCommit(() -> enqueueCount(SAMPLE_TOPIC + targetIdx, type, targetIdx, currentCount));
+    }
+
+    // 큐가 가득 차서 버린 메시지 수
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    private void afterCommit(String destination, LiveUpdateMessage message) {
+        afterCommit(() -> enqueue(destination, () -> message));
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private void enqueueCount(String destination, LiveUpdateMessage.Type type, long targetIdx, LongFunction<Long> currentCount) {
+        String key = destination + "|" + type;
+        if (!pendingCounts.add(key)) {
+            return; // 이미 큐에 있는 작업이 이 변경까지 포함한 값을 읽음
+        }
+
+        boolean queued = enqueue(destination, () -> {
+            // 읽기 전에 빼야 읽는 도중 들어온 변경도 다음 작업으로 발행됨
+            pendingCounts.remove(key);
+            Long count = currentCount.apply(targetIdx);
+            return count == null ? null : LiveUpdateMessage.builder()
+                    .type(type)
+                    .targetIdx(targetIdx)
+                    .count(count)
+                    .build();
+        });
+        if (!queued) {
+            pendingCounts.remove(key);
+        }
+    }
+
+    private boolean enqueue(String destination, Supplier<LiveUpdateMessage> message) {
+        try {
+            executor.execute(() -> {
+                try {
+                    LiveUpdateMessage payload = message.get();
+                    if (payload != null) {
+                        messagingTemplate.convertAndSend(destination, payload);
+                    }
+                } catch (Exception e) {
+                    log.warn("실시간 갱신 발행 실패: {} {}", destination, e.getMessage());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            long count = dropped.incrementAndGet();
+            if (count % 1000 == 1) {
+                log.warn("실시간 갱신 큐 가득 참, 누적 {}건 버림", count);
+            }
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
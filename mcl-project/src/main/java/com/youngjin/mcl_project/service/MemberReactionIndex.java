@@ -0,0 +1,190 @@
+package com.youngjin.mcl_project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 "좋아요한 샘플 / 추천한 게시글" id 집합 인덱스.
+ *
+ * - 목록/상세 응답의 isLiked, isRecommended를 행마다 쿼리하지 않고 메모리에서 이진 탐색으로 채웁니다.
+ * - 회원 + 종류별로 정렬된 long[] 하나만 보관하고, 처음 필요할 때 쿼리 한 번으로 읽어 옵니다.
+ * - 크기는 보관 중인 id 개수 합계(reaction-index.max-ids)로 제한하고, 넘치면 오래 안 쓴 회원부터 뺍니다.
+ * - 토글은 커밋 후 캐시에 있는 집합만 고칩니다. (없으면 다음 조회 때 DB에서 읽음)
+ * - 다른 서버에서 한 토글은 보이지 않으므로 reaction-index.expire-after-write-minutes 후 다시 읽습니다.
+ * - 읽어 오기는 호출한 쪽의 readOnly 트랜잭션(복제본)을 잠시 멈추고 primary에서 합니다.
+ *   복제 지연으로 방금 한 토글이 빠진 집합이 만료 시간 동안 캐시되는 것을 막습니다.
+ */
+@Service
+public class MemberReactionIndex {
+
+    public enum Kind {
+        // idx_like_member_regdate_sample(V10)로 커버링
+        SAMPLE_LIKE("SELECT l.sample_idx FROM poke_sample_like l JOIN member m ON m.idx = l.member_idx WHERE m.provider_id = ?"),
+        // uk_recommend_member_board(member_idx, board_idx)로 커버링
+        BOARD_RECOMMEND("SELECT r.board_idx FROM board_recommend r JOIN member m ON m.idx = r.member_idx WHERE m.provider_id = ?");
+
+        private final String loadSql;
+
+        Kind(String loadSql) {
+            this.loadSql = loadSql;
+        }
+    }
+
+    private record Key(Kind kind, String providerId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    // 트랜잭션 밖에서 실행 (ReadWriteRoutingDataSource는 트랜잭션 밖의 조회를 primary로 보냄)
+    private final TransactionTemplate primaryRead;
+    private final Cache<Key, IdSet> cache;
+
+    public MemberReactionIndex(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${reaction-index.max-ids:2000000}") long maxIds,
+                               @Value("${reaction-index.expire-after-write-minutes:10}") long expireAfterWriteMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxIds)
+                .weigher((Key key, IdSet ids) -> ids.size() + 1)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 회원의 id 집합 (비로그인이면 빈 집합). 캐시에 없으면 primary에서 한 번 조회합니다.
+     * 목록처럼 여러 행을 채울 때는 이 집합을 받아 contains()로 확인합니다.
+     */
+    public IdSet get(Kind kind, String providerId) {
+        if (providerId == null) {
+            return IdSet.EMPTY;
+        }
+        return cache.get(new Key(kind, providerId), this::load);
+    }
+
+    public boolean contains(Kind kind, String providerId, long idx) {
+        return get(kind, providerId).contains(idx);
+    }
+
+    /**
+     * 토글 결과 반영. 트랜잭션 안이면 커밋 후에, 캐시에 있는 집합만 고칩니다.
+     * 같은 회원을 읽어 오는 중이면 읽기가 끝난 뒤 적용되므로 방금 토글한 값이 빠지지 않습니다.
+     */
+    public void recordAfterCommit(Kind kind, String providerId, long idx, boolean on) {
+        Runnable apply = () -> cache.asMap().computeIfPresent(new Key(kind, providerId),
+                (key, ids) -> on ? ids.with(idx) : ids.without(idx));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    // 적중/미스 통계 (관리자 API에서 조회)
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("weightedSize", cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L));
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    private IdSet load(Key key) {
+        List<Long> ids = primaryRead.execute(status ->
+                jdbcTemplate.queryForList(key.kind().loadSql, Long.class, key.providerId()));
+        long[] array = new long[ids.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ids.get(i);
+        }
+        return IdSet.of(array);
+    }
+
+    /**
+     * 정렬된 long[] 기반 불변 id 집합. 변경은 새 배열을 만들어 반환합니다. (회원당 수백~수천 개 수준)
+     */
+    public static final class IdSet {
+
+        static final IdSet EMPTY = new IdSet(new long[0]);
+
+        private final long[] ids; // 오름차순, 중복 없음
+
+        private IdSet(long[] ids) {
+            this.ids = ids;
+        }
+
+        // 정렬/중복 제거 후 생성 (전달한 배열은 그대로 사용하므로 호출한 쪽에서 다시 쓰지 않아야 함)
+        static IdSet of(long[] ids) {
+            if (ids.length == 0) {
+                return EMPTY;
+            }
+            Arrays.sort(ids);
+            int size = 1;
+            for (int i = 1; i < ids.length; i++) {
+                if (ids[i] != ids[size - 1]) {
+                    ids[size++] = ids[i];
+                }
+            }
+            return new IdSet(size == ids.length ? ids : Arrays.copyOf(ids, size));
+        }
+
+        public boolean contains(long id) {
+            return Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        public int size() {
+            return ids.length;
+        }
+
+        IdSet with(long id) {
+            int pos = Arrays.binarySearch(ids, id);
+            if (pos >= 0) {
+                return this;
+            }
+            int insertAt = -pos - 1;
+            long[] next = new long[ids.length + 1];
+            System.arraycopy(ids, 0, next, 0, insertAt);
+            next[insertAt] = id;
+            System.arraycopy(ids, insertAt, next, insertAt + 1, ids.length - insertAt);
+            return new IdSet(next);
+        }
+
+        IdSet without(long id) {
+            int pos = Arrays.binarySearch(ids, id);
+            if (pos < 0) {
+                return this;
+            }
+            long[] next = new long[ids.length - 1];
+            System.arraycopy(ids, 0, next, 0, pos);
+            System.arraycopy(ids, pos + 1, next, pos, ids.length - pos - 1);
+            return new IdSet(next);
+        }
+    }
+}
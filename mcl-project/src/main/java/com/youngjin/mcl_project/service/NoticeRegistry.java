@@ -0,0 +1,162 @@
+package com.youngjin.mcl_project.service;
+
+import com.youngjin.mcl_project.dto.NoticeResponse;
+import com.youngjin.mcl_project.entity.BoardEntity;
+import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
+import com.youngjin.mcl_project.repository.BoardRepository;
+import com.youngjin.mcl_project.repository.MemberRepository;
+import com.youngjin.mcl_project.util.ETagUtil;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 활성 공지사항(NOTICE) 목록을 불변 스냅샷으로 메모리에 보관합니다.
+ *
+ * 공지는 한 달에 몇 번 바뀌지만 모든 페이지에서 읽히므로, 조회 시에는 DB에 접근하지 않습니다.
+ * 공지 작성/수정/삭제 트랜잭션이 커밋되면 기존 스냅샷을 복사·수정한 새 스냅샷으로 한 번에 교체하고,
+ * 다른 인스턴스에서의 변경 등을 맞추기 위해 주기적으로 DB에서 다시 읽습니다.
+ * 스냅샷마다 버전(커밋 후 반영 횟수)을 두어, DB를 읽는 동안 커밋 후 반영이 끼어들면 읽은 결과로 덮어쓰지 않고 다시 읽습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoticeRegistry implements ApplicationRunner {
+
+    // 다시 읽는 동안 계속 커밋 후 반영이 끼어들 때 최대 시도 횟수 (넘으면 이번 주기는 건너뜀)
+    private static final int RELOAD_ATTEMPTS = 3;
+
+    private final BoardRepository boardRepository;
+    private final MemberRepository memberRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(List.of(), 0));
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    public Snapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * DB에서 전체 공지를 다시 읽어 스냅샷 교체
+     * 읽기 시작할 때의 스냅샷 버전이 그대로일 때만 교체합니다. 그 사이 커밋 후 반영으로 더 새 스냅샷이 들어왔으면
+     * 읽은 목록에 그 변경이 빠져 있을 수 있으므로 버리고 다시 읽습니다.
+     * 설정: board.notice.reload-interval-ms 간격 (기본 1시간)
+     */
+    @Scheduled(fixedDelayString = "${board.notice.reload-interval-ms:3600000}", initialDelayString = "${board.notice.reload-interval-ms:3600000}")
+    public void reload() {
+        for (int attempt = 1; attempt <= RELOAD_ATTEMPTS; attempt++) {
+            Snapshot base = snapshot.get();
+            List<NoticeResponse> notices = loadNotices();
+
+            if (snapshot.compareAndSet(base, new Snapshot(notices, base.getVersion()))) {
+                log.info("공지사항 스냅샷 갱신: {}건", notices.size());
+                return;
+            }
+            log.debug("공지사항 다시 읽는 중 변경이 반영되어 재시도: {}회", attempt);
+        }
+        log.warn("공지사항 스냅샷 갱신 건너뜀: 다시 읽는 동안 변경이 계속 반영됨");
+    }
+
+    // 활성 공지 전체와 작성자 닉네임 조회
+    private List<NoticeResponse> loadNotices() {
+        List<BoardEntity> entities = boardRepository.findAllByBoardTypeAndIsDeletedFalseOrderByRegdateDesc(BoardType.NOTICE);
+
+        List<Long> memberIdxs = entities.stream()
+                .map(BoardEntity::getMemberIdx)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, String> nicknameMap = memberIdxs.isEmpty() ? Map.of() : memberRepository.findAllNicknameByIdxs(memberIdxs).stream()
+                .collect(Collectors.toMap(
+                        result -> (Long) result[0], // memberIdx
+                        result -> (String) result[1] // nickname
+                ));
+
+        return entities.stream()
+                .map(entity -> NoticeResponse.builder()
+                        .idx(entity.getIdx())
+                        .title(entity.getTitle())
+                        .authorNickname(nicknameMap.getOrDefault(entity.getMemberIdx(), "알 수 없음"))
+                        .regdate(entity.getRegdate())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 공지 작성/수정 (커밋 후 반영)
+    public void upsertAfterCommit(NoticeResponse notice) {
+        runAfterCommit(() -> swap(notices -> {
+            notices.removeIf(n -> n.getIdx() == notice.getIdx());
+            notices.add(notice);
+            return notices;
+        }));
+    }
+
+    // 공지 삭제 (커밋 후 반영)
+    public void removeAfterCommit(long idx) {
+        runAfterCommit(() -> swap(notices -> {
+            notices.removeIf(n -> n.getIdx() == idx);
+            return notices;
+        }));
+    }
+
+    // 현재 목록을 복사해서 수정한 뒤 버전을 올린 새 스냅샷으로 원자적 교체
+    private void swap(UnaryOperator<List<NoticeResponse>> change) {
+        snapshot.updateAndGet(old -> new Snapshot(change.apply(new ArrayList<>(old.getNotices())), old.getVersion() + 1));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 공지 목록 스냅샷 (등록일 내림차순, 불변)
+     * ETag는 목록 내용으로 계산하므로 재시작해도 내용이 같으면 값이 같습니다. (버전은 ETag에 넣지 않음)
+     */
+    @Getter
+    public static class Snapshot {
+        private final List<NoticeResponse> notices;
+        private final String eTag;
+        // 커밋 후 반영(swap) 횟수, DB에서 다시 읽은 스냅샷은 읽기 시작할 때의 버전을 이어받음
+        private final long version;
+
+        Snapshot(List<NoticeResponse> notices, long version) {
+            this.version = version;
+
+            List<NoticeResponse> sorted = new ArrayList<>(notices);
+            sorted.sort(Comparator.comparing(NoticeResponse::getRegdate, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(Comparator.comparingLong(NoticeResponse::getIdx).reversed()));
+
+            this.notices = List.copyOf(sorted);
+            this.eTag = ETagUtil.strong(this.notices.stream()
+                    .map(n -> n.getIdx() + ":" + n.getTitle() + ":" + n.getAuthorNickname() + ":" + n.getRegdate())
+                    .toArray());
+        }
+    }
+}
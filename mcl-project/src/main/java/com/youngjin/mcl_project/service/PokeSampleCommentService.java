@@ -1,5 +1,7 @@
 package com.youngjin.mcl_project.service;
 
+import com.youngjin.mcl_project.dto.CursorResponse;
+import com.youngjin.mcl_project.dto.LiveUpdateMessage;
 import com.youngjin.mcl_project.dto.PokeSampleCommentCreationRequest;
 import com.youngjin.mcl_project.dto.PokeSampleCommentResponse;
 import com.youngjin.mcl_project.dto.PokeSampleCommentUpdateRequest;
@@ -8,11 +10,15 @@ import com.youngjin.mcl_project.entity.PokeSampleEntity;
 import com.youngjin.mcl_project.repository.MemberRepository;
 import com.youngjin.mcl_project.repository.PokeSampleCommentRepository;
 import com.youngjin.mcl_project.repository.PokeSampleRepository;
+import com.youngjin.mcl_project.util.CommentPath;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -24,6 +30,11 @@ public class PokeSampleCommentService {
     private final PokeSampleCommentRepository commentRepository;
     private final PokeSampleRepository sampleRepository; // 샘플 존재 확인용
     private final MemberRepository memberRepository;     // 닉네임 조회용
+    private final LiveUpdatePublisher liveUpdatePublisher; // 상세 화면 구독자에게 변경분 전송
+
+    // 페이징 조회 한 번에 가져올 수 있는 최대 댓글 수 / 댓글마다 미리 담는 최대 답글 수
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_REPLY_PREVIEW_SIZE = 20;
 
     /**
      * 댓글 작성
@@ -41,6 +52,10 @@ public class PokeSampleCommentService {
                     .orElseThrow(() -> new IllegalArgumentException("부모 댓글이 존재하지 않습니다."));
         }
 
+        if (parent != null && !parent.getPokeSample().getIdx().equals(sample.getIdx())) {
+            throw new IllegalArgumentException("다른 샘플의 댓글에는 답글을 달 수 없습니다.");
+        }
+
         // 3. 저장
         PokeSampleComment comment = PokeSampleComment.builder()
                 .pokeSample(sample)
@@ -50,7 +65,16 @@ public class PokeSampleCommentService {
                 .isDeleted(false)
                 .build();
 
-        return commentRepository.save(comment).getIdx();
+        PokeSampleComment saved = commentRepository.save(comment);
+
+        // 4. 정렬 키 지정 (save 시점에 풀링 생성기가 idx 배정)
+        // INSERT 값은 persist 시점에 정해지므로 정렬 키는 flush 때 같은 트랜잭션의 UPDATE로 따로 나감 (INSERT + UPDATE)
+        saved.assignSortPath(CommentPath.of(parent != null ? parent.getSortPath() : null, saved.getIdx()));
+
+        // 5. 구독자에게 새 댓글 전송 (커밋 후)
+        publishComment(LiveUpdateMessage.Type.COMMENT_CREATED, saved);
+
+        return saved.getIdx();
     }
 
     /**
@@ -71,6 +95,8 @@ public class PokeSampleCommentService {
 
         comment.updateMent(request.getMent());
         // Dirty Checking에 의해 자동 update
+
+        publishComment(LiveUpdateMessage.Type.COMMENT_UPDATED, comment);
     }
 
     /**
@@ -90,15 +116,23 @@ public class PokeSampleCommentService {
         }
 
         comment.changeDeleted(true);
+
+        liveUpdatePublisher.publishSampleAfterCommit(LiveUpdateMessage.builder()
+                .type(LiveUpdateMessage.Type.COMMENT_DELETED)
+                .targetIdx(comment.getPokeSample().getIdx())
+                .commentIdx(comment.getIdx())
+                .parentIdx(comment.getParent() != null ? comment.getParent().getIdx() : null)
+                .build());
     }
 
     /**
      * 댓글 목록 조회 (계층형 변환)
+     * sort_path 순서(부모 바로 뒤에 자식)로 읽어 조상 스택 하나로 한 번에 조립합니다.
      */
     @Transactional(readOnly = true)
     public List<PokeSampleCommentResponse> getCommentList(Long sampleIdx) {
-        // 1. 전체 댓글 조회
-        List<PokeSampleComment> entities = commentRepository.findAllByPokeSampleIdxOrderByRegdateAsc(sampleIdx);
+        // 1. 전체 댓글 조회 (화면 순서)
+        List<PokeSampleComment> entities = commentRepository.findAllByPokeSampleIdxOrderBySortPathAsc(sampleIdx);
 
         // 2. 닉네임 일괄 조회 (N+1 방지)
         List<Long> memberIdxs = entities.stream()
@@ -106,35 +140,119 @@ public class PokeSampleCommentService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        Map<Long, String> nicknameMap = memberRepository.findAllNicknameByIdxs(memberIdxs).stream()
+        Map<Long, String> nicknameMap = memberIdxs.isEmpty() ? Map.of() : memberRepository.findAllNicknameByIdxs(memberIdxs).stream()
                 .collect(Collectors.toMap(
                         obj -> (Long) obj[0],
                         obj -> (String) obj[1]
                 ));
 
-        // 3. DTO 변환 및 Map핑
-        Map<Long, PokeSampleCommentResponse> dtoMap = entities.stream()
-                .map(entity -> {
-                    PokeSampleCommentResponse dto = PokeSampleCommentResponse.fromEntity(entity);
-                    dto.setAuthorNickname(nicknameMap.getOrDefault(entity.getMemberIdx(), "알 수 없음"));
-                    return dto;
-                })
-                .collect(Collectors.toMap(PokeSampleCommentResponse::getIdx, dto -> dto));
-
-        // 4. 계층 구조 조립
+        // 3. DTO 변환 + 계층 구조 조립 (ancestors 크기 = 다음 댓글이 붙을 깊이)
         List<PokeSampleCommentResponse> rootComments = new ArrayList<>();
+        Deque<PokeSampleCommentResponse> ancestors = new ArrayDeque<>();
+
+        for (PokeSampleComment entity : entities) {
+            PokeSampleCommentResponse dto = PokeSampleCommentResponse.fromEntity(entity);
+            dto.setAuthorNickname(nicknameMap.getOrDefault(entity.getMemberIdx(), "알 수 없음"));
 
-        for (PokeSampleCommentResponse dto : dtoMap.values()) {
-            if (dto.getParentIdx() == null) {
+            while (ancestors.size() > dto.getDepth()) {
+                ancestors.pop();
+            }
+
+            if (ancestors.isEmpty()) {
                 rootComments.add(dto);
             } else {
-                PokeSampleCommentResponse parent = dtoMap.get(dto.getParentIdx());
-                if (parent != null) {
-                    parent.getReplies().add(dto);
-                }
+                ancestors.peek().getReplies().add(dto);
             }
+            ancestors.push(dto);
         }
 
         return rootComments;
     }
-}
\ No newline at end of file
+
+    /**
+     * 댓글 목록 페이징 조회 (최상위 댓글 커서 + 댓글마다 첫 답글 replySize개와 전체 답글 수)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PokeSampleCommentResponse> getCommentPage(Long sampleIdx, Long afterIdx, int size, int replySize) {
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        replySize = Math.min(Math.max(replySize, 0), MAX_REPLY_PREVIEW_SIZE);
+
+        // 1. 최상위 댓글 (size + 1개로 다음 페이지 판단)
+        CursorResponse<PokeSampleComment> roots = CursorResponse.of(
+                commentRepository.findRootsAfter(sampleIdx, afterIdx, size + 1), size, PokeSampleComment::getIdx);
+
+        List<Long> rootIdxs = roots.getContent().stream()
+                .map(PokeSampleComment::getIdx)
+                .collect(Collectors.toList());
+
+        // 2. 댓글마다 첫 답글 replySize개 (한 번의 쿼리)
+        List<PokeSampleComment> replies = commentRepository.findFirstRepliesOf(sampleIdx, rootIdxs, replySize);
+
+        List<PokeSampleComment> entities = new ArrayList<>(roots.getContent());
+        entities.addAll(replies);
+        Map<Long, PokeSampleCommentResponse> dtoMap = toPagedResponses(sampleIdx, entities);
+
+        // 3. 답글을 부모 댓글 아래에 붙임
+        for (PokeSampleComment reply : replies) {
+            dtoMap.get(reply.getParent().getIdx()).getReplies().add(dtoMap.get(reply.getIdx()));
+        }
+
+        return roots.withContent(rootIdxs.stream().map(dtoMap::get).collect(Collectors.toList()));
+    }
+
+    /**
+     * 특정 댓글의 답글 더보기 (커서 페이징)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PokeSampleCommentResponse> getReplyPage(Long sampleIdx, Long parentIdx, Long afterIdx, int size) {
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        CursorResponse<PokeSampleComment> page = CursorResponse.of(
+                commentRepository.findRepliesAfter(sampleIdx, parentIdx, afterIdx, size + 1), size, PokeSampleComment::getIdx);
+
+        return page.withContent(new ArrayList<>(toPagedResponses(sampleIdx, page.getContent()).values()));
+    }
+
+    // 페이징 응답용 DTO 변환 (답글 수와 닉네임은 각각 한 번의 쿼리로 조회, 순서 유지)
+    private Map<Long, PokeSampleCommentResponse> toPagedResponses(Long sampleIdx, List<PokeSampleComment> entities) {
+        List<Long> idxs = entities.stream()
+                .map(PokeSampleComment::getIdx)
+                .collect(Collectors.toList());
+
+        Map<Long, Long> replyCounts = commentRepository.countRepliesByParent(sampleIdx, idxs);
+
+        List<Long> memberIdxs = entities.stream()
+                .map(PokeSampleComment::getMemberIdx)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, String> nicknameMap = memberIdxs.isEmpty() ? Map.of() : memberRepository.findAllNicknameByIdxs(memberIdxs).stream()
+                .collect(Collectors.toMap(
+                        obj -> (Long) obj[0],
+                        obj -> (String) obj[1]
+                ));
+
+        Map<Long, PokeSampleCommentResponse> dtoMap = new LinkedHashMap<>();
+        for (PokeSampleComment entity : entities) {
+            PokeSampleCommentResponse dto = PokeSampleCommentResponse.fromEntity(entity);
+            dto.setAuthorNickname(nicknameMap.getOrDefault(entity.getMemberIdx(), "알 수 없음"));
+            dto.setReplyCount(replyCounts.getOrDefault(entity.getIdx(), 0L));
+            dtoMap.put(entity.getIdx(), dto);
+        }
+        return dtoMap;
+    }
+
+    // 작성/수정된 댓글 하나를 구독자에게 전송
+    private void publishComment(LiveUpdateMessage.Type type, PokeSampleComment entity) {
+        PokeSampleCommentResponse dto = PokeSampleCommentResponse.fromEntity(entity);
+        dto.setAuthorNickname(memberRepository.findNicknameByIdx(entity.getMemberIdx()).orElse("알 수 없음"));
+
+        liveUpdatePublisher.publishSampleAfterCommit(LiveUpdateMessage.builder()
+                .type(type)
+                .targetIdx(dto.getSampleIdx())
+                .commentIdx(dto.getIdx())
+                .parentIdx(dto.getParentIdx())
+                .comment(dto)
+                .build());
+    }
+}
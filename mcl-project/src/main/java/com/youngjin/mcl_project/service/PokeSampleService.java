@@ -1,15 +1,21 @@
 package com.youngjin.mcl_project.service;
 
+import com.youngjin.mcl_project.dto.CursorResponse;
+import com.youngjin.mcl_project.dto.LiveUpdateMessage;
 import com.youngjin.mcl_project.dto.PokeSampleRequestDTO;
 import com.youngjin.mcl_project.dto.PokeSampleResponseDTO;
+import com.youngjin.mcl_project.dto.PokeSampleSummary;
+import com.youngjin.mcl_project.dto.SampleFacetResponse;
 import com.youngjin.mcl_project.entity.MemberEntity;
 import com.youngjin.mcl_project.entity.PokeSampleEntity;
-import com.youngjin.mcl_project.entity.PokeSampleLikeEntity;
+import com.youngjin.mcl_project.enums.PokeStat;
 import com.youngjin.mcl_project.enums.Visibility;
 import com.youngjin.mcl_project.repository.MemberRepository;
 import com.youngjin.mcl_project.repository.PokeSampleCommentRepository;
 import com.youngjin.mcl_project.repository.PokeSampleLikeRepository;
 import com.youngjin.mcl_project.repository.PokeSampleRepository;
+import com.youngjin.mcl_project.util.ETagUtil;
+import com.youngjin.mcl_project.util.StatSpreadCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,9 +23,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,27 +36,38 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PokeSampleService {
 
+    // 필터 검색 응답에 담을 필터별 값 개수
+    private static final int FACET_VALUE_LIMIT = 20;
+
     private final PokeSampleRepository pokeSampleRepository;
     private final MemberRepository memberRepository;
     private final PokeSampleLikeRepository likeRepository;
     private final PokeSampleCommentRepository commentRepository;
+    private final ViewCountService viewCountService;
+    private final LiveUpdatePublisher liveUpdatePublisher;
+    private final LikeEventAggregator likeEventAggregator;
+    private final BestSampleLeaderboard bestSampleLeaderboard;
+    private final MemberReactionIndex memberReactionIndex;
+    private final PokemonNameIndex pokemonNameIndex;
+    private final SampleFacetIndex sampleFacetIndex;
 
     // 1. 등록 (Create)
     @Transactional
     public Long createSample(PokeSampleRequestDTO dto) {
         PokeSampleEntity entity = dto.toEntity();
         PokeSampleEntity saved = pokeSampleRepository.save(entity);
+        pokemonNameIndex.registerAfterCommit(saved.getPokemonIdx(), saved.getPokemonName());
+        sampleFacetIndex.indexAfterCommit(saved);
         return saved.getIdx();
     }
 
-    // 2. 상세 조회
-    @Transactional
+    // 2. 상세 조회 (조회수는 ViewCountService 버퍼에 누적하므로 읽기 전용 트랜잭션)
     public PokeSampleResponseDTO getSample(Long idx, String currentProviderId) {
         // 삭제 안 된 것만 조회
         PokeSampleEntity entity = pokeSampleRepository.findByIdxAndIsDeletedFalse(idx)
                 .orElseThrow(() -> new IllegalArgumentException("해당 샘플이 존재하지 않습니다. idx=" + idx));
 
-        entity.increaseHit();
+        viewCountService.increase(ViewCountService.Target.SAMPLE, idx);
 
         String nickname = memberRepository.findNicknameByIdx(entity.getMemberIdx())
                 .orElse("알 수 없음");
@@ -60,38 +80,142 @@ public class PokeSampleService {
                     .orElse(null);
 
             if (currentMember != null) {
-                isLiked = likeRepository.existsByPokeSampleAndMemberIdx(entity, currentMember.getIdx());
+                isLiked = memberReactionIndex.contains(MemberReactionIndex.Kind.SAMPLE_LIKE, currentProviderId, idx);
                 isMine = entity.getMemberIdx().equals(currentMember.getIdx());
             }
         }
         long commentCount = commentRepository.countByPokeSampleIdxAndIsDeletedFalse(entity.getIdx());
 
-        return PokeSampleResponseDTO.fromEntity(entity, nickname, isLiked, isMine, commentCount);
+        PokeSampleResponseDTO dto = PokeSampleResponseDTO.fromEntity(entity, nickname, isLiked, isMine, commentCount);
+        // DB 값 + 아직 반영되지 않은 조회수/좋아요 이벤트
+        dto.setHit((int) (entity.getHit() + viewCountService.pending(ViewCountService.Target.SAMPLE, idx)));
+        dto.setLikeCount((int) (entity.getLikeCount() + likeEventAggregator.pending(idx)));
+        return dto;
+    }
+
+    // 2-1. 상세 ETag (수정일/좋아요 수/댓글 수만 조회, 없으면 null)
+    // 응답의 좋아요·본인 여부가 사용자마다 다르므로 사용자 ID와 좋아요 여부, 아직 반영되지 않은 좋아요 이벤트도 포함
+    // (본인 여부는 작성자가 바뀌지 않으므로 사용자 ID만으로 구분됨)
+    public String getSampleETag(Long idx, String currentProviderId) {
+        return pokeSampleRepository.findDetailVersion(idx)
+                .map(version -> ETagUtil.strong("sample", idx, version, likeEventAggregator.pending(idx), currentProviderId,
+                        memberReactionIndex.contains(MemberReactionIndex.Kind.SAMPLE_LIKE, currentProviderId, idx)))
+                .orElse(null);
     }
 
-    // 3. 통합 목록 조회 (PUBLIC만 조회)
-    public Page<PokeSampleResponseDTO> getSamples(Integer pokemonIdx, String keyword, int page, int size) {
+    // 2-2. 304 응답 시에도 조회수는 증가 (메모리 버퍼)
+    public void recordView(Long idx) {
+        viewCountService.increase(ViewCountService.Target.SAMPLE, idx);
+    }
+
+    // 3. 통합 목록 조회 (PUBLIC만 조회, 카드 요약만 쿼리 한 번으로, 좋아요 여부는 회원별 id 집합으로 채움)
+    public Page<PokeSampleSummary> getSamples(Integer pokemonIdx, String keyword, int page, int size, String currentProviderId) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<PokeSampleEntity> entityPage;
 
+        // 조회할 도감 번호 (null이면 전체)
+        Set<Integer> pokemonIdxs = null;
         if (pokemonIdx != null) {
-            entityPage = pokeSampleRepository.findByPokemonIdxAndIsDeletedFalseAndVisibilityOrderByRegdateDesc(
-                    pokemonIdx, Visibility.PUBLIC, pageable);
+            pokemonIdxs = Set.of(pokemonIdx);
         } else if (keyword != null && !keyword.trim().isEmpty()) {
-            entityPage = pokeSampleRepository.findByPokemonNameContainingAndIsDeletedFalseAndVisibilityOrderByRegdateDesc(
-                    keyword, Visibility.PUBLIC, pageable);
-        } else {
-            entityPage = pokeSampleRepository.findAllByIsDeletedFalseAndVisibilityOrderByRegdateDesc(
-                    Visibility.PUBLIC, pageable);
+            // 검색어 -> 도감 번호 목록 (메모리 색인), 일치하는 이름이 없으면 DB 조회 없이 빈 페이지
+            pokemonIdxs = pokemonNameIndex.findPokemonIdxs(keyword);
+            if (pokemonIdxs.isEmpty()) {
+                return Page.empty(pageable);
+            }
         }
 
-        return entityPage.map(entity -> {
-            String nickname = memberRepository.findNicknameByIdx(entity.getMemberIdx()).orElse("알 수 없음");
+        Page<PokeSampleSummary> summaryPage = pokeSampleRepository.findPublicSummaries(pokemonIdxs, pageable);
+        markLiked(summaryPage.getContent(), currentProviderId);
+        return summaryPage;
+    }
 
-            long commentCount = commentRepository.countByPokeSampleIdxAndIsDeletedFalse(entity.getIdx());
+    // 3-1. 통합 목록 커서 조회 (PUBLIC만, OFFSET/COUNT 없이 afterIdx 다음부터)
+    public CursorResponse<PokeSampleSummary> getSamplesByCursor(Integer pokemonIdx, String keyword, Long afterIdx, int size,
+                                                                String currentProviderId) {
+        // 조회할 도감 번호 (null이면 전체, 검색어와 일치하는 이름이 없으면 DB 조회 없이 빈 응답)
+        Set<Integer> pokemonIdxs = null;
+        if (pokemonIdx != null) {
+            pokemonIdxs = Set.of(pokemonIdx);
+        } else if (keyword != null && !keyword.trim().isEmpty()) {
+            pokemonIdxs = pokemonNameIndex.findPokemonIdxs(keyword);
+            if (pokemonIdxs.isEmpty()) {
+                return CursorResponse.of(List.of(), size, PokeSampleSummary::getIdx);
+            }
+        }
 
-            return PokeSampleResponseDTO.fromEntity(entity, nickname, false, false, commentCount);
-        });
+        // 다음 페이지 존재 여부 판단을 위해 size + 1개 조회
+        List<PokeSampleSummary> rows = pokeSampleRepository.findPublicSummariesAfter(pokemonIdxs, afterIdx, size + 1);
+        markLiked(rows, currentProviderId);
+
+        return CursorResponse.of(rows, size, PokeSampleSummary::getIdx);
+    }
+
+    // 3-4. 노력치 하한 커서 조회 (예: 스피드 노력치 252 이상, PUBLIC만, idx 내림차순)
+    // 하한만 받음 (상한은 항상 252), 0은 모든 샘플이라 전체 정렬이 되므로 받지 않음
+    public CursorResponse<PokeSampleSummary> getSamplesByEv(PokeStat stat, int minEv, Long afterIdx, int size,
+                                                            String currentProviderId) {
+        if (minEv < 1 || minEv > StatSpreadCodec.MAX_EV) {
+            throw new IllegalArgumentException("노력치 하한은 1 ~ " + StatSpreadCodec.MAX_EV + " 사이여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부 판단을 위해 size + 1개 조회
+        List<PokeSampleSummary> rows = pokeSampleRepository.findPublicSummariesByEv(stat, minEv, afterIdx, size + 1);
+        markLiked(rows, currentProviderId);
+
+        return CursorResponse.of(rows, size, PokeSampleSummary::getIdx);
+    }
+
+    // 3-2. 필터 검색 (테라 타입/도구/성격/특성/기술/포켓몬, 메모리 비트맵 색인으로 idx를 찾고 해당 샘플만 조회)
+    public SampleFacetResponse searchByFacets(Map<SampleFacetIndex.Facet, List<String>> filters, int page, int size,
+                                              String currentProviderId) {
+        SampleFacetIndex.Hits hits = sampleFacetIndex.search(filters, page, size, FACET_VALUE_LIMIT);
+
+        List<PokeSampleSummary> content = loadPublicInOrder(hits.sampleIdxs());
+        markLiked(content, currentProviderId);
+
+        Map<String, List<SampleFacetResponse.FacetCount>> facets = new LinkedHashMap<>();
+        hits.facets().forEach((facet, counts) -> facets.put(facet.getParam(), counts.stream()
+                .map(c -> SampleFacetResponse.FacetCount.builder().value(c.value()).count(c.count()).build())
+                .collect(Collectors.toList())));
+
+        return SampleFacetResponse.builder()
+                .content(content)
+                .totalElements(hits.total())
+                .page(page)
+                .size(size)
+                .facets(facets)
+                .build();
+    }
+
+    // 3-3. 비슷한 샘플 (기술/도구/특성 기준 가중 Jaccard 유사도 순, 메모리 색인에서 idx를 찾고 해당 샘플만 조회)
+    public List<PokeSampleSummary> getSimilarSamples(Long idx, int size, String currentProviderId) {
+        List<Long> similarIdxs = sampleFacetIndex.similar(idx, size);
+        if (similarIdxs.isEmpty()) {
+            return List.of();
+        }
+
+        List<PokeSampleSummary> rows = loadPublicInOrder(similarIdxs);
+        markLiked(rows, currentProviderId);
+        return rows;
+    }
+
+    // idx 목록 순서대로 공개 샘플 요약 조회 (IN 조회는 순서를 보장하지 않음, 그사이 삭제/비공개된 샘플은 빠짐)
+    private List<PokeSampleSummary> loadPublicInOrder(List<Long> idxs) {
+        if (idxs.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PokeSampleSummary> summaries = pokeSampleRepository.findPublicSummariesByIdxIn(idxs).stream()
+                .collect(Collectors.toMap(PokeSampleSummary::getIdx, Function.identity()));
+        return idxs.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // 목록의 좋아요 여부 (회원별 id 집합, 비로그인이면 모두 false)
+    private void markLiked(List<PokeSampleSummary> rows, String currentProviderId) {
+        MemberReactionIndex.IdSet liked = memberReactionIndex.get(MemberReactionIndex.Kind.SAMPLE_LIKE, currentProviderId);
+        rows.forEach(row -> row.setLiked(liked.contains(row.getIdx())));
     }
 
     // 4. 수정 (Update)
@@ -106,10 +230,12 @@ public class PokeSampleService {
 
         entity.updateSampleInfo(
                 dto.getTeraType(), dto.getItem(), dto.getNature(), dto.getAbility(),
-                dto.getIvs(), dto.getEvs(),
                 dto.getMove1(), dto.getMove2(), dto.getMove3(), dto.getMove4(),
                 dto.getDescription(), dto.getVisibility()
         );
+        entity.changeStats(StatSpreadCodec.parseIvs(dto.getIvs()), StatSpreadCodec.parseEvs(dto.getEvs()));
+        bestSampleLeaderboard.setVisibleAfterCommit(idx, entity.getVisibility() == Visibility.PUBLIC);
+        sampleFacetIndex.indexAfterCommit(entity);
 
         return entity.getIdx();
     }
@@ -125,116 +251,68 @@ public class PokeSampleService {
         }
 
         entity.changeDeleted(true);
+        bestSampleLeaderboard.removeAfterCommit(idx);
+        sampleFacetIndex.removeAfterCommit(idx);
     }
 
-    // 6. 좋아요 토글
+    /**
+     * 6. 좋아요 토글. 유니크 키(uq_sample_member)와 영향받은 행 수로 판단합니다. (엔티티 조회 없음)
+     * 요청에서는 좋아요 행 + 이벤트만 쓰고, like_count와 시간대별 집계는 LikeEventAggregator가 모아서 반영합니다.
+     * @return 토글 후 좋아요 상태
+     */
     @Transactional
     public boolean toggleLike(Long sampleIdx, String currentProviderId) {
-        PokeSampleEntity sample = pokeSampleRepository.findById(sampleIdx)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 샘플입니다."));
-
-        MemberEntity member = memberRepository.findByProviderId(currentProviderId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        // 1. 좋아요 시도 (0행이면 이미 좋아요한 상태)
+        if (likeRepository.insertIgnore(sampleIdx, currentProviderId) == 1) {
+            appendLikeEvent(sampleIdx, 1);
+            memberReactionIndex.recordAfterCommit(MemberReactionIndex.Kind.SAMPLE_LIKE, currentProviderId, sampleIdx, true);
+            return true;
+        }
 
-        if (likeRepository.existsByPokeSampleAndMemberIdx(sample, member.getIdx())) {
-            likeRepository.deleteByPokeSampleAndMemberIdx(sample, member.getIdx());
-            sample.decreaseLikeCount();
+        // 2. 이미 좋아요했다면 -> 취소
+        if (likeRepository.deleteByProviderIdAndSampleIdx(sampleIdx, currentProviderId) == 1) {
+            appendLikeEvent(sampleIdx, -1);
+            memberReactionIndex.recordAfterCommit(MemberReactionIndex.Kind.SAMPLE_LIKE, currentProviderId, sampleIdx, false);
             return false;
-        } else {
-            PokeSampleLikeEntity like = PokeSampleLikeEntity.builder()
-                    .pokeSample(sample)
-                    .memberIdx(member.getIdx())
-                    .build();
-            likeRepository.save(like);
-            sample.increaseLikeCount();
-            return true;
         }
-    }
 
-    // 7. 내 샘플 목록 조회 (PRIVATE 포함)
-    public Page<PokeSampleResponseDTO> getMySamples(long memberIdx, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<PokeSampleEntity> entityPage = pokeSampleRepository.findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc(
-                memberIdx, pageable);
+        // 3. 둘 다 0행: 샘플(삭제됨 포함) 또는 회원이 없음
+        throw new IllegalArgumentException("존재하지 않는 샘플이거나 사용자입니다.");
+    }
 
-        return entityPage.map(entity -> {
-            String nickname = memberRepository.findNicknameByIdx(entity.getMemberIdx()).orElse("나");
+    // 좋아요 이벤트 추가 + 인기 샘플 랭킹 반영/구독자에게 현재 좋아요 수 전달 (커밋 후)
+    private void appendLikeEvent(long sampleIdx, int delta) {
+        likeEventAggregator.append(sampleIdx, delta);
+        bestSampleLeaderboard.recordLikeAfterCommit(sampleIdx, delta);
+        liveUpdatePublisher.publishSampleCountAfterCommit(LiveUpdateMessage.Type.LIKE_CHANGED, sampleIdx,
+                likeEventAggregator::currentCount);
+    }
 
-            long commentCount = commentRepository.countByPokeSampleIdxAndIsDeletedFalse(entity.getIdx());
+    // 6-1. 현재 좋아요 수 (like_count + 반영 대기 이벤트, 실시간 구독 시작/재연결 시 재조회용, 없으면 null)
+    public Long getLikeCount(long sampleIdx) {
+        return likeEventAggregator.currentCount(sampleIdx);
+    }
 
-            return PokeSampleResponseDTO.fromEntity(entity, nickname, false, true, commentCount);
-        });
+    // 7. 내 샘플 목록 조회 (PRIVATE 포함)
+    public Page<PokeSampleSummary> getMySamples(long memberIdx, String currentProviderId, int page, int size) {
+        Page<PokeSampleSummary> summaryPage = pokeSampleRepository.findMemberSummaries(memberIdx, PageRequest.of(page, size));
+        markLiked(summaryPage.getContent(), currentProviderId);
+        summaryPage.forEach(row -> row.setMine(true));
+        return summaryPage;
     }
 
     // 8. 내가 좋아요한 샘플 목록 조회
-    public Page<PokeSampleResponseDTO> getLikedSamples(long memberIdx, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<PokeSampleLikeEntity> likePage = likeRepository.findByMemberIdxOrderByRegdateDesc(memberIdx, pageable);
-
-        return likePage.map(like -> {
-            PokeSampleEntity sample = like.getPokeSample();
-            String nickname = memberRepository.findNicknameByIdx(sample.getMemberIdx()).orElse("알 수 없음");
-            boolean isMine = sample.getMemberIdx().equals(memberIdx);
-
-            long commentCount = commentRepository.countByPokeSampleIdxAndIsDeletedFalse(sample.getIdx());
-
-            return PokeSampleResponseDTO.fromEntity(sample, nickname, true, isMine, commentCount);
+    public Page<PokeSampleSummary> getLikedSamples(long memberIdx, int page, int size) {
+        Page<PokeSampleSummary> summaryPage = pokeSampleRepository.findLikedSummaries(memberIdx, PageRequest.of(page, size));
+        summaryPage.forEach(row -> {
+            row.setLiked(true);
+            row.setMine(row.getMemberIdx().equals(memberIdx));
         });
+        return summaryPage;
     }
 
-    // 9. 인기 샘플 조회 (기간별)
+    // 9. 인기 샘플 조회 (기간별: DAILY, WEEKLY, MONTHLY, ALL / 메모리 랭킹 스냅샷, DB 접근 없음)
     public List<PokeSampleResponseDTO> getBestSamples(String period) {
-        LocalDateTime startDate;
-
-        // 기간 설정 로직
-        switch (period.toUpperCase()) {
-            case "DAILY":
-                startDate = LocalDateTime.now().minusDays(1); // 최근 24시간
-                break;
-            case "MONTHLY":
-                startDate = LocalDateTime.now().minusMonths(1); // 최근 1달
-                break;
-            case "ALL":
-                startDate = LocalDateTime.of(2000, 1, 1, 0, 0); // 전체 (사실상 모든 기간)
-                break;
-            case "WEEKLY":
-            default:
-                startDate = LocalDateTime.now().minusWeeks(1); // 기본: 최근 1주일
-                break;
-        }
-
-        // 2. 좋아요 테이블에서 상위 3개 ID 조회
-        Pageable top3 = PageRequest.of(0, 3);
-        List<Long> topSampleIds = likeRepository.findTopSampleIdsByDateAfter(startDate, top3);
-
-        // 3. ID 리스트로 샘플 엔티티 조회
-        List<PokeSampleResponseDTO> bestSamples = new ArrayList<>();
-
-        for (Long id : topSampleIds) {
-            pokeSampleRepository.findByIdxAndIsDeletedFalse(id).ifPresent(entity -> {
-                if (entity.getVisibility() == Visibility.PUBLIC) {
-                    String nickname = memberRepository.findNicknameByIdx(entity.getMemberIdx()).orElse("알 수 없음");
-                    long commentCount = commentRepository.countByPokeSampleIdxAndIsDeletedFalse(entity.getIdx());
-                    bestSamples.add(PokeSampleResponseDTO.fromEntity(entity, nickname, false, false, commentCount));
-                }
-            });
-        }
-
-        // 4. 만약 기간 내 데이터가 부족하면? -> 전체 기간 베스트로 채우기 (Fallback)
-        if (bestSamples.size() < 3) {
-            List<PokeSampleEntity> fallback = pokeSampleRepository.findTop3ByIsDeletedFalseAndVisibilityOrderByLikeCountDesc(Visibility.PUBLIC);
-            for (PokeSampleEntity entity : fallback) {
-                if (bestSamples.size() >= 3) break;
-                // 중복 방지
-                boolean exists = bestSamples.stream().anyMatch(dto -> dto.getIdx().equals(entity.getIdx()));
-                if (!exists) {
-                    String nickname = memberRepository.findNicknameByIdx(entity.getMemberIdx()).orElse("알 수 없음");
-                    long commentCount = commentRepository.countByPokeSampleIdxAndIsDeletedFalse(entity.getIdx());
-                    bestSamples.add(PokeSampleResponseDTO.fromEntity(entity, nickname, false, false, commentCount));
-                }
-            }
-        }
-
-        return bestSamples;
+        return bestSampleLeaderboard.top(BestSampleLeaderboard.Period.from(period));
     }
 }
\ No newline at end of file
@@ -0,0 +1,369 @@
+package com.youngjin.mcl_project.service;
+
+import com.youngjin.mcl_project.dto.PokemonNameResponse;
+import com.youngjin.mcl_project.util.HangulUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * 포켓몬 이름 검색 색인 (자동완성, 샘플 검색어 -> 도감 번호 목록).
+ *
+ * - 이름 목록은 pokemon/pokemon-names.tsv(한국어/영어 이름)와 샘플에 등록된 (도감 번호, 이름)을 합쳐 만듭니다.
+ * - 한국어 이름, 영어 이름, 초성("ㅍㅋㅊ")의 모든 접미사를 정렬 배열에 넣어 두고 이진 탐색으로 접두사 범위를 찾습니다.
+ *   (접미사의 접두사 = 부분 문자열이므로 기존 LIKE '%키워드%'와 같은 결과를 DB 접근 없이 얻음)
+ * - 부분 일치가 없으면 BK-tree로 편집 거리 2 이내의 이름을 찾습니다. 한글은 자모 단위로 비교합니다. ("피카추" -> 피카츄)
+ * - 스냅샷은 불변이며 통째로 교체합니다. 샘플 등록 시 처음 보는 (도감 번호, 이름)이면 커밋 후 다시 만들고,
+ *   다른 서버에서 등록된 이름은 주기적으로 DB에서 다시 읽어 맞춥니다.
+ */
+@Slf4j
+@Service
+public class PokemonNameIndex implements ApplicationRunner {
+
+    private static final String NAMES_RESOURCE = "pokemon/pokemon-names.tsv";
+
+    private final JdbcTemplate jdbcTemplate;
+    // 한국어 이름 -> 영어 이름 (리소스, 시작 시 한 번 읽음)
+    private final Map<String, String> engByKor;
+    private final AtomicReference<Snapshot> snapshot;
+
+    public PokemonNameIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.engByKor = loadNameResource();
+        this.snapshot = new AtomicReference<>(Snapshot.build(engByKor, Map.of()));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    /**
+     * 샘플에 등록된 (도감 번호, 이름)을 다시 읽어 스냅샷 교체 (idx_sample_pokemon_name 커버링)
+     * 설정: pokemon-name.reload-interval-ms 간격 (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${pokemon-name.reload-interval-ms:600000}", initialDelayString = "${pokemon-name.reload-interval-ms:600000}")
+    public synchronized void reload() {
+        Map<String, Set<Integer>> idxsByName = new HashMap<>();
+        jdbcTemplate.query("SELECT DISTINCT pokemon_idx, pokemon_name FROM poke_sample",
+                rs -> {
+                    idxsByName.computeIfAbsent(rs.getString("pokemon_name"), k -> new TreeSet<>()).add(rs.getInt("pokemon_idx"));
+                });
+
+        Snapshot next = Snapshot.build(engByKor, idxsByName);
+        snapshot.set(next);
+        log.info("포켓몬 이름 색인 갱신: 이름 {}개, 샘플 등록 이름 {}개", next.entries.length, idxsByName.size());
+    }
+
+    /**
+     * 샘플 등록 시 이름 반영 (트랜잭션 안이면 커밋 후, 이미 아는 조합이면 아무것도 하지 않음)
+     */
+    public void registerAfterCommit(Integer pokemonIdx, String pokemonName) {
+        if (pokemonIdx == null || pokemonName == null || pokemonName.isBlank()) {
+            return;
+        }
+        runAfterCommit(() -> register(pokemonIdx, pokemonName));
+    }
+
+    /**
+     * 자동완성: 정확히 일치 > 이름 앞부분 일치 > 중간 일치 > 오타 허용 순, 같으면 짧은 이름 먼저
+     */
+    public List<PokemonNameResponse> suggest(String query, int limit) {
+        Snapshot current = snapshot.get();
+        Map<Integer, Integer> ranks = current.match(query);
+
+        return ranks.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<Integer, Integer> e) -> e.getValue())
+                        .thenComparingInt(e -> current.entries[e.getKey()].korName().length())
+                        .thenComparing(e -> current.entries[e.getKey()].korName()))
+                .limit(limit)
+                .map(e -> current.entries[e.getKey()].toResponse())
+                .toList();
+    }
+
+    /**
+     * 검색어에 맞는 이름들의 도감 번호 (샘플이 등록된 이름만, 없으면 빈 집합)
+     */
+    public Set<Integer> findPokemonIdxs(String keyword) {
+        Snapshot current = snapshot.get();
+        Set<Integer> result = new TreeSet<>();
+        current.match(keyword).keySet().forEach(entry -> {
+            for (int pokemonIdx : current.entries[entry].pokemonIdxs()) {
+                result.add(pokemonIdx);
+            }
+        });
+        return result;
+    }
+
+    private synchronized void register(int pokemonIdx, String pokemonName) {
+        Snapshot current = snapshot.get();
+        if (current.idxsByName.getOrDefault(pokemonName, Set.of()).contains(pokemonIdx)) {
+            return;
+        }
+
+        Map<String, Set<Integer>> idxsByName = new HashMap<>();
+        current.idxsByName.forEach((name, idxs) -> idxsByName.put(name, new TreeSet<>(idxs)));
+        idxsByName.computeIfAbsent(pokemonName, k -> new TreeSet<>()).add(pokemonIdx);
+        snapshot.set(Snapshot.build(engByKor, idxsByName));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // "한국어 이름<TAB>영어 이름" 한 줄씩, #으로 시작하는 줄은 주석
+    private static Map<String, String> loadNameResource() {
+        Map<String, String> result = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(NAMES_RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (columns.length == 2) {
+                    result.put(columns[0].trim(), columns[1].trim());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("포켓몬 이름 목록을 읽을 수 없습니다: " + NAMES_RESOURCE, e);
+        }
+        return result;
+    }
+
+    record Entry(String korName, String engName, int[] pokemonIdxs) {
+
+        PokemonNameResponse toResponse() {
+            return PokemonNameResponse.builder()
+                    .korName(korName)
+                    .engName(engName)
+                    .pokemonIdx(pokemonIdxs.length == 0 ? null : pokemonIdxs[0])
+                    .build();
+        }
+    }
+
+    /**
+     * 불변 색인 스냅샷. 접미사 배열(keys, 오름차순)과 오타 검색용 BK-tree로 구성됩니다.
+     */
+    static final class Snapshot {
+
+        // 일치 순위 (작을수록 앞)
+        private static final int EXACT = 0;
+        private static final int PREFIX = 1;
+        private static final int INFIX = 2;
+        private static final int FUZZY = 3; // + 편집 거리
+
+        private final Map<String, Set<Integer>> idxsByName;
+        private final Entry[] entries;
+        private final String[] keys;          // 이름 키의 접미사
+        private final int[] keyEntries;       // keys[i]가 속한 이름 번호
+        private final boolean[] keyFromStart; // keys[i]가 키 전체(접미사 시작 위치 0)인지
+        private final BkTree fuzzy;
+
+        private Snapshot(Map<String, Set<Integer>> idxsByName, Entry[] entries, String[] keys, int[] keyEntries,
+                         boolean[] keyFromStart, BkTree fuzzy) {
+            this.idxsByName = idxsByName;
+            this.entries = entries;
+            this.keys = keys;
+            this.keyEntries = keyEntries;
+            this.keyFromStart = keyFromStart;
+            this.fuzzy = fuzzy;
+        }
+
+        static Snapshot build(Map<String, String> engByKor, Map<String, Set<Integer>> idxsByName) {
+            SortedSet<String> names = new TreeSet<>(engByKor.keySet());
+            names.addAll(idxsByName.keySet());
+
+            Entry[] entries = new Entry[names.size()];
+            List<Object[]> suffixes = new ArrayList<>(); // {suffix, entry, fromStart}
+            BkTree fuzzy = new BkTree();
+
+            int entry = 0;
+            for (String name : names) {
+                int[] idxs = idxsByName.getOrDefault(name, Set.of()).stream().mapToInt(Integer::intValue).sorted().toArray();
+                String eng = engByKor.get(name);
+                entries[entry] = new Entry(name, eng, idxs);
+
+                String kor = HangulUtil.normalize(name);
+                Set<String> nameKeys = new LinkedHashSet<>();
+                if (!kor.isEmpty()) {
+                    nameKeys.add(kor);
+                    nameKeys.add(HangulUtil.chosung(kor));
+                    fuzzy.add(HangulUtil.decompose(kor), entry);
+                }
+                if (eng != null && !HangulUtil.normalize(eng).isEmpty()) {
+                    nameKeys.add(HangulUtil.normalize(eng));
+                    fuzzy.add(HangulUtil.normalize(eng), entry);
+                }
+
+                for (String key : nameKeys) {
+                    for (int offset = 0; offset < key.length(); offset++) {
+                        suffixes.add(new Object[]{key.substring(offset), entry, offset == 0});
+                    }
+                }
+                entry++;
+            }
+
+            suffixes.sort(Comparator.comparing(s -> (String) s[0]));
+            String[] keys = new String[suffixes.size()];
+            int[] keyEntries = new int[suffixes.size()];
+            boolean[] keyFromStart = new boolean[suffixes.size()];
+            for (int i = 0; i < suffixes.size(); i++) {
+                keys[i] = (String) suffixes.get(i)[0];
+                keyEntries[i] = (int) suffixes.get(i)[1];
+                keyFromStart[i] = (boolean) suffixes.get(i)[2];
+            }
+
+            Map<String, Set<Integer>> copy = new HashMap<>();
+            idxsByName.forEach((name, idxs) -> copy.put(name, Set.copyOf(idxs)));
+            return new Snapshot(Map.copyOf(copy), entries, keys, keyEntries, keyFromStart, fuzzy);
+        }
+
+        /**
+         * 검색어와 일치하는 이름 번호 -> 순위.
+         * 부분 일치가 하나도 없을 때만 오타 허용 검색을 합니다. (짧은 검색어는 오타 검색 안 함)
+         */
+        Map<Integer, Integer> match(String query) {
+            Map<Integer, Integer> ranks = new HashMap<>();
+            String q = HangulUtil.normalize(query);
+            if (q.isEmpty()) {
+                return ranks;
+            }
+
+            for (int i = lowerBound(q); i < keys.length && keys[i].startsWith(q); i++) {
+                int rank = !keyFromStart[i] ? INFIX : keys[i].length() == q.length() ? EXACT : PREFIX;
+                ranks.merge(keyEntries[i], rank, Math::min);
+            }
+
+            if (ranks.isEmpty()) {
+                String fuzzyKey = HangulUtil.decompose(q);
+                int maxDistance = fuzzyKey.length() < 4 ? 0 : fuzzyKey.length() < 7 ? 1 : 2;
+                if (maxDistance > 0) {
+                    fuzzy.search(fuzzyKey, maxDistance, (entry, distance) -> ranks.merge(entry, FUZZY + distance, Math::min));
+                }
+            }
+            return ranks;
+        }
+
+        // q 이상인 첫 위치
+        private int lowerBound(String q) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(q) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    /**
+     * 편집 거리(Levenshtein) BK-tree. 자식은 부모와의 거리별로 나뉘므로
+     * 검색 시 |d(질의, 노드) - 간선 거리| <= maxDistance 인 자식만 내려갑니다.
+     */
+    static final class BkTree {
+
+        private Node root;
+
+        void add(String key, int entry) {
+            if (root == null) {
+                root = new Node(key, entry);
+                return;
+            }
+            Node node = root;
+            while (true) {
+                int distance = distance(key, node.key);
+                if (distance == 0) {
+                    node.entries.add(entry);
+                    return;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(key, entry));
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        void search(String query, int maxDistance, BiConsumer<Integer, Integer> consumer) {
+            if (root == null) {
+                return;
+            }
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                int distance = distance(query, node.key);
+                if (distance <= maxDistance) {
+                    for (int entry : node.entries) {
+                        consumer.accept(entry, distance);
+                    }
+                }
+                node.children.forEach((edge, child) -> {
+                    if (Math.abs(edge - distance) <= maxDistance) {
+                        stack.push(child);
+                    }
+                });
+            }
+        }
+
+        static int distance(String a, String b) {
+            int[] prev = new int[b.length() + 1];
+            int[] curr = new int[b.length() + 1];
+            for (int j = 0; j <= b.length(); j++) {
+                prev[j] = j;
+            }
+            for (int i = 1; i <= a.length(); i++) {
+                curr[0] = i;
+                for (int j = 1; j <= b.length(); j++) {
+                    int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                    curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+                }
+                int[] tmp = prev;
+                prev = curr;
+                curr = tmp;
+            }
+            return prev[b.length()];
+        }
+
+        private static final class Node {
+            private final String key;
+            private final List<Integer> entries = new ArrayList<>(1);
+            private final Map<Integer, Node> children = new HashMap<>();
+
+            private Node(String key, int entry) {
+                this.key = key;
+                this.entries.add(entry);
+            }
+        }
+    }
+}
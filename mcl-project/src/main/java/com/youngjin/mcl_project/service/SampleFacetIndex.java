@@ -0,0 +1,594 @@
+package com.youngjin.mcl_project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.youngjin.mcl_project.entity.PokeSampleEntity;
+import com.youngjin.mcl_project.enums.Visibility;
+import com.youngjin.mcl_project.util.CompressedBitmap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 공개 샘플 필터(테라 타입, 도구, 성격, 특성, 기술, 포켓몬)용 메모리 비트맵 색인.
+ *
+ * - 샘플마다 내부 문서 번호(0부터 연속)를 붙이고, 필터 값마다 해당 문서 번호 집합을 CompressedBitmap으로 보관합니다.
+ * - 같은 필터 안의 값은 OR, 필터끼리는 AND입니다. 기술은 한 샘플이 여러 개를 가지므로 선택한 기술을 모두 가진 샘플(AND)만 찾습니다.
+ * - 결과와 함께 필터별 값 개수를 돌려줍니다. 각 필터의 개수는 그 필터를 뺀 나머지 조건 기준입니다. (다른 값을 골랐을 때의 결과 수)
+ * - 샘플 등록/수정/삭제 트랜잭션이 커밋되면 해당 샘플만 다시 색인하고, 다른 서버의 변경은 주기적인 전체 재구성으로 맞춥니다.
+ * - 문서 번호는 샘플 idx 순서로 붙이므로 큰 번호부터 읽으면 최신 샘플 순입니다.
+ *   비공개 샘플도 번호만 미리 붙여 두어, 나중에 공개되면 최신 샘플이 아니라 원래 idx 순서 자리에 나옵니다.
+ *   (다른 서버에서 비공개로 등록된 뒤 다음 재구성 전에 이 서버에서 공개되면 새 번호를 받아 재구성 전까지는 최신으로 보입니다)
+ * - 같은 색인으로 "비슷한 샘플"(가중 Jaccard 유사도 상위 K개)도 찾습니다. 결과는 샘플별로 캐시하고 그 샘플이 바뀌면 지웁니다.
+ */
+@Slf4j
+@Service
+public class SampleFacetIndex implements ApplicationRunner {
+
+    public enum Facet {
+        POKEMON("pokemon", false, 3.0, false),
+        TERA_TYPE("teraType", false, 1.0, false),
+        ITEM("item", false, 1.5, true),
+        NATURE("nature", false, 0.5, false),
+        ABILITY("ability", false, 1.5, true),
+        MOVE("move", true, 2.0, true);
+
+        private final String param;
+        private final boolean matchAll;         // 선택한 값을 모두 가져야 하는지 (기술)
+        private final double similarityWeight;  // 유사도 계산 시 값 가중치 (희귀한 값일수록 IDF로 더 커짐)
+        private final boolean similarCandidate; // 이 값이 하나라도 같은 샘플을 유사도 후보로 삼는지
+
+        Facet(String param, boolean matchAll, double similarityWeight, boolean similarCandidate) {
+            this.param = param;
+            this.matchAll = matchAll;
+            this.similarityWeight = similarityWeight;
+            this.similarCandidate = similarCandidate;
+        }
+
+        public String getParam() {
+            return param;
+        }
+    }
+
+    private static final int REBUILD_CHUNK_SIZE = 5000;
+    // 비슷한 샘플은 이 개수만큼 계산해서 캐시하고, 요청 크기만큼 잘라서 돌려줌
+    public static final int MAX_SIMILAR = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Cache<Long, List<Long>> similarCache;
+
+    private FacetIndex index = new FacetIndex();
+    // 전체 재구성 중에 들어온 변경 (새 색인에 다시 적용, 재구성 중이 아니면 null)
+    private List<SampleDoc> changesDuringRebuild;
+
+    public SampleFacetIndex(JdbcTemplate jdbcTemplate,
+                            @Value("${sample-facet.similar-cache-size:10000}") long similarCacheSize,
+                            @Value("${sample-facet.similar-expire-after-write-minutes:10}") long similarExpireAfterWriteMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.similarCache = Caffeine.newBuilder()
+                .maximumSize(similarCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(similarExpireAfterWriteMinutes))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    /**
+     * DB에서 삭제되지 않은 샘플을 idx 구간별로 읽어 새 색인을 만든 뒤 교체합니다. (만드는 동안에도 기존 색인으로 검색)
+     * 비공개 샘플은 문서 번호만 붙이고 색인하지 않습니다.
+     * 설정: sample-facet.rebuild-interval-ms 간격 (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${sample-facet.rebuild-interval-ms:600000}", initialDelayString = "${sample-facet.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        FacetIndex next = new FacetIndex();
+        try {
+            long lastIdx = 0;
+            while (true) {
+                List<SampleDoc> chunk = jdbcTemplate.query(
+                        "SELECT idx, visibility, pokemon_name, tera_type, item, nature, ability, move1, move2, move3, move4 FROM poke_sample " +
+                                "WHERE idx > ? AND is_deleted = 0 ORDER BY idx LIMIT ?",
+                        (rs, rowNum) -> new SampleDoc(rs.getLong("idx"), Visibility.PUBLIC.name().equals(rs.getString("visibility")), new String[][]{
+                                {rs.getString("pokemon_name")},
+                                {rs.getString("tera_type")},
+                                {rs.getString("item")},
+                                {rs.getString("nature")},
+                                {rs.getString("ability")},
+                                {rs.getString("move1"), rs.getString("move2"), rs.getString("move3"), rs.getString("move4")}
+                        }),
+                        lastIdx, REBUILD_CHUNK_SIZE);
+                chunk.forEach(next::apply);
+                if (chunk.size() < REBUILD_CHUNK_SIZE) {
+                    break;
+                }
+                lastIdx = chunk.get(chunk.size() - 1).idx();
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(next::apply);
+            changesDuringRebuild = null;
+            index = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        similarCache.invalidateAll();
+        log.info("샘플 필터 색인 재구성: 문서 {}건 ({}ms)", next.live.cardinality(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 샘플 색인 (트랜잭션 안이면 커밋 후 반영, 공개 샘플이 아니면 색인에서 제거)
+     */
+    public void indexAfterCommit(PokeSampleEntity entity) {
+        SampleDoc doc = SampleDoc.from(entity);
+        runAfterCommit(() -> apply(doc));
+    }
+
+    public void removeAfterCommit(long idx) {
+        SampleDoc doc = new SampleDoc(idx, false, null);
+        runAfterCommit(() -> apply(doc));
+    }
+
+    /**
+     * 필터 검색 (최신 샘플 순)
+     *
+     * @param filters    필터별 선택 값 (비어 있으면 전체 공개 샘플)
+     * @param facetLimit 필터별로 돌려줄 값 개수 (개수 많은 순)
+     */
+    public Hits search(Map<Facet, List<String>> filters, int page, int size, int facetLimit) {
+        lock.readLock().lock();
+        try {
+            return index.search(filters, page, size, facetLimit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 비슷한 공개 샘플 idx (유사도 높은 순, 최대 MAX_SIMILAR개). 공개 샘플이 아니면 빈 목록.
+     * 샘플별로 캐시하고, 그 샘플이 바뀌거나 전체 재구성되면 다시 계산합니다.
+     * 다른 샘플의 변경은 sample-facet.similar-expire-after-write-minutes 안에 반영됩니다.
+     */
+    public List<Long> similar(long sampleIdx, int size) {
+        List<Long> similar = similarCache.get(sampleIdx, key -> {
+            lock.readLock().lock();
+            try {
+                return index.similar(key, MAX_SIMILAR);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+        return similar.size() > size ? similar.subList(0, size) : similar;
+    }
+
+    // 문서 수, 필터 값 수, 비트맵 메모리 (관리자 API에서 조회)
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("documents", index.live.cardinality());
+            result.put("docIds", index.sampleIdxByDoc.size());
+            Map<String, Integer> values = new LinkedHashMap<>();
+            for (Facet facet : Facet.values()) {
+                values.put(facet.param, index.valueNames.get(facet).size());
+            }
+            result.put("values", values);
+            result.put("bitmapBytes", index.sizeInBytes());
+
+            CacheStats similarStats = similarCache.stats();
+            result.put("similarCacheSize", similarCache.estimatedSize());
+            result.put("similarHitRate", similarStats.hitRate());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(SampleDoc doc) {
+        lock.writeLock().lock();
+        try {
+            index.apply(doc);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // 캐시 계산이 읽기 잠금을 기다리는 중일 수 있으므로 쓰기 잠금을 놓은 뒤에 지움
+        similarCache.invalidate(doc.idx());
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 색인할 샘플 한 건. values는 Facet 순서대로의 값 배열 (삭제된 샘플이면 null)
+     */
+    record SampleDoc(long idx, boolean visible, String[][] values) {
+
+        static SampleDoc from(PokeSampleEntity entity) {
+            boolean visible = entity.getVisibility() == Visibility.PUBLIC && !entity.isDeleted();
+            return new SampleDoc(entity.getIdx(), visible, new String[][]{
+                    {entity.getPokemonName()},
+                    {entity.getTeraType()},
+                    {entity.getItem()},
+                    {entity.getNature()},
+                    {entity.getAbility()},
+                    {entity.getMove1(), entity.getMove2(), entity.getMove3(), entity.getMove4()}
+            });
+        }
+    }
+
+    public record FacetCount(String value, int count) {
+    }
+
+    public record Hits(int total, List<Long> sampleIdxs, Map<Facet, List<FacetCount>> facets) {
+    }
+
+    /**
+     * 색인 본체 (잠금은 SampleFacetIndex가 담당)
+     */
+    static final class FacetIndex {
+
+        // 비슷한 샘플 후보를 이 문서 수 단위(샤드)로 나눠 병렬로 점수 계산
+        private static final int SIMILAR_SHARD_SIZE = 16384;
+
+        // 기준 문서 수가 전체의 1/DOC_SCAN_RATIO 이하이면 값별 비트맵 교집합 대신 문서의 값을 직접 셈
+        // (교집합은 필터 값 전체의 색인 크기만큼, 직접 세기는 기준 문서 수만큼 비용이 듦)
+        private static final int DOC_SCAN_RATIO = 2;
+
+        private final Map<Long, Integer> docBySampleIdx = new HashMap<>();
+        private final List<Long> sampleIdxByDoc = new ArrayList<>();
+        private final List<int[][]> valuesByDoc = new ArrayList<>(); // 문서 -> Facet별 값 번호 (색인에 없으면 null)
+        private final CompressedBitmap live = new CompressedBitmap();
+
+        private final Map<Facet, Map<String, Integer>> valueIds = new EnumMap<>(Facet.class);
+        private final Map<Facet, List<String>> valueNames = new EnumMap<>(Facet.class);
+        private final Map<Facet, List<CompressedBitmap>> bitmaps = new EnumMap<>(Facet.class);
+
+        FacetIndex() {
+            for (Facet facet : Facet.values()) {
+                valueIds.put(facet, new HashMap<>());
+                valueNames.put(facet, new ArrayList<>());
+                bitmaps.put(facet, new ArrayList<>());
+            }
+        }
+
+        void apply(SampleDoc sample) {
+            Integer existing = docBySampleIdx.get(sample.idx());
+            if (existing != null) {
+                remove(existing);
+            }
+            // 처음 보는 비공개 샘플은 번호만 붙임 (삭제된 샘플은 붙이지 않음)
+            if (!sample.visible() && (existing != null || sample.values() == null)) {
+                return;
+            }
+
+            // 같은 샘플은 같은 문서 번호를 계속 사용 (비공개 -> 공개로 바뀌어도 원래 순서 유지)
+            int doc;
+            if (existing != null) {
+                doc = existing;
+            } else {
+                doc = sampleIdxByDoc.size();
+                docBySampleIdx.put(sample.idx(), doc);
+                sampleIdxByDoc.add(sample.idx());
+                valuesByDoc.add(null);
+            }
+            if (!sample.visible()) {
+                return;
+            }
+
+            Facet[] facets = Facet.values();
+            int[][] docValues = new int[facets.length][];
+            for (Facet facet : facets) {
+                docValues[facet.ordinal()] = Arrays.stream(sample.values()[facet.ordinal()])
+                        .filter(value -> value != null && !value.isBlank())
+                        .mapToInt(value -> valueId(facet, value.trim()))
+                        .distinct()
+                        .toArray();
+                for (int valueId : docValues[facet.ordinal()]) {
+                    bitmaps.get(facet).get(valueId).add(doc);
+                }
+            }
+            valuesByDoc.set(doc, docValues);
+            live.add(doc);
+        }
+
+        private void remove(int doc) {
+            int[][] docValues = valuesByDoc.get(doc);
+            if (docValues == null) {
+                return;
+            }
+            for (Facet facet : Facet.values()) {
+                for (int valueId : docValues[facet.ordinal()]) {
+                    bitmaps.get(facet).get(valueId).remove(doc);
+                }
+            }
+            valuesByDoc.set(doc, null);
+            live.remove(doc);
+        }
+
+        private int valueId(Facet facet, String value) {
+            return valueIds.get(facet).computeIfAbsent(value, k -> {
+                valueNames.get(facet).add(k);
+                bitmaps.get(facet).add(new CompressedBitmap());
+                return valueNames.get(facet).size() - 1;
+            });
+        }
+
+        Hits search(Map<Facet, List<String>> filters, int page, int size, int facetLimit) {
+            // 1. 필터별 문서 집합 (선택 값이 없는 필터는 null)
+            Map<Facet, CompressedBitmap> selected = new EnumMap<>(Facet.class);
+            filters.forEach((facet, values) -> {
+                if (values != null && !values.isEmpty()) {
+                    selected.put(facet, select(facet, values));
+                }
+            });
+
+            // 2. 전체 조건 결과
+            CompressedBitmap result = intersectExcept(selected, null);
+            // page * size는 int 범위를 넘을 수 있으므로 long으로 계산 (결과 수를 넘으면 빈 페이지)
+            long offset = (long) page * size;
+            int[] docs = offset >= result.cardinality() ? new int[0] : result.descending((int) offset, size);
+            List<Long> sampleIdxs = new ArrayList<>(docs.length);
+            for (int doc : docs) {
+                sampleIdxs.add(sampleIdxByDoc.get(doc));
+            }
+
+            // 3. 필터별 값 개수 (자기 필터를 뺀 조건 기준)
+            Map<Facet, List<FacetCount>> facets = new EnumMap<>(Facet.class);
+            for (Facet facet : Facet.values()) {
+                CompressedBitmap base = selected.containsKey(facet) ? intersectExcept(selected, facet) : result;
+                facets.put(facet, topCounts(facet, base, facetLimit));
+            }
+
+            return new Hits(result.cardinality(), sampleIdxs, facets);
+        }
+
+        private CompressedBitmap select(Facet facet, List<String> values) {
+            CompressedBitmap selected = null;
+            for (String value : new LinkedHashSet<>(values)) {
+                Integer valueId = valueIds.get(facet).get(value.trim());
+                CompressedBitmap bitmap = valueId == null ? new CompressedBitmap() : bitmaps.get(facet).get(valueId);
+                if (selected == null) {
+                    selected = bitmap;
+                } else {
+                    selected = facet.matchAll ? CompressedBitmap.and(selected, bitmap) : CompressedBitmap.or(selected, bitmap);
+                }
+            }
+            return selected;
+        }
+
+        // 선택된 필터들의 교집합 (except 필터 제외, 조건이 없으면 전체 문서)
+        private CompressedBitmap intersectExcept(Map<Facet, CompressedBitmap> selected, Facet except) {
+            List<CompressedBitmap> sets = new ArrayList<>();
+            selected.forEach((facet, bitmap) -> {
+                if (facet != except) {
+                    sets.add(bitmap);
+                }
+            });
+            if (sets.isEmpty()) {
+                return live;
+            }
+
+            // 작은 집합부터 교집합
+            sets.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+            CompressedBitmap result = sets.get(0);
+            for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+                result = CompressedBitmap.and(result, sets.get(i));
+            }
+            return result;
+        }
+
+        private List<FacetCount> topCounts(Facet facet, CompressedBitmap base, int limit) {
+            List<CompressedBitmap> valueBitmaps = bitmaps.get(facet);
+            int[] counts = new int[valueBitmaps.size()];
+
+            if (base == live) {
+                for (int v = 0; v < counts.length; v++) {
+                    counts[v] = valueBitmaps.get(v).cardinality();
+                }
+            } else if ((long) base.cardinality() * DOC_SCAN_RATIO <= live.cardinality()) {
+                for (int doc : base.descending(0, base.cardinality())) {
+                    for (int valueId : valuesByDoc.get(doc)[facet.ordinal()]) {
+                        counts[valueId]++;
+                    }
+                }
+            } else {
+                for (int v = 0; v < counts.length; v++) {
+                    counts[v] = CompressedBitmap.andCardinality(base, valueBitmaps.get(v));
+                }
+            }
+
+            // 개수 많은 순 상위 limit개 (같으면 이름 순)
+            List<String> names = valueNames.get(facet);
+            PriorityQueue<Integer> top = new PriorityQueue<>(Comparator.comparingInt((Integer v) -> counts[v])
+                    .thenComparing(v -> names.get(v), Comparator.reverseOrder()));
+            for (int v = 0; v < counts.length; v++) {
+                if (counts[v] == 0) {
+                    continue;
+                }
+                top.add(v);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<FacetCount> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int v = top.poll();
+                result.add(new FacetCount(names.get(v), counts[v]));
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        /**
+         * 가중 Jaccard 유사도 상위 k개 샘플 idx.
+         * 유사도 = 공통 값 가중치 합 / (두 샘플 값 가중치 합 - 공통 값 가중치 합),
+         * 값 가중치 = Facet 가중치 * log(1 + 전체 문서 수 / 그 값을 가진 문서 수)
+         * 후보는 기술/도구/특성 중 하나라도 같은 문서 (값별 비트맵 합집합)
+         */
+        List<Long> similar(long sampleIdx, int k) {
+            Integer queryDoc = docBySampleIdx.get(sampleIdx);
+            if (queryDoc == null || valuesByDoc.get(queryDoc) == null) {
+                return List.of();
+            }
+            int[][] query = valuesByDoc.get(queryDoc);
+            double[][] weights = valueWeights();
+
+            CompressedBitmap candidates = new CompressedBitmap();
+            double queryWeight = 0;
+            for (Facet facet : Facet.values()) {
+                for (int valueId : query[facet.ordinal()]) {
+                    queryWeight += weights[facet.ordinal()][valueId];
+                    if (facet.similarCandidate) {
+                        candidates = CompressedBitmap.or(candidates, bitmaps.get(facet).get(valueId));
+                    }
+                }
+            }
+            int[] docs = candidates.descending(0, candidates.cardinality());
+
+            // 샤드별 상위 k개를 병렬로 구한 뒤 합침
+            double finalQueryWeight = queryWeight;
+            int shards = (docs.length + SIMILAR_SHARD_SIZE - 1) / SIMILAR_SHARD_SIZE;
+            PriorityQueue<Scored> top = IntStream.range(0, shards)
+                    .parallel()
+                    .mapToObj(shard -> topSimilar(docs, shard * SIMILAR_SHARD_SIZE,
+                            Math.min(docs.length, (shard + 1) * SIMILAR_SHARD_SIZE), queryDoc, query, finalQueryWeight, weights, k))
+                    .reduce((a, b) -> {
+                        b.forEach(scored -> offer(a, scored, k));
+                        return a;
+                    })
+                    .orElseGet(PriorityQueue::new);
+
+            return top.stream()
+                    .sorted(Comparator.reverseOrder())
+                    .map(scored -> sampleIdxByDoc.get(scored.doc()))
+                    .collect(Collectors.toList());
+        }
+
+        private PriorityQueue<Scored> topSimilar(int[] docs, int from, int to, int queryDoc, int[][] query, double queryWeight,
+                                                 double[][] weights, int k) {
+            PriorityQueue<Scored> top = new PriorityQueue<>(k + 1);
+            for (int i = from; i < to; i++) {
+                int doc = docs[i];
+                if (doc == queryDoc) {
+                    continue;
+                }
+                int[][] values = valuesByDoc.get(doc);
+                double common = 0;
+                double total = 0;
+                for (int f = 0; f < values.length; f++) {
+                    for (int valueId : values[f]) {
+                        double weight = weights[f][valueId];
+                        total += weight;
+                        if (contains(query[f], valueId)) {
+                            common += weight;
+                        }
+                    }
+                }
+                offer(top, new Scored(doc, common / (queryWeight + total - common)), k);
+            }
+            return top;
+        }
+
+        // 크기 k의 최소 힙 (가장 낮은 점수가 맨 앞)
+        private static void offer(PriorityQueue<Scored> top, Scored scored, int k) {
+            if (top.size() < k) {
+                top.add(scored);
+            } else if (scored.compareTo(top.peek()) > 0) {
+                top.poll();
+                top.add(scored);
+            }
+        }
+
+        private static boolean contains(int[] values, int valueId) {
+            for (int value : values) {
+                if (value == valueId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private double[][] valueWeights() {
+            double documents = live.cardinality();
+            double[][] weights = new double[Facet.values().length][];
+            for (Facet facet : Facet.values()) {
+                List<CompressedBitmap> valueBitmaps = bitmaps.get(facet);
+                double[] facetWeights = new double[valueBitmaps.size()];
+                for (int v = 0; v < facetWeights.length; v++) {
+                    int df = valueBitmaps.get(v).cardinality();
+                    facetWeights[v] = df == 0 ? 0 : facet.similarityWeight * Math.log(1 + documents / df);
+                }
+                weights[facet.ordinal()] = facetWeights;
+            }
+            return weights;
+        }
+
+        // 유사도 점수 (같으면 최신 문서 우선)
+        private record Scored(int doc, double score) implements Comparable<Scored> {
+            @Override
+            public int compareTo(Scored other) {
+                int byScore = Double.compare(score, other.score);
+                return byScore != 0 ? byScore : Integer.compare(doc, other.doc);
+            }
+        }
+
+        long sizeInBytes() {
+            long bytes = live.sizeInBytes();
+            for (List<CompressedBitmap> list : bitmaps.values()) {
+                for (CompressedBitmap bitmap : list) {
+                    bytes += bitmap.sizeInBytes();
+                }
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.youngjin.mcl_project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 게시글의 추천 수를 위한 분산 카운터 (counter_shard 테이블).
+ * (샘플 좋아요 수는 요청 중에 샘플 행을 쓰지 않고 LikeEventAggregator가 모아서 반영하므로 대상이 아님)
+ *
+ * 글 하나에 추천이 몰리면 모든 요청이 board 행 하나의 X락에서 줄을 섭니다.
+ * 대상별 쓰기 속도를 재서 임계치(counter.shard.hot-writes-per-second)를 넘은 대상만 샤딩 모드로 바꾸고,
+ * 그 뒤의 증감은 슬롯 N개 중 무작위 하나에 쌓습니다. (슬롯끼리는 서로 다른 행이라 락이 갈림)
+ *
+ * - 주기마다(counter.shard.check-interval-ms) 슬롯 합계를 원래 컬럼에 합치고 슬롯 행을 지웁니다.
+ *   그래서 목록/다른 서버에서 보는 원래 컬럼도 한 주기 이내로 따라옵니다.
+ * - 쓰기 속도가 counter.shard.cool-writes-per-second 아래로 cool-down-checks번 연속 떨어지면 샤딩 모드를 끕니다.
+ * - 샤딩 모드 판단은 서버별 메모리 값입니다. 다른 서버가 쌓은 슬롯도 합치는 작업이 모두 처리합니다.
+ *   합치는 작업에서 슬롯이 보인 대상은 이 서버에서 샤딩 모드가 아니어도 cool-down-checks 주기 동안 pending()이 슬롯을 읽습니다.
+ * - 락 순서: 토글은 항상 대상 행(S락, INSERT ... SELECT) -> 슬롯 행 순서로 잡고,
+ *   합치는 작업도 대상 행 UPDATE(X락) -> 슬롯 DELETE 순서라 서로 교착하지 않습니다.
+ */
+@Slf4j
+@Service
+public class ShardedCounterService {
+
+    public enum Target {
+        BOARD_RECOMMEND("board", "recommend");
+
+        private final String table;
+        private final String column;
+
+        Target(String table, String column) {
+            this.table = table;
+            this.column = column;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardDetailCache boardDetailCache;
+
+    private final int slots;
+    private final double hotWritesPerSecond;
+    private final double coolWritesPerSecond;
+    private final int coolDownChecks;
+
+    // 대상별 id -> 이번 주기의 쓰기 수
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> writes = new EnumMap<>(Target.class);
+    // 대상별 샤딩 모드인 id
+    private final Map<Target, Set<Long>> sharded = new EnumMap<>(Target.class);
+    // 대상별 id -> 임계치 아래로 연속해서 떨어진 주기 수
+    private final Map<Target, ConcurrentHashMap<Long, Integer>> coolTicks = new EnumMap<>(Target.class);
+    // 대상별 id -> 슬롯이 보인 뒤 남은 주기 수 (다른 서버가 샤딩 모드로 쓰는 대상)
+    private final Map<Target, ConcurrentHashMap<Long, Integer>> slotted = new EnumMap<>(Target.class);
+    // 대상별 id -> 아직 합치지 않은 슬롯 합계 (짧은 TTL)
+    private final Map<Target, Cache<Long, Long>> pendingCache = new EnumMap<>(Target.class);
+
+    private long lastCheckNanos = System.nanoTime();
+
+    public ShardedCounterService(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 BoardDetailCache boardDetailCache,
+                                 @Value("${counter.shard.slots:16}") int slots,
+                                 @Value("${counter.shard.hot-writes-per-second:50}") double hotWritesPerSecond,
+                                 @Value("${counter.shard.cool-writes-per-second:10}") double coolWritesPerSecond,
+                                 @Value("${counter.shard.cool-down-checks:10}") int coolDownChecks,
+                                 @Value("${counter.shard.read-cache-ttl-ms:1000}") long readCacheTtlMs) {
+        if (slots < 1 || coolWritesPerSecond > hotWritesPerSecond) {
+            throw new IllegalArgumentException("counter.shard 설정이 잘못되었습니다. (slots >= 1, cool <= hot)");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.boardDetailCache = boardDetailCache;
+        this.slots = slots;
+        this.hotWritesPerSecond = hotWritesPerSecond;
+        this.coolWritesPerSecond = coolWritesPerSecond;
+        this.coolDownChecks = coolDownChecks;
+
+        for (Target target : Target.values()) {
+            writes.put(target, new ConcurrentHashMap<>());
+            sharded.put(target, ConcurrentHashMap.newKeySet());
+            coolTicks.put(target, new ConcurrentHashMap<>());
+            slotted.put(target, new ConcurrentHashMap<>());
+            pendingCache.put(target, Caffeine.newBuilder()
+                    .expireAfterWrite(Duration.ofMillis(readCacheTtlMs))
+                    .maximumSize(10_000)
+                    .build());
+        }
+    }
+
+    /**
+     * 쓰기 1건을 기록하고, 이 대상이 샤딩 모드인지 반환합니다. (DB 접근 없음)
+     * true면 addToShard(), false면 원래 컬럼을 직접 UPDATE 합니다.
+     */
+    public boolean recordWrite(Target target, long idx) {
+        writes.get(target).computeIfAbsent(idx, k -> new LongAdder()).increment();
+        return sharded.get(target).contains(idx);
+    }
+
+    /**
+     * 무작위 슬롯 하나에 증감을 쌓습니다. 호출한 쪽의 트랜잭션에 참여합니다.
+     */
+    public void addToShard(Target target, long idx, long delta) {
+        int slot = ThreadLocalRandom.current().nextInt(slots);
+        jdbcTemplate.update("INSERT INTO counter_shard (target_type, target_idx, slot, delta) VALUES (?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE delta = delta + ?",
+                target.name(), idx, slot, delta, delta);
+    }
+
+    /**
+     * 아직 원래 컬럼에 합치지 않은 증감 (응답 시 DB 값에 더해서 보여줌)
+     * 샤딩 모드가 아니고 최근 슬롯도 보이지 않은 대상은 DB를 조회하지 않고 0을 반환합니다.
+     */
+    public long pending(Target target, long idx) {
+        if (!sharded.get(target).contains(idx) && !slotted.get(target).containsKey(idx)) {
+            return 0;
+        }
+        return pendingCache.get(target).get(idx, k -> {
+            Long sum = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(delta), 0) FROM counter_shard WHERE target_type = ? AND target_idx = ?",
+                    Long.class, target.name(), k);
+            return sum == null ? 0 : sum;
+        });
+    }
+
+    /**
+     * 원래 컬럼 + 모든 서버가 쌓은 슬롯 합계를 한 문장으로 읽은 현재 값 (실시간 갱신 메시지, 수 재조회용)
+     * 한 문장이라 합치는 작업이 슬롯을 옮기는 도중이어도 같은 시점의 값을 봅니다.
+     * @return 대상이 없으면 null
+     */
+    public Long currentCount(Target target, long idx) {
+        List<Long> rows = jdbcTemplate.queryForList("SELECT " + target.column
+                        + " + (SELECT COALESCE(SUM(delta), 0) FROM counter_shard WHERE target_type = ? AND target_idx = ?)"
+                        + " FROM " + target.table + " WHERE idx = ? AND is_deleted = 0",
+                Long.class, target.name(), idx, idx);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * 슬롯을 원래 컬럼에 합친 뒤, 이번 주기의 쓰기 속도로 샤딩 모드를 켜고 끕니다.
+     * 설정: counter.shard.check-interval-ms 간격 (기본 1초), 직접 호출과 겹치지 않게 synchronized
+     */
+    @Scheduled(fixedDelayString = "${counter.shard.check-interval-ms:1000}", scheduler = "counterTaskScheduler")
+    public synchronized void rollUpAndAdjust() {
+        long now = System.nanoTime();
+        double seconds = Math.max((now - lastCheckNanos) / 1_000_000_000.0, 0.001);
+        lastCheckNanos = now;
+
+        for (Target target : Target.values()) {
+            // 끄기 전에 먼저 합쳐야 pending()이 0을 돌려주는 동안 슬롯에 남는 값이 없음
+            rollUp(target);
+            adjust(target, drain(writes.get(target)), seconds);
+        }
+    }
+
+    // 샤딩 모드인 대상 목록 (관리자 API에서 조회)
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        sharded.forEach((target, idxs) -> result.put(target.name(), List.copyOf(idxs)));
+        return result;
+    }
+
+    /**
+     * 슬롯이 있는 대상마다 별도 트랜잭션으로
+     * UPDATE {table} SET {column} = {column} + (슬롯 합계) -> 슬롯 DELETE
+     * 대상 행의 X락을 먼저 잡으므로, 그 사이 슬롯에 쓰려는 토글은 INSERT ... SELECT에서 기다립니다.
+     */
+    private void rollUp(Target target) {
+        List<Long> idxs = jdbcTemplate.queryForList(
+                "SELECT DISTINCT target_idx FROM counter_shard WHERE target_type = ?", Long.class, target.name());
+
+        // 슬롯이 보인 대상 기록 (다른 서버가 샤딩 모드로 쓰는 중이어도 이 서버의 pending()이 슬롯을 읽도록)
+        ConcurrentHashMap<Long, Integer> seen = slotted.get(target);
+        seen.replaceAll((idx, ticks) -> ticks - 1);
+        seen.values().removeIf(ticks -> ticks <= 0);
+        idxs.forEach(idx -> seen.put(idx, coolDownChecks));
+
+        for (Long idx : idxs) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update("UPDATE " + target.table + " SET moddate = moddate, "
+                                    + target.column + " = " + target.column
+                                    + " + (SELECT COALESCE(SUM(delta), 0) FROM counter_shard WHERE target_type = ? AND target_idx = ?)"
+                                    + " WHERE idx = ?",
+                            target.name(), idx, idx);
+                    jdbcTemplate.update("DELETE FROM counter_shard WHERE target_type = ? AND target_idx = ?",
+                            target.name(), idx);
+                });
+            } catch (Exception e) {
+                log.error("분산 카운터 합치기 실패 ({} {}): {}", target, idx, e.getMessage());
+                // 슬롯이 그대로 남아 있으므로 다음 주기에 다시 시도
+                continue;
+            }
+
+            pendingCache.get(target).invalidate(idx);
+            if (target == Target.BOARD_RECOMMEND) {
+                boardDetailCache.evict(idx);
+            }
+        }
+    }
+
+    private void adjust(Target target, Map<Long, Long> counts, double seconds) {
+        Set<Long> hot = sharded.get(target);
+        ConcurrentHashMap<Long, Integer> ticks = coolTicks.get(target);
+
+        counts.forEach((idx, count) -> {
+            if (count / seconds >= hotWritesPerSecond && hot.add(idx)) {
+                log.info("분산 카운터 사용: {} {} ({}회/초)", target, idx, Math.round(count / seconds));
+            }
+        });
+
+        for (Long idx : hot) {
+            double rate = counts.getOrDefault(idx, 0L) / seconds;
+            if (rate >= coolWritesPerSecond) {
+                ticks.remove(idx);
+            } else if (ticks.merge(idx, 1, Integer::sum) >= coolDownChecks) {
+                hot.remove(idx);
+                ticks.remove(idx);
+                log.info("분산 카운터 해제: {} {}", target, idx);
+            }
+        }
+    }
+
+    // 주기별 쓰기 수를 꺼내고 0으로 초기화 (ViewCountService.drain과 같은 방식)
+    private Map<Long, Long> drain(ConcurrentHashMap<Long, LongAdder> buffer) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+
+        buffer.forEach((idx, adder) -> {
+            long count = adder.sumThenReset();
+            if (count == 0 && buffer.remove(idx, adder)) {
+                count = adder.sumThenReset();
+            }
+            if (count > 0) {
+                counts.put(idx, count);
+            }
+        });
+
+        return counts;
+    }
+}
@@ -0,0 +1,184 @@
+package com.youngjin.mcl_project.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼.
+ *
+ * 상세 조회마다 게시글/샘플 행을 UPDATE하면 읽기 요청이 쓰기 트랜잭션이 되고 행 락을 잡습니다.
+ * 대신 메모리의 LongAdder에 누적해 두었다가 주기적으로(그리고 종료 시) 테이블별 UPDATE ... CASE 한 번으로 반영합니다.
+ * 반영 전 조회수는 pending()으로 더해서 응답하므로 사용자에게는 즉시 증가한 것처럼 보입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardDetailCache boardDetailCache;
+
+    // UPDATE 한 번에 넣을 최대 id 개수
+    @Value("${view-count.flush-batch-size:500}")
+    private int BATCH_SIZE;
+
+    public enum Target {
+        BOARD("board"),
+        SAMPLE("poke_sample");
+
+        private final String table;
+
+        Target(String table) {
+            this.table = table;
+        }
+    }
+
+    // 대상별 id -> 아직 DB에 반영되지 않은 조회수
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> buffers = new EnumMap<>(Target.class);
+
+    // 대상별 id -> 지난 반영 때 버퍼에서 떼어 낸 adder와 그때 꺼낸 값 (flush 안에서만 접근)
+    private final Map<Target, Map<Long, Retired>> retired = new EnumMap<>(Target.class);
+
+    {
+        for (Target target : Target.values()) {
+            buffers.put(target, new ConcurrentHashMap<>());
+            retired.put(target, new HashMap<>());
+        }
+    }
+
+    private record Retired(LongAdder adder, long taken) {
+    }
+
+    // 조회수 +1 (DB 접근 없음)
+    public void increase(Target target, long idx) {
+        buffers.get(target).computeIfAbsent(idx, k -> new LongAdder()).increment();
+    }
+
+    // 아직 반영되지 않은 조회수 (응답 시 DB 값에 더해서 보여줌)
+    public long pending(Target target, long idx) {
+        LongAdder adder = buffers.get(target).get(idx);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 버퍼에 쌓인 조회수를 DB에 반영합니다.
+     * 설정: view-count.flush-interval-ms 간격 (기본 5초), 종료 시 반영과 겹치지 않게 synchronized
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}", scheduler = "counterTaskScheduler")
+    public synchronized void flush() {
+        for (Target target : Target.values()) {
+            Map<Long, Long> deltas = drain(target);
+            if (!deltas.isEmpty()) {
+                applyDeltas(target, deltas);
+            }
+        }
+    }
+
+    // 애플리케이션 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 조회수 버퍼 반영");
+        flush();
+    }
+
+    /**
+     * 버퍼의 값을 꺼냅니다.
+     * adder를 0으로 되돌리지 않고 맵에서 새 adder로 교체(증가가 없던 항목은 제거)한 뒤 떼어 낸 adder의 값을 꺼냅니다.
+     * 교체 직전에 adder를 가져간 increase()의 증가분은 떼어 낸 adder에 늦게 더해지므로,
+     * 떼어 낸 adder는 한 주기 더 보관했다가 다음 반영 때 그 사이 늘어난 만큼을 함께 꺼냅니다.
+     */
+    private Map<Long, Long> drain(Target target) {
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(target);
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+
+        // 1. 지난 주기에 떼어 낸 adder에 늦게 들어온 증가분
+        retired.get(target).forEach((idx, old) -> {
+            long late = old.adder().sum() - old.taken();
+            if (late > 0) {
+                deltas.merge(idx, late, Long::sum);
+            }
+        });
+
+        // 2. 현재 adder 교체 후 값 꺼내기 (교체 이후의 증가는 새 adder로 들어감)
+        Map<Long, Retired> swapped = new HashMap<>();
+        buffer.forEach((idx, adder) -> {
+            boolean detached = adder.sum() == 0
+                    ? buffer.remove(idx, adder)
+                    : buffer.replace(idx, adder, new LongAdder());
+            if (!detached) {
+                return;
+            }
+            long delta = adder.sum();
+            swapped.put(idx, new Retired(adder, delta));
+            if (delta > 0) {
+                deltas.merge(idx, delta, Long::sum);
+            }
+        });
+        retired.put(target, swapped);
+
+        return deltas;
+    }
+
+    /**
+     * UPDATE {table} SET hit = hit + CASE idx WHEN ? THEN ? ... END WHERE idx IN (...)
+     * moddate = moddate 는 poke_sample.moddate의 ON UPDATE CURRENT_TIMESTAMP가 조회만으로 바뀌지 않게 막습니다.
+     */
+    private void applyDeltas(Target target, Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+
+        for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + BATCH_SIZE, entries.size()));
+
+            StringBuilder sql = new StringBuilder("UPDATE ").append(target.table)
+                    .append(" SET moddate = moddate, hit = hit + CASE idx");
+            List<Object> params = new ArrayList<>();
+
+            for (Map.Entry<Long, Long> entry : chunk) {
+                sql.append(" WHEN ? THEN ?");
+                params.add(entry.getKey());
+                params.add(entry.getValue());
+            }
+
+            sql.append(" ELSE 0 END WHERE idx IN (")
+                    .append(String.join(",", Collections.nCopies(chunk.size(), "?")))
+                    .append(")");
+            chunk.forEach(entry -> params.add(entry.getKey()));
+
+            // 게시글은 캐시된 상세의 조회수에도 반영한 만큼 더함 (무효화하면 인기 글이 5초마다 캐시에서 빠짐)
+            Map<Long, Long> applied = Map.of();
+            if (target == Target.BOARD) {
+                boardDetailCache.beginHitFlush();
+            }
+            try {
+                jdbcTemplate.update(sql.toString(), params.toArray());
+                log.debug("조회수 반영: {} {}건", target, chunk.size());
+                applied = chunk.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            } catch (Exception e) {
+                log.error("조회수 반영 실패 ({}): {}", target, e.getMessage());
+                // 반영하지 못한 값은 다음 주기에 다시 시도하도록 버퍼에 되돌립니다.
+                chunk.forEach(entry ->
+                        buffers.get(target).computeIfAbsent(entry.getKey(), k -> new LongAdder()).add(entry.getValue()));
+            } finally {
+                if (target == Target.BOARD) {
+                    boardDetailCache.endHitFlush(applied);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.youngjin.mcl_project.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 검색용 토크나이저.
+ * 한국어는 띄어쓰기/조사 때문에 단어 단위로 자르면 "포켓몬을"과 "포켓몬"이 다른 단어가 되므로,
+ * 단어를 두 글자씩 겹쳐 자르는(bigram) 방식으로 LIKE '%키워드%'와 비슷한 부분 일치 검색을 지원합니다.
+ *
+ * 예: "포켓몬 샘플" -> [포켓, 켓몬, 샘플]
+ */
+public class BigramTokenizer {
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private BigramTokenizer() {}
+
+    /**
+     * 에디터가 만든 HTML 본문에서 태그와 엔티티를 제거합니다.
+     */
+    public static String sanitize(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        return TAG.matcher(html).replaceAll(" ")
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+    }
+
+    /**
+     * 소문자 변환 후 문자/숫자가 아닌 곳에서 단어를 나누고, 단어마다 bigram을 만듭니다.
+     * 한 글자 단어는 그대로 토큰이 됩니다. (중복 토큰 포함 - 빈도 계산용)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String word : SEPARATOR.split(text.toLowerCase())) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i < codePoints.length - 1; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,40 @@
+package com.youngjin.mcl_project.util;
+
+/**
+ * 계층형 댓글 정렬 키(materialized path) 유틸리티
+ * 조상 댓글부터 자기 자신까지의 idx를 고정 폭(8자리, 36진수, 0 채움) 세그먼트로 이어 붙입니다.
+ * sort_path로 정렬하면 부모 바로 뒤에 자식들이 작성 순서대로 오고, 세그먼트 수 - 1이 깊이가 됩니다.
+ *
+ * 예: 루트 12 -> "0000000c", 그 답글 40 -> "0000000c00000014"
+ */
+public class CommentPath {
+
+    public static final int SEGMENT_WIDTH = 8;
+
+    // sort_path 컬럼 길이 (VARCHAR(1000), ascii) -> 최대 125단계
+    public static final int MAX_LENGTH = 1000;
+
+    private CommentPath() {}
+
+    /**
+     * @param parentPath 부모 댓글의 sort_path (최상위 댓글이면 null)
+     * @param idx        새 댓글 ID
+     */
+    public static String of(String parentPath, long idx) {
+        String segment = Long.toString(idx, 36);
+        if (segment.length() > SEGMENT_WIDTH) {
+            throw new IllegalArgumentException("댓글 ID가 정렬 키 범위를 벗어났습니다. ID: " + idx);
+        }
+
+        String path = (parentPath == null ? "" : parentPath) + "0".repeat(SEGMENT_WIDTH - segment.length()) + segment;
+        if (path.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("더 이상 답글을 달 수 없습니다. (최대 깊이 " + MAX_LENGTH / SEGMENT_WIDTH + ")");
+        }
+        return path;
+    }
+
+    // 0 = 최상위 댓글
+    public static int depth(String path) {
+        return path.length() / SEGMENT_WIDTH - 1;
+    }
+}
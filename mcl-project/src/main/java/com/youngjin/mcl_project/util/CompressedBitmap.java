@@ -0,0 +1,461 @@
+package com.youngjin.mcl_project.util;
+
+import java.util.Arrays;
+
+/**
+ * 0 이상 int 집합을 담는 압축 비트맵 (Roaring 방식).
+ *
+ * 값의 상위 16비트별로 구역을 나누고, 구역마다 값이 적으면(4096개 이하) 정렬된 char[],
+ * 많으면 65536비트 long[1024] 비트맵으로 저장합니다. 샘플 필터의 값별 색인처럼
+ * 대부분 희소한 집합을 적은 메모리로 들고 있으면서 AND/OR/교집합 개수를 빠르게 계산합니다.
+ *
+ * 스레드 안전하지 않습니다. (사용하는 쪽에서 잠금)
+ */
+public class CompressedBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys = new char[0];         // 상위 16비트, 오름차순
+    private Object[] containers = new Object[0]; // char[] (정렬, 앞 cardinalities[i]개 유효) 또는 long[1024]
+    private int[] cardinalities = new int[0];
+    private int size;      // 사용 중인 구역 수
+    private int cardinality;
+
+    public static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int value) {
+        int i = indexOf(high(value));
+        return i >= 0 && containerContains(containers[i], cardinalities[i], low(value));
+    }
+
+    public void add(int value) {
+        char high = high(value);
+        int i = indexOf(high);
+        if (i < 0) {
+            i = -i - 1;
+            insertContainer(i, high, new char[4], 0);
+        }
+
+        char low = low(value);
+        Object container = containers[i];
+        if (container instanceof long[] words) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                words[low >>> 6] |= bit;
+                cardinalities[i]++;
+                cardinality++;
+            }
+            return;
+        }
+
+        char[] values = (char[]) container;
+        int card = cardinalities[i];
+        int pos = Arrays.binarySearch(values, 0, card, low);
+        if (pos >= 0) {
+            return;
+        }
+        pos = -pos - 1;
+        if (card == ARRAY_MAX) {
+            long[] words = toWords(values, card);
+            words[low >>> 6] |= 1L << low;
+            containers[i] = words;
+        } else {
+            if (card == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, card * 2));
+                containers[i] = values;
+            }
+            System.arraycopy(values, pos, values, pos + 1, card - pos);
+            values[pos] = low;
+        }
+        cardinalities[i]++;
+        cardinality++;
+    }
+
+    public void remove(int value) {
+        int i = indexOf(high(value));
+        if (i < 0) {
+            return;
+        }
+
+        char low = low(value);
+        Object container = containers[i];
+        int card = cardinalities[i];
+        if (container instanceof long[] words) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                return;
+            }
+            words[low >>> 6] &= ~bit;
+            card--;
+            if (card <= ARRAY_MAX / 2) {
+                containers[i] = toValues(words, card);
+            }
+        } else {
+            char[] values = (char[]) container;
+            int pos = Arrays.binarySearch(values, 0, card, low);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(values, pos + 1, values, pos, card - pos - 1);
+            card--;
+        }
+
+        cardinality--;
+        if (card == 0) {
+            removeContainer(i);
+        } else {
+            cardinalities[i] = card;
+        }
+    }
+
+    /**
+     * 교집합 (새 비트맵)
+     */
+    public static CompressedBitmap and(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Object ca = a.containers[i];
+                Object cb = b.containers[j];
+                int na = a.cardinalities[i];
+                int nb = b.cardinalities[j];
+
+                Object container;
+                int card;
+                if (ca instanceof long[] wa && cb instanceof long[] wb) {
+                    long[] words = new long[BITMAP_WORDS];
+                    card = 0;
+                    for (int w = 0; w < BITMAP_WORDS; w++) {
+                        words[w] = wa[w] & wb[w];
+                        card += Long.bitCount(words[w]);
+                    }
+                    container = card > ARRAY_MAX ? words : toValues(words, card);
+                } else if (ca instanceof char[] va && cb instanceof char[] vb) {
+                    char[] values = new char[Math.min(na, nb)];
+                    card = intersect(va, na, vb, nb, values);
+                    container = values;
+                } else {
+                    // 배열 쪽 값마다 비트 확인
+                    char[] values = ca instanceof char[] va ? va : (char[]) cb;
+                    int n = ca instanceof char[] ? na : nb;
+                    long[] words = ca instanceof long[] wa ? wa : (long[]) cb;
+                    char[] out = new char[n];
+                    card = 0;
+                    for (int k = 0; k < n; k++) {
+                        char v = values[k];
+                        if ((words[v >>> 6] & (1L << v)) != 0) {
+                            out[card++] = v;
+                        }
+                    }
+                    container = out;
+                }
+
+                if (card > 0) {
+                    result.appendContainer(a.keys[i], container, card);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 합집합 (새 비트맵)
+     */
+    public static CompressedBitmap or(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j >= b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.appendContainer(a.keys[i], copy(a.containers[i], a.cardinalities[i]), a.cardinalities[i]);
+                i++;
+            } else if (i >= a.size || b.keys[j] < a.keys[i]) {
+                result.appendContainer(b.keys[j], copy(b.containers[j], b.cardinalities[j]), b.cardinalities[j]);
+                j++;
+            } else {
+                Object ca = a.containers[i];
+                Object cb = b.containers[j];
+                int na = a.cardinalities[i];
+                int nb = b.cardinalities[j];
+
+                Object container;
+                int card;
+                if (ca instanceof char[] va && cb instanceof char[] vb && na + nb <= ARRAY_MAX) {
+                    char[] values = new char[na + nb];
+                    card = union(va, na, vb, nb, values);
+                    container = values;
+                } else {
+                    long[] words = ca instanceof long[] wa ? wa.clone() : toWords((char[]) ca, na);
+                    if (cb instanceof long[] wb) {
+                        for (int w = 0; w < BITMAP_WORDS; w++) {
+                            words[w] |= wb[w];
+                        }
+                    } else {
+                        char[] vb = (char[]) cb;
+                        for (int k = 0; k < nb; k++) {
+                            words[vb[k] >>> 6] |= 1L << vb[k];
+                        }
+                    }
+                    card = 0;
+                    for (long word : words) {
+                        card += Long.bitCount(word);
+                    }
+                    container = card > ARRAY_MAX ? words : toValues(words, card);
+                }
+                result.appendContainer(a.keys[i], container, card);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 교집합 개수 (비트맵을 만들지 않음, 필터별 개수 계산용)
+     */
+    public static int andCardinality(CompressedBitmap a, CompressedBitmap b) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Object ca = a.containers[i];
+                Object cb = b.containers[j];
+                int na = a.cardinalities[i];
+                int nb = b.cardinalities[j];
+                if (ca instanceof long[] wa && cb instanceof long[] wb) {
+                    for (int w = 0; w < BITMAP_WORDS; w++) {
+                        count += Long.bitCount(wa[w] & wb[w]);
+                    }
+                } else if (ca instanceof char[] va && cb instanceof char[] vb) {
+                    count += intersect(va, na, vb, nb, null);
+                } else {
+                    char[] values = ca instanceof char[] va ? va : (char[]) cb;
+                    int n = ca instanceof char[] ? na : nb;
+                    long[] words = ca instanceof long[] wa ? wa : (long[]) cb;
+                    for (int k = 0; k < n; k++) {
+                        if ((words[values[k] >>> 6] & (1L << values[k])) != 0) {
+                            count++;
+                        }
+                    }
+                }
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 큰 값부터 offset개를 건너뛰고 최대 limit개 (최신 글 먼저 페이징용)
+     */
+    public int[] descending(int offset, int limit) {
+        int[] out = new int[Math.max(0, Math.min(limit, cardinality - offset))];
+        int n = 0;
+        int skip = offset;
+        for (int i = size - 1; i >= 0 && n < out.length; i--) {
+            int card = cardinalities[i];
+            if (skip >= card) {
+                skip -= card;
+                continue;
+            }
+
+            int base = keys[i] << 16;
+            Object container = containers[i];
+            if (container instanceof long[] words) {
+                for (int w = BITMAP_WORDS - 1; w >= 0 && n < out.length; w--) {
+                    long word = words[w];
+                    while (word != 0 && n < out.length) {
+                        int bit = 63 - Long.numberOfLeadingZeros(word);
+                        word &= ~(1L << bit);
+                        if (skip > 0) {
+                            skip--;
+                        } else {
+                            out[n++] = base | (w << 6) | bit;
+                        }
+                    }
+                }
+            } else {
+                char[] values = (char[]) container;
+                for (int k = card - 1 - skip; k >= 0 && n < out.length; k--) {
+                    out[n++] = base | values[k];
+                }
+                skip = 0;
+            }
+        }
+        return out;
+    }
+
+    // 추정 메모리 사용량 (byte, 관리자 통계용)
+    public long sizeInBytes() {
+        long bytes = 16L + size * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i] instanceof long[] ? BITMAP_WORDS * 8L : ((char[]) containers[i]).length * 2L;
+        }
+        return bytes;
+    }
+
+    private int indexOf(char high) {
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insertContainer(int i, char high, Object container, int card) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+            cardinalities = Arrays.copyOf(cardinalities, capacity);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        System.arraycopy(cardinalities, i, cardinalities, i + 1, size - i);
+        keys[i] = high;
+        containers[i] = container;
+        cardinalities[i] = card;
+        size++;
+    }
+
+    private void appendContainer(char high, Object container, int card) {
+        insertContainer(size, high, container, card);
+        cardinality += card;
+    }
+
+    private void removeContainer(int i) {
+        System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+        System.arraycopy(cardinalities, i + 1, cardinalities, i, size - i - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    private static boolean containerContains(Object container, int card, char low) {
+        if (container instanceof long[] words) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch((char[]) container, 0, card, low) >= 0;
+    }
+
+    // 정렬된 두 배열의 교집합 (out이 null이면 개수만)
+    private static int intersect(char[] a, int na, char[] b, int nb, char[] out) {
+        // 크기 차이가 크면 작은 쪽 값마다 큰 쪽을 이진 탐색
+        if (na * 32 < nb || nb * 32 < na) {
+            char[] small = na < nb ? a : b;
+            char[] large = na < nb ? b : a;
+            int ns = Math.min(na, nb);
+            int nl = Math.max(na, nb);
+            int from = 0;
+            int n = 0;
+            for (int k = 0; k < ns && from < nl; k++) {
+                int pos = Arrays.binarySearch(large, from, nl, small[k]);
+                if (pos >= 0) {
+                    if (out != null) {
+                        out[n] = small[k];
+                    }
+                    n++;
+                    from = pos + 1;
+                } else {
+                    from = -pos - 1;
+                }
+            }
+            return n;
+        }
+
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < na && j < nb) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                if (out != null) {
+                    out[n] = a[i];
+                }
+                n++;
+                i++;
+                j++;
+            }
+        }
+        return n;
+    }
+
+    private static int union(char[] a, int na, char[] b, int nb, char[] out) {
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < na || j < nb) {
+            if (j >= nb || (i < na && a[i] < b[j])) {
+                out[n++] = a[i++];
+            } else if (i >= na || b[j] < a[i]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n;
+    }
+
+    private static Object copy(Object container, int card) {
+        return container instanceof long[] words ? words.clone() : Arrays.copyOf((char[]) container, card);
+    }
+
+    private static long[] toWords(char[] values, int card) {
+        long[] words = new long[BITMAP_WORDS];
+        for (int k = 0; k < card; k++) {
+            words[values[k] >>> 6] |= 1L << values[k];
+        }
+        return words;
+    }
+
+    private static char[] toValues(long[] words, int card) {
+        char[] values = new char[Math.max(card, 1)];
+        int n = 0;
+        for (int w = 0; w < BITMAP_WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                values[n++] = (char) ((w << 6) | bit);
+                word &= word - 1;
+            }
+        }
+        return values;
+    }
+
+    private static char high(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+}
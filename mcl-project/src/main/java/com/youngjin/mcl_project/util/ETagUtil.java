@@ -0,0 +1,26 @@
+package com.youngjin.mcl_project.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET(If-None-Match)용 강한 ETag 생성 유틸리티
+ * 응답 DTO 전체가 아니라 변경을 대표하는 값(moddate, 카운트, 버전 등)만으로 계산합니다.
+ */
+public class ETagUtil {
+
+    private ETagUtil() {}
+
+    /**
+     * 예: strong("board", 12, moddate, 3) -> "\"5d41402abc4b2a76b9719d911017c592\""
+     */
+    public static String strong(Object... parts) {
+        String source = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
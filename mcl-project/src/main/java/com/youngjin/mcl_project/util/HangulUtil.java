@@ -0,0 +1,59 @@
+package com.youngjin.mcl_project.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 포켓몬 이름 검색용 한글 처리.
+ *
+ * 예: chosung("피카츄") -> "ㅍㅋㅊ", decompose("피카츄") -> "ㅍㅣㅋㅏㅊㅠ" (조합형 자모)
+ */
+public class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00; // 가
+    private static final char SYLLABLE_END = 0xD7A3;   // 힣
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28; // 중성 21개 x 종성 28개(없음 포함)
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private HangulUtil() {}
+
+    /**
+     * 비교용 정규화: 소문자 변환 후 문자/숫자가 아닌 것(공백, ':', '♂' 등)을 모두 제거합니다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return NON_WORD.matcher(text.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
+    /**
+     * 한글 음절은 초성(호환 자모 ㄱ~ㅎ)으로 바꾸고 나머지 문자는 그대로 둡니다.
+     */
+    public static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                sb.append(CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절을 초성/중성/종성 자모로 분해합니다. (오타 거리 계산용: "피카추"와 "피카츄"의 거리가 1)
+     */
+    public static String decompose(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFD);
+    }
+}
@@ -0,0 +1,150 @@
+package com.youngjin.mcl_project.util;
+
+import com.youngjin.mcl_project.enums.PokeStat;
+
+/**
+ * 개체값(IV)/노력치(EV) 문자열 <-> 스탯별 1바이트씩 묶은 long 변환.
+ *
+ * - 개체값: "31/31/31/x/31/31" (HP/공격/방어/특공/특방/스피드 순, x는 무관 = IV_ANY)
+ * - 노력치: "H4 A252 S252" (0인 스탯은 생략, 모두 0이면 "0")
+ * - 스탯 i의 값은 (packed >> (8 * i)) & 0xFF 입니다. (PokeStat 순서, DB의 ev_h ~ ev_s 생성 컬럼도 같은 규칙)
+ *
+ * 샘플을 저장할 때 한 번만 파싱/검증하고 표준 형식 문자열로 다시 저장하므로, 조회할 때는 파싱하지 않습니다.
+ */
+public class StatSpreadCodec {
+
+    public static final int IV_ANY = 0xFF; // "x" (무관)
+    public static final int MAX_IV = 31;
+    public static final int MAX_EV = 252;
+    public static final int MAX_EV_TOTAL = 510;
+
+    private static final int STAT_COUNT = PokeStat.values().length;
+
+    // 표준 형식 조각 (값 -> 문자열, 포맷 때마다 숫자를 문자열로 바꾸지 않음)
+    private static final String[] IV_TEXT = new String[MAX_IV + 1];
+
+    static {
+        for (int v = 0; v <= MAX_IV; v++) {
+            IV_TEXT[v] = String.valueOf(v);
+        }
+    }
+
+    private StatSpreadCodec() {}
+
+    public static long parseIvs(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("개체값을 입력해 주세요.");
+        }
+
+        String[] parts = text.split("/", -1);
+        if (parts.length != STAT_COUNT) {
+            throw new IllegalArgumentException("개체값은 6개를 '/'로 구분해 입력해야 합니다.");
+        }
+
+        long packed = 0;
+        for (int i = 0; i < STAT_COUNT; i++) {
+            String part = parts[i].trim();
+            int value = part.equalsIgnoreCase("x") ? IV_ANY : parseInt(part, MAX_IV, "개체값");
+            packed |= (long) value << (8 * i);
+        }
+        return packed;
+    }
+
+    public static long parseEvs(String text) {
+        if (text == null || text.isBlank() || text.trim().equals("0")) {
+            return 0;
+        }
+
+        long packed = 0;
+        int seen = 0;
+        int total = 0;
+        for (String token : text.trim().split("\\s+")) {
+            PokeStat stat = statOf(token.charAt(0));
+            if ((seen & (1 << stat.ordinal())) != 0) {
+                throw new IllegalArgumentException("노력치에 같은 능력치가 두 번 있습니다: " + stat.name());
+            }
+            seen |= 1 << stat.ordinal();
+
+            int value = parseInt(token.substring(1), MAX_EV, "노력치");
+            total += value;
+            packed |= (long) value << (8 * stat.ordinal());
+        }
+
+        if (total > MAX_EV_TOTAL) {
+            throw new IllegalArgumentException("노력치 합계는 " + MAX_EV_TOTAL + " 이하여야 합니다. (현재 " + total + ")");
+        }
+        return packed;
+    }
+
+    // 개체값 (무관이면 IV_ANY)
+    public static int iv(long packed, PokeStat stat) {
+        return valueAt(packed, stat.ordinal());
+    }
+
+    public static int ev(long packed, PokeStat stat) {
+        return valueAt(packed, stat.ordinal());
+    }
+
+    public static int evTotal(long packed) {
+        int total = 0;
+        for (int i = 0; i < STAT_COUNT; i++) {
+            total += valueAt(packed, i);
+        }
+        return total;
+    }
+
+    // 표준 형식 개체값 문자열 ("31/31/31/x/31/31")
+    public static String formatIvs(long packed) {
+        StringBuilder sb = new StringBuilder(17);
+        for (int i = 0; i < STAT_COUNT; i++) {
+            if (i > 0) {
+                sb.append('/');
+            }
+            int value = valueAt(packed, i);
+            sb.append(value == IV_ANY ? "x" : IV_TEXT[value]);
+        }
+        return sb.toString();
+    }
+
+    // 표준 형식 노력치 문자열 ("H4 A252 S252", 모두 0이면 "0")
+    public static String formatEvs(long packed) {
+        StringBuilder sb = new StringBuilder(24);
+        for (PokeStat stat : PokeStat.values()) {
+            int value = ev(packed, stat);
+            if (value == 0) {
+                continue;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(' ');
+            }
+            sb.append(stat.name()).append(value);
+        }
+        return sb.isEmpty() ? "0" : sb.toString();
+    }
+
+    private static int valueAt(long packed, int statIndex) {
+        return (int) (packed >>> (8 * statIndex)) & 0xFF;
+    }
+
+    private static PokeStat statOf(char key) {
+        for (PokeStat stat : PokeStat.values()) {
+            if (Character.toUpperCase(key) == stat.name().charAt(0)) {
+                return stat;
+            }
+        }
+        throw new IllegalArgumentException("노력치 능력치는 H/A/B/C/D/S 중 하나여야 합니다: " + key);
+    }
+
+    private static int parseInt(String text, int max, String label) {
+        int value;
+        try {
+            value = Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(label + " 형식이 올바르지 않습니다: " + text);
+        }
+        if (value < 0 || value > max) {
+            throw new IllegalArgumentException(label + " 범위(0 ~ " + max + ")를 벗어났습니다: " + value);
+        }
+        return value;
+    }
+}
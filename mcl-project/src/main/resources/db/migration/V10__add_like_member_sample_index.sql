@@ -0,0 +1,5 @@
+-- V10: 회원별 좋아요 샘플 id 집합 (service/MemberReactionIndex)
+-- 회원의 좋아요 샘플 id를 한 번에 읽을 때 테이블 행을 읽지 않도록 sample_idx까지 포함합니다.
+-- findByMemberIdxOrderByRegdateDesc (member_idx, regdate 순서)도 그대로 사용하므로 기존 인덱스를 대체합니다.
+CREATE INDEX `idx_like_member_regdate_sample` ON `poke_sample_like` (`member_idx`, `regdate`, `sample_idx`);
+DROP INDEX `idx_like_member_regdate` ON `poke_sample_like`;
@@ -0,0 +1,4 @@
+-- V11: 포켓몬 이름 색인 (service/PokemonNameIndex)
+-- 샘플에 등록된 (도감 번호, 이름) 목록을 주기적으로 읽을 때 테이블 전체를 읽지 않도록 커버링 인덱스를 둡니다.
+-- 이름 검색은 색인에서 도감 번호를 구한 뒤 pokemon_idx IN (...) 으로 조회하므로 LIKE '%키워드%' 스캔은 더 이상 없습니다.
+CREATE INDEX `idx_sample_pokemon_name` ON `poke_sample` (`pokemon_idx`, `pokemon_name`);
@@ -0,0 +1,42 @@
+-- V12: 개체값/노력치를 스탯별 1바이트씩 묶은 값 (util/StatSpreadCodec)
+-- 스탯 i(H/A/B/C/D/S 순)의 값은 (packed >> (8 * i)) & 255 입니다. 개체값 255는 "x"(무관)입니다.
+-- 이후 쓰기는 애플리케이션이 파싱/검증한 값과 표준 형식 문자열(ivs, evs)을 함께 저장합니다.
+-- iv_packed 기본값 34218526580511 = 모든 개체값 31
+ALTER TABLE `poke_sample`
+  ADD COLUMN `iv_packed` bigint NOT NULL DEFAULT '34218526580511' COMMENT '개체값 (스탯별 1바이트, 255 = 무관)' AFTER `evs`,
+  ADD COLUMN `ev_packed` bigint NOT NULL DEFAULT '0' COMMENT '노력치 (스탯별 1바이트)' AFTER `iv_packed`;
+
+-- 기존 문자열 변환 ("31/31/31/x/31/31", "H4 A252 S252")
+-- 숫자가 아닌 개체값은 무관(255), 없는 노력치는 0으로 둡니다. (',' 구분 개체값도 허용)
+UPDATE `poke_sample`
+   SET `iv_packed` =
+         IF(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 1), '/', -1)) REGEXP '^[0-9]+$', LEAST(CAST(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 1), '/', -1)) AS UNSIGNED), 31), 255)
+       | (IF(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 2), '/', -1)) REGEXP '^[0-9]+$', LEAST(CAST(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 2), '/', -1)) AS UNSIGNED), 31), 255) << 8)
+       | (IF(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 3), '/', -1)) REGEXP '^[0-9]+$', LEAST(CAST(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 3), '/', -1)) AS UNSIGNED), 31), 255) << 16)
+       | (IF(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 4), '/', -1)) REGEXP '^[0-9]+$', LEAST(CAST(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 4), '/', -1)) AS UNSIGNED), 31), 255) << 24)
+       | (IF(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 5), '/', -1)) REGEXP '^[0-9]+$', LEAST(CAST(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 5), '/', -1)) AS UNSIGNED), 31), 255) << 32)
+       | (IF(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 6), '/', -1)) REGEXP '^[0-9]+$', LEAST(CAST(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(REPLACE(`ivs`, ',', '/'), '/', 6), '/', -1)) AS UNSIGNED), 31), 255) << 40),
+       `ev_packed` =
+         LEAST(CAST(COALESCE(SUBSTRING(REGEXP_SUBSTR(CONCAT(' ', UPPER(`evs`)), ' H[0-9]+'), 3), '0') AS UNSIGNED), 252)
+       | (LEAST(CAST(COALESCE(SUBSTRING(REGEXP_SUBSTR(CONCAT(' ', UPPER(`evs`)), ' A[0-9]+'), 3), '0') AS UNSIGNED), 252) << 8)
+       | (LEAST(CAST(COALESCE(SUBSTRING(REGEXP_SUBSTR(CONCAT(' ', UPPER(`evs`)), ' B[0-9]+'), 3), '0') AS UNSIGNED), 252) << 16)
+       | (LEAST(CAST(COALESCE(SUBSTRING(REGEXP_SUBSTR(CONCAT(' ', UPPER(`evs`)), ' C[0-9]+'), 3), '0') AS UNSIGNED), 252) << 24)
+       | (LEAST(CAST(COALESCE(SUBSTRING(REGEXP_SUBSTR(CONCAT(' ', UPPER(`evs`)), ' D[0-9]+'), 3), '0') AS UNSIGNED), 252) << 32)
+       | (LEAST(CAST(COALESCE(SUBSTRING(REGEXP_SUBSTR(CONCAT(' ', UPPER(`evs`)), ' S[0-9]+'), 3), '0') AS UNSIGNED), 252) << 40);
+
+-- 스탯별 노력치 생성 컬럼 + 인덱스 (findPublicSamplesByEv, 예: ev_s BETWEEN 252 AND 252 ORDER BY idx DESC)
+-- VIRTUAL이라 행에는 저장하지 않고 인덱스에만 값이 들어갑니다. (보조 인덱스 끝에 PK idx가 붙어 같은 값 안에서는 idx 순)
+ALTER TABLE `poke_sample`
+  ADD COLUMN `ev_h` smallint unsigned AS (`ev_packed` & 255) VIRTUAL,
+  ADD COLUMN `ev_a` smallint unsigned AS ((`ev_packed` >> 8) & 255) VIRTUAL,
+  ADD COLUMN `ev_b` smallint unsigned AS ((`ev_packed` >> 16) & 255) VIRTUAL,
+  ADD COLUMN `ev_c` smallint unsigned AS ((`ev_packed` >> 24) & 255) VIRTUAL,
+  ADD COLUMN `ev_d` smallint unsigned AS ((`ev_packed` >> 32) & 255) VIRTUAL,
+  ADD COLUMN `ev_s` smallint unsigned AS ((`ev_packed` >> 40) & 255) VIRTUAL;
+
+CREATE INDEX `idx_sample_ev_h` ON `poke_sample` (`ev_h`);
+CREATE INDEX `idx_sample_ev_a` ON `poke_sample` (`ev_a`);
+CREATE INDEX `idx_sample_ev_b` ON `poke_sample` (`ev_b`);
+CREATE INDEX `idx_sample_ev_c` ON `poke_sample` (`ev_c`);
+CREATE INDEX `idx_sample_ev_d` ON `poke_sample` (`ev_d`);
+CREATE INDEX `idx_sample_ev_s` ON `poke_sample` (`ev_s`);
@@ -0,0 +1,5 @@
+-- V13: 게시글 검색 색인 동기화 (service/BoardSearchIndex)
+-- 다른 인스턴스에서 작성/수정/삭제된 글을 주기적으로 다시 읽는 findChangedSince
+-- (regdate >= ? OR moddate >= ?)가 테이블 전체를 읽지 않도록 각 컬럼에 인덱스를 둡니다. (index_merge union)
+CREATE INDEX `idx_board_regdate` ON `board` (`regdate`);
+CREATE INDEX `idx_board_moddate` ON `board` (`moddate`);
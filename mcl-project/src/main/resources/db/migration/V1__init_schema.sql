@@ -0,0 +1,184 @@
+-- V1: 초기 스키마 (db_bak.sql 구조 기준, 데이터 제외)
+-- 이미 db_bak.sql로 복원된 DB는 baseline-on-migrate로 이 버전을 건너뜁니다.
+
+CREATE TABLE `board` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `member_idx` int NOT NULL COMMENT 'FK',
+  `board_type` enum('NOTICE','FREE') DEFAULT 'FREE',
+  `title` varchar(200) NOT NULL,
+  `content` text NOT NULL,
+  `hit` int DEFAULT '0',
+  `recommend` int DEFAULT '0',
+  `regdate` datetime NOT NULL,
+  `moddate` datetime DEFAULT NULL,
+  `ip` varchar(50) DEFAULT NULL,
+  `is_deleted` tinyint(1) DEFAULT '0',
+  PRIMARY KEY (`idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `board_attachments` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `board_idx` int DEFAULT NULL COMMENT 'FK',
+  `dir` varchar(200) NOT NULL,
+  `stored_name` varchar(200) NOT NULL,
+  `original_name` varchar(200) NOT NULL,
+  `status` enum('TEMP','ACTIVE') NOT NULL DEFAULT 'TEMP',
+  `regdate` datetime NOT NULL,
+  PRIMARY KEY (`idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `board_comments` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `board_idx` int NOT NULL COMMENT 'FK',
+  `member_idx` int NOT NULL,
+  `ment` text NOT NULL,
+  `regdate` datetime NOT NULL,
+  `moddate` datetime DEFAULT NULL,
+  `is_deleted` tinyint(1) NOT NULL,
+  `parent_idx` int DEFAULT NULL,
+  PRIMARY KEY (`idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `board_recommend` (
+  `idx` bigint NOT NULL AUTO_INCREMENT COMMENT 'PK',
+  `member_idx` bigint NOT NULL COMMENT '추천한 사람 FK',
+  `board_idx` bigint NOT NULL COMMENT '추천된 게시글 FK',
+  PRIMARY KEY (`idx`),
+  UNIQUE KEY `uk_recommend_member_board` (`member_idx`,`board_idx`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='게시글 추천 로그';
+
+CREATE TABLE `category` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `userid` varchar(50) NOT NULL COMMENT 'FK',
+  `category` varchar(50) NOT NULL,
+  `type` enum('TEXT','SELECT','DATE') NOT NULL,
+  PRIMARY KEY (`idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `category_list` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `category_idx` int NOT NULL COMMENT 'FK',
+  `value` varchar(50) NOT NULL,
+  `sort` int DEFAULT '0',
+  PRIMARY KEY (`idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `collection` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `group_idx` int DEFAULT NULL COMMENT 'FK',
+  `userid` varchar(50) NOT NULL COMMENT 'FK',
+  `item` varchar(50) NOT NULL,
+  `regdate` datetime DEFAULT NULL,
+  `moddate` datetime DEFAULT NULL,
+  PRIMARY KEY (`idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `collection_attachments` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `userid` varchar(50) DEFAULT NULL COMMENT 'FK',
+  `dir` varchar(50) NOT NULL,
+  `stored_name` varchar(200) NOT NULL,
+  `original_name` varchar(200) NOT NULL,
+  `status` enum('temp','active') NOT NULL DEFAULT 'temp',
+  PRIMARY KEY (`idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `collection_attachments_mapping` (
+  `attachments_idx` int NOT NULL,
+  `collection_idx` int NOT NULL,
+  PRIMARY KEY (`attachments_idx`,`collection_idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `collection_category_value` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `collection_idx` int NOT NULL COMMENT 'FK - 묶어 유니크',
+  `category_idx` int NOT NULL COMMENT 'FK - 묶어 유니크',
+  `value` varchar(50) DEFAULT NULL,
+  PRIMARY KEY (`idx`) USING BTREE,
+  UNIQUE KEY `UQ_collection_category` (`collection_idx`,`category_idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `collection_group` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `userid` varchar(50) NOT NULL COMMENT 'FK',
+  `title` varchar(100) NOT NULL,
+  `description` text,
+  `regdate` datetime DEFAULT NULL,
+  `moddate` datetime DEFAULT NULL,
+  PRIMARY KEY (`idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `collection_option` (
+  `userid` varchar(50) NOT NULL COMMENT 'FK',
+  `quick` tinyint(1) DEFAULT '0',
+  `category1` int DEFAULT NULL COMMENT 'category idx',
+  `category2` int DEFAULT NULL COMMENT 'category idx',
+  PRIMARY KEY (`userid`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `member` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `userid` varchar(50) NOT NULL,
+  `pwd` varchar(200) NOT NULL,
+  `nickname` varchar(50) NOT NULL,
+  `birth` date DEFAULT NULL,
+  `file` varchar(200) DEFAULT NULL,
+  `grade` int DEFAULT '1',
+  `regdate` datetime NOT NULL,
+  `provider` varchar(50) DEFAULT NULL,
+  `provider_id` varchar(50) DEFAULT NULL,
+  `refresh_token` varchar(500) DEFAULT NULL,
+  PRIMARY KEY (`idx`) USING BTREE,
+  UNIQUE KEY `userid` (`userid`) USING BTREE,
+  UNIQUE KEY `nickname` (`nickname`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `poke_sample` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `member_idx` int NOT NULL DEFAULT '0' COMMENT '작성자 ID',
+  `pokemon_idx` int NOT NULL COMMENT '전국도감 번호',
+  `pokemon_name` varchar(50) NOT NULL COMMENT '표시용 한글 이름 저장',
+  `tera_type` varchar(20) NOT NULL COMMENT '테라스탈 타입',
+  `item` varchar(50) NOT NULL COMMENT '지닌 도구',
+  `nature` varchar(20) NOT NULL COMMENT '성격',
+  `ability` varchar(50) NOT NULL COMMENT '특성',
+  `ivs` varchar(50) NOT NULL COMMENT '개체값',
+  `evs` varchar(50) NOT NULL COMMENT '노력치',
+  `move1` varchar(50) NOT NULL,
+  `move2` varchar(50) NOT NULL,
+  `move3` varchar(50) NOT NULL,
+  `move4` varchar(50) NOT NULL,
+  `description` text COMMENT '운용법 설명',
+  `visibility` enum('PUBLIC','PRIVATE') NOT NULL DEFAULT 'PUBLIC' COMMENT '공개 여부',
+  `regdate` datetime DEFAULT CURRENT_TIMESTAMP,
+  `moddate` datetime DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  `like_count` int NOT NULL DEFAULT '0' COMMENT '좋아요 수',
+  `hit` int NOT NULL DEFAULT '0' COMMENT '조회수',
+  `is_deleted` tinyint(1) NOT NULL DEFAULT '0' COMMENT '삭제 여부',
+  PRIMARY KEY (`idx`),
+  KEY `idx_pokemon_idx` (`pokemon_idx`),
+  KEY `idx_member_idx` (`member_idx`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `poke_sample_comment` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `poke_sample_idx` int NOT NULL COMMENT '어떤 샘플에 달린 댓글인지 (FK)',
+  `member_idx` int NOT NULL COMMENT '작성자 (FK)',
+  `parent_idx` int DEFAULT NULL COMMENT '대댓글인 경우 부모 댓글 ID',
+  `ment` text NOT NULL,
+  `regdate` datetime DEFAULT CURRENT_TIMESTAMP,
+  `moddate` datetime DEFAULT NULL ON UPDATE CURRENT_TIMESTAMP,
+  `is_deleted` tinyint(1) NOT NULL DEFAULT '0',
+  PRIMARY KEY (`idx`) USING BTREE,
+  KEY `idx_sample_idx` (`poke_sample_idx`),
+  KEY `idx_parent_idx` (`parent_idx`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `poke_sample_like` (
+  `idx` int NOT NULL AUTO_INCREMENT,
+  `sample_idx` int NOT NULL DEFAULT '0' COMMENT '어떤 샘플 인지',
+  `member_idx` int NOT NULL DEFAULT '0' COMMENT '누가 눌렀는지',
+  `regdate` datetime DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`idx`) USING BTREE,
+  UNIQUE KEY `uq_sample_member` (`sample_idx`,`member_idx`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
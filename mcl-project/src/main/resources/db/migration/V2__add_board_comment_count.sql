@@ -0,0 +1,9 @@
+-- V2: board.comment_count 비정규화 컬럼 (BoardCommentService가 +1/-1로 유지)
+
+ALTER TABLE `board`
+  ADD COLUMN `comment_count` int NOT NULL DEFAULT '0' COMMENT '삭제되지 않은 댓글 수' AFTER `recommend`;
+
+-- 기존 게시글의 댓글 수 채우기
+UPDATE `board` b
+SET b.`comment_count` = (SELECT COUNT(*) FROM `board_comments` c
+                         WHERE c.`board_idx` = b.`idx` AND c.`is_deleted` = 0);
@@ -0,0 +1,58 @@
+-- V3: repository 패키지의 조회 메서드마다 대응하는 인덱스
+-- 각 인덱스 위에 사용하는 메서드를 적어두었습니다. (QueryPlanVerifier가 EXPLAIN으로 확인)
+
+-- [board]
+-- findAllByBoardTypeAndIsDeletedFalse, findBoardList, findBoardListAfter (idx 내림차순 / 커서)
+CREATE INDEX `idx_board_type_deleted_idx` ON `board` (`board_type`, `is_deleted`, `idx`);
+-- findAllByBoardTypeAndIsDeletedFalseOrderByRegdateDesc (공지 고정)
+CREATE INDEX `idx_board_type_deleted_regdate` ON `board` (`board_type`, `is_deleted`, `regdate`);
+-- findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc, findBoardListByMemberIdx
+CREATE INDEX `idx_board_member_deleted_regdate` ON `board` (`member_idx`, `is_deleted`, `regdate`);
+
+-- [board_comments]
+-- countByBoardIdxAndIsDeletedFalse, softDeleteAllByBoardIdx, reconcileCommentCount (커버링)
+CREATE INDEX `idx_comments_board_deleted` ON `board_comments` (`board_idx`, `is_deleted`);
+-- findAllByBoardIdxOrderByRegdateAsc
+CREATE INDEX `idx_comments_board_regdate` ON `board_comments` (`board_idx`, `regdate`);
+-- findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc
+CREATE INDEX `idx_comments_member_deleted_regdate` ON `board_comments` (`member_idx`, `is_deleted`, `regdate`);
+
+-- [board_attachments]
+-- findAllByBoardIdxAndStatus, resetFilesToTemp
+CREATE INDEX `idx_attachments_board_status` ON `board_attachments` (`board_idx`, `status`);
+-- findAllByStatusAndRegdateBefore (임시 파일 정리 스케줄러)
+CREATE INDEX `idx_attachments_status_regdate` ON `board_attachments` (`status`, `regdate`);
+
+-- [board_recommend]
+-- countByBoard (existsByMemberAndBoard / findByMemberAndBoard는 uk_recommend_member_board 사용)
+CREATE INDEX `idx_recommend_board` ON `board_recommend` (`board_idx`);
+
+-- [member]
+-- findByProviderId, findByProviderAndProviderId
+CREATE INDEX `idx_member_provider_id` ON `member` (`provider_id`, `provider`);
+-- findByRefreshToken
+CREATE INDEX `idx_member_refresh_token` ON `member` (`refresh_token`);
+
+-- [poke_sample]
+-- findAllByIsDeletedFalseAndVisibilityOrderByRegdateDesc, findPublicSamplesAfter (커서)
+CREATE INDEX `idx_sample_visibility_deleted_regdate` ON `poke_sample` (`visibility`, `is_deleted`, `regdate`, `idx`);
+-- findByPokemonIdxAndIsDeletedFalseAndVisibilityOrderByRegdateDesc
+CREATE INDEX `idx_sample_pokemon_visibility_regdate` ON `poke_sample` (`pokemon_idx`, `visibility`, `is_deleted`, `regdate`);
+-- findByMemberIdxAndIsDeletedFalseOrderByRegdateDesc
+CREATE INDEX `idx_sample_member_deleted_regdate` ON `poke_sample` (`member_idx`, `is_deleted`, `regdate`);
+-- findTop3ByIsDeletedFalseAndVisibilityOrderByLikeCountDesc
+CREATE INDEX `idx_sample_visibility_deleted_like` ON `poke_sample` (`visibility`, `is_deleted`, `like_count`);
+
+-- [poke_sample_comment]
+-- countByPokeSampleIdxAndIsDeletedFalse (커버링)
+CREATE INDEX `idx_sample_comment_sample_deleted` ON `poke_sample_comment` (`poke_sample_idx`, `is_deleted`);
+-- findAllByPokeSampleIdxOrderByRegdateAsc
+CREATE INDEX `idx_sample_comment_sample_regdate` ON `poke_sample_comment` (`poke_sample_idx`, `regdate`);
+-- findRootCommentsBySampleIdx
+CREATE INDEX `idx_sample_comment_sample_parent_idx` ON `poke_sample_comment` (`poke_sample_idx`, `parent_idx`, `idx`);
+
+-- [poke_sample_like]
+-- findByMemberIdxOrderByRegdateDesc
+CREATE INDEX `idx_like_member_regdate` ON `poke_sample_like` (`member_idx`, `regdate`);
+-- findTopSampleIdsByDateAfter (기간 필터 + 그룹핑 커버링)
+CREATE INDEX `idx_like_regdate_sample` ON `poke_sample_like` (`regdate`, `sample_idx`);
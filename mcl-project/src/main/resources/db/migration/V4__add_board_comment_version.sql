@@ -0,0 +1,4 @@
+-- V4: board.comment_version 댓글 워터마크 (댓글 작성/수정/삭제마다 +1, 댓글 목록 ETag 계산용)
+
+ALTER TABLE `board`
+  ADD COLUMN `comment_version` bigint NOT NULL DEFAULT '0' COMMENT '댓글 변경 버전 (ETag)' AFTER `comment_count`;
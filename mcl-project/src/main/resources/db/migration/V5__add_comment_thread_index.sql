@@ -0,0 +1,6 @@
+-- V5: 댓글 페이징 조회용 인덱스
+-- (poke_sample_comment는 V3의 idx_sample_comment_sample_parent_idx를 그대로 사용)
+
+-- [board_comments]
+-- findRootsAfter, findRepliesAfter, findFirstRepliesOf, countRepliesByParent
+CREATE INDEX `idx_comments_board_parent_idx` ON `board_comments` (`board_idx`, `parent_idx`, `idx`);
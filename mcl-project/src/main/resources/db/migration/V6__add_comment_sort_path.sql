@@ -0,0 +1,46 @@
+-- V6: 계층형 댓글 정렬 키(materialized path)
+-- sort_path = 조상부터 자신까지 idx를 8자리 36진수로 이어 붙인 값 (util/CommentPath와 같은 규칙)
+-- (target_idx, sort_path) 인덱스 한 번의 범위 스캔으로 화면 순서(부모 -> 자식, 깊이 포함) 그대로 읽습니다.
+
+-- [board_comments]
+ALTER TABLE `board_comments`
+    ADD COLUMN `sort_path` varchar(1000) CHARACTER SET ascii COLLATE ascii_bin DEFAULT NULL COMMENT '계층 정렬 키';
+
+WITH RECURSIVE `tree` AS (
+    SELECT `idx`, CAST(LPAD(LOWER(CONV(`idx`, 10, 36)), 8, '0') AS CHAR(1000) CHARACTER SET ascii) AS `path`
+    FROM `board_comments`
+    WHERE `parent_idx` IS NULL
+    UNION ALL
+    SELECT c.`idx`, CONCAT(t.`path`, LPAD(LOWER(CONV(c.`idx`, 10, 36)), 8, '0'))
+    FROM `board_comments` c
+    JOIN `tree` t ON c.`parent_idx` = t.`idx`
+)
+UPDATE `board_comments` c
+    JOIN `tree` t ON t.`idx` = c.`idx`
+SET c.`sort_path` = t.`path`;
+
+-- 부모를 찾을 수 없는 댓글은 최상위 댓글로 취급
+UPDATE `board_comments` SET `sort_path` = LPAD(LOWER(CONV(`idx`, 10, 36)), 8, '0') WHERE `sort_path` IS NULL;
+
+CREATE INDEX `idx_comments_board_sort_path` ON `board_comments` (`board_idx`, `sort_path`);
+
+-- [poke_sample_comment]
+ALTER TABLE `poke_sample_comment`
+    ADD COLUMN `sort_path` varchar(1000) CHARACTER SET ascii COLLATE ascii_bin DEFAULT NULL COMMENT '계층 정렬 키';
+
+WITH RECURSIVE `tree` AS (
+    SELECT `idx`, CAST(LPAD(LOWER(CONV(`idx`, 10, 36)), 8, '0') AS CHAR(1000) CHARACTER SET ascii) AS `path`
+    FROM `poke_sample_comment`
+    WHERE `parent_idx` IS NULL
+    UNION ALL
+    SELECT c.`idx`, CONCAT(t.`path`, LPAD(LOWER(CONV(c.`idx`, 10, 36)), 8, '0'))
+    FROM `poke_sample_comment` c
+    JOIN `tree` t ON c.`parent_idx` = t.`idx`
+)
+UPDATE `poke_sample_comment` c
+    JOIN `tree` t ON t.`idx` = c.`idx`
+SET c.`sort_path` = t.`path`;
+
+UPDATE `poke_sample_comment` SET `sort_path` = LPAD(LOWER(CONV(`idx`, 10, 36)), 8, '0') WHERE `sort_path` IS NULL;
+
+CREATE INDEX `idx_sample_comment_sample_sort_path` ON `poke_sample_comment` (`poke_sample_idx`, `sort_path`);
@@ -0,0 +1,19 @@
+-- V7: 풀링 ID 생성기 테이블 (entity/IdSequences 참고)
+-- IDENTITY -> TABLE(pooled, allocationSize 50) 전환으로 Hibernate JDBC 배치 INSERT를 사용합니다.
+-- (좋아요 poke_sample_like는 INSERT IGNORE(AUTO_INCREMENT)로 저장하므로 IDENTITY를 유지하고 여기 넣지 않습니다)
+-- pooled 옵티마이저는 읽은 값 v에 대해 (v - 49 ~ v) 구간을 쓰므로 초기값은 MAX(idx) + 50 이어야 기존 ID와 겹치지 않습니다.
+
+CREATE TABLE `id_sequences` (
+  `seq_name` varchar(64) NOT NULL,
+  `next_val` bigint NOT NULL,
+  PRIMARY KEY (`seq_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `id_sequences` (`seq_name`, `next_val`)
+SELECT 'board_comments', COALESCE(MAX(`idx`), 0) + 50 FROM `board_comments`;
+
+INSERT INTO `id_sequences` (`seq_name`, `next_val`)
+SELECT 'poke_sample_comment', COALESCE(MAX(`idx`), 0) + 50 FROM `poke_sample_comment`;
+
+INSERT INTO `id_sequences` (`seq_name`, `next_val`)
+SELECT 'board_attachments', COALESCE(MAX(`idx`), 0) + 50 FROM `board_attachments`;
@@ -0,0 +1,12 @@
+-- V8: 인기 게시글용 분산 카운터 (service/ShardedCounterService)
+-- 쓰기가 몰리는 대상만 슬롯 N개 중 하나에 증감을 쌓고, 주기적으로 원래 컬럼(board.recommend)에 합칩니다.
+-- (샘플 좋아요는 V9의 좋아요 이벤트 집계로 처리하므로 여기서 다루지 않습니다)
+-- 합친 행은 지우므로 평소에는 거의 비어 있는 작은 테이블입니다.
+
+CREATE TABLE `counter_shard` (
+  `target_type` varchar(30) NOT NULL COMMENT 'ShardedCounterService.Target',
+  `target_idx` bigint NOT NULL COMMENT '대상 idx (BOARD_RECOMMEND: 게시글)',
+  `slot` smallint NOT NULL COMMENT '0 ~ slots-1',
+  `delta` bigint NOT NULL DEFAULT '0' COMMENT '아직 원래 컬럼에 합치지 않은 증감',
+  PRIMARY KEY (`target_type`, `target_idx`, `slot`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='분산 카운터 슬롯';
@@ -0,0 +1,31 @@
+-- V9: 좋아요 이벤트 파이프라인 (service/LikeEventAggregator)
+-- 좋아요/취소 요청은 poke_sample_like 행 + 이벤트 1행만 씁니다.
+-- like_count와 시간대별 집계는 집계기 하나가 이벤트를 묶어서 반영한 뒤 이벤트를 지웁니다.
+
+-- [poke_sample_like_event] 아직 반영되지 않은 좋아요(+1)/취소(-1)
+CREATE TABLE `poke_sample_like_event` (
+  `idx` bigint NOT NULL AUTO_INCREMENT,
+  `sample_idx` int NOT NULL,
+  `delta` tinyint NOT NULL COMMENT '+1 좋아요, -1 취소',
+  `created_at` datetime(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (`idx`),
+  KEY `idx_like_event_sample` (`sample_idx`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='좋아요 이벤트 (반영 대기)';
+
+-- [poke_sample_like_hourly] 샘플별 1시간 단위 좋아요 순증가 (인기 샘플 조회용)
+CREATE TABLE `poke_sample_like_hourly` (
+  `bucket_start` datetime NOT NULL COMMENT '정시 기준 1시간 구간 시작',
+  `sample_idx` int NOT NULL,
+  `likes` int NOT NULL DEFAULT '0' COMMENT '구간 내 좋아요 - 취소',
+  PRIMARY KEY (`bucket_start`, `sample_idx`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='시간대별 좋아요 집계';
+
+-- 기존 좋아요를 누른 시각의 구간으로 채움
+INSERT INTO `poke_sample_like_hourly` (`bucket_start`, `sample_idx`, `likes`)
+SELECT DATE_FORMAT(`regdate`, '%Y-%m-%d %H:00:00'), `sample_idx`, COUNT(*)
+FROM `poke_sample_like`
+WHERE `regdate` IS NOT NULL
+GROUP BY DATE_FORMAT(`regdate`, '%Y-%m-%d %H:00:00'), `sample_idx`;
+
+-- 기간별 인기 샘플을 더 이상 poke_sample_like에서 집계하지 않으므로 좋아요 INSERT마다 갱신되던 인덱스 제거
+DROP INDEX `idx_like_regdate_sample` ON `poke_sample_like`;
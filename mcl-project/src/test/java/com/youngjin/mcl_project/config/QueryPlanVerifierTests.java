@@ -0,0 +1,31 @@
+package com.youngjin.mcl_project.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 실행 계획 검사 (verify-on-startup=true로 StatementCapture를 적용, 위반이 있으면 컨텍스트 기동부터 실패)
+ * - repository 메서드는 실제로 호출해서 Hibernate가 만든 SQL과 바인딩 값을 그대로 EXPLAIN
+ * - JdbcTemplate 쿼리는 QueryPlanVerifier.QUERIES를 EXPLAIN
+ */
+@SpringBootTest(properties = "db.query-plan.verify-on-startup=true")
+class QueryPlanVerifierTests {
+
+	@Autowired
+	private QueryPlanVerifier queryPlanVerifier;
+
+	@Test
+	void everyRepositoryCallIsCaptured() {
+		assertThat(queryPlanVerifier.captureRepositoryStatements())
+				.isNotEmpty()
+				.allSatisfy((name, statements) -> assertThat(statements).as(name).isNotEmpty());
+	}
+
+	@Test
+	void queriesDoNotScanLargeTables() {
+		assertThat(queryPlanVerifier.verify()).isEmpty();
+	}
+}
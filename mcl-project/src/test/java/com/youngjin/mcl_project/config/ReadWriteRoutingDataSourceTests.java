@@ -0,0 +1,78 @@
+package com.youngjin.mcl_project.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 DB를 replica-test 라는 두 번째 풀 이름으로 등록해서 라우팅만 검증
+@SpringBootTest(properties = {
+		"app.datasource.replicas[0].name=replica-test",
+		"app.datasource.replicas[0].url=${spring.datasource.url}",
+		"app.datasource.replicas[0].username=${spring.datasource.username}",
+		"app.datasource.replicas[0].password=${spring.datasource.password}",
+		"app.datasource.sticky-window-ms=60000"
+})
+class ReadWriteRoutingDataSourceTests {
+
+	@Autowired
+	private ReadWriteRoutingDataSource routingDataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionGoesToReplica() {
+		assertThat(lookupKey(true)).isEqualTo("replica-test");
+	}
+
+	@Test
+	void writeTransactionGoesToPrimary() {
+		assertThat(lookupKey(false)).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+	}
+
+	@Test
+	void readsStickToPrimaryAfterMemberWrites() {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("routing-test-member", null, List.of()));
+
+		assertThat(lookupKey(true)).isEqualTo("replica-test");
+		lookupKey(false);
+		assertThat(lookupKey(true)).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimary() {
+		routingDataSource.setReplicaHealthy("replica-test", false);
+		try {
+			assertThat(lookupKey(true)).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+		} finally {
+			routingDataSource.setReplicaHealthy("replica-test", true);
+		}
+	}
+
+	@Test
+	void readFromPrimaryRoutesReadOnlyTransactionToPrimary() {
+		assertThat(ReadWriteRoutingDataSource.readFromPrimary(() -> lookupKey(true))).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+		assertThat(lookupKey(true)).isEqualTo("replica-test");
+	}
+
+	private Object lookupKey(boolean readOnly) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(readOnly);
+		return template.execute(status -> routingDataSource.determineCurrentLookupKey());
+	}
+}
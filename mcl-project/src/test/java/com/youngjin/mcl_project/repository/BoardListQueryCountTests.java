@@ -0,0 +1,143 @@
+package com.youngjin.mcl_project.repository;
+
+import com.youngjin.mcl_project.dto.BoardListResponse;
+import com.youngjin.mcl_project.entity.BoardCommentEntity;
+import com.youngjin.mcl_project.entity.BoardEntity.BoardType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회의 SQL 수가 페이지 크기(행 수)에 따라 늘어나지 않는지 검사 (닉네임/댓글 수 N+1 방지)
+ * 작성자 3명, 게시글 90건(작성자별 30건), 게시글마다 댓글 2건을 넣고 확인합니다. (테스트 트랜잭션은 롤백)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class BoardListQueryCountTests {
+
+	private static final int MEMBERS = 3;
+	private static final int BOARDS = 90;
+	private static final int COMMENTS_PER_BOARD = 2;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Autowired
+	private BoardCommentRepository commentRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	private final List<Long> memberIdxs = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		String prefix = "qc" + System.nanoTime() % 1_000_000_000L;
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < MEMBERS; i++) {
+			memberIdxs.add(insert("INSERT INTO member (userid, pwd, nickname, regdate) VALUES (?, ?, ?, ?)",
+					prefix + "-" + i, "pwd", prefix + "-" + i, Timestamp.valueOf(now)));
+		}
+
+		List<Long> boardIdxs = new ArrayList<>();
+		List<BoardCommentEntity> comments = new ArrayList<>();
+		for (int i = 0; i < BOARDS; i++) {
+			long memberIdx = memberIdxs.get(i % MEMBERS);
+			long boardIdx = insert("INSERT INTO board (member_idx, board_type, title, content, regdate, is_deleted) VALUES (?, 'FREE', ?, ?, ?, 0)",
+					memberIdx, "title-" + i, "content-" + i, Timestamp.valueOf(now.plusSeconds(i)));
+			boardIdxs.add(boardIdx);
+
+			for (int c = 0; c < COMMENTS_PER_BOARD; c++) {
+				comments.add(BoardCommentEntity.builder()
+						.boardIdx(boardIdx)
+						.memberIdx(memberIdxs.get((i + c + 1) % MEMBERS))
+						.ment("comment-" + c)
+						.regdate(now)
+						.build());
+			}
+		}
+		commentRepository.saveAll(comments);
+		entityManager.flush();
+		boardRepository.recountCommentCounts(boardIdxs);
+		entityManager.clear();
+	}
+
+	@Test
+	void boardListStatementCountDoesNotGrowWithPageSize() {
+		// 새로 넣은 게시글이 idx 내림차순 맨 앞에 오므로 두 페이지 모두 꽉 참
+		long small = countStatements(() -> boardRepository.findBoardList(BoardType.FREE, PageRequest.of(1, 5)), 5);
+		long large = countStatements(() -> boardRepository.findBoardList(BoardType.FREE, PageRequest.of(1, 40)), 40);
+
+		assertThat(small).isLessThanOrEqualTo(2);
+		assertThat(large).isEqualTo(small);
+	}
+
+	@Test
+	void myBoardListStatementCountDoesNotGrowWithPageSize() {
+		long memberIdx = memberIdxs.get(0);
+		int boardsOfMember = BOARDS / MEMBERS;
+
+		long small = countStatements(() -> boardRepository.findBoardListByMemberIdx(memberIdx, PageRequest.of(0, 3)), 3);
+		long large = countStatements(() -> boardRepository.findBoardListByMemberIdx(memberIdx, PageRequest.of(0, boardsOfMember - 1)), boardsOfMember - 1);
+
+		assertThat(small).isLessThanOrEqualTo(2);
+		assertThat(large).isEqualTo(small);
+	}
+
+	// 조회 1번에 실행된 SQL 수 (닉네임/댓글 수까지 채워졌는지 함께 확인)
+	private long countStatements(Supplier<Page<BoardListResponse>> query, int expectedRows) {
+		statistics.clear();
+		Page<BoardListResponse> page = query.get();
+		long statements = statistics.getPrepareStatementCount();
+
+		assertThat(page.getContent()).hasSize(expectedRows);
+		assertThat(page.getContent()).allSatisfy(board -> {
+			assertThat(board.getAuthorNickname()).isNotEqualTo("알 수 없음");
+			assertThat(board.getCommentCount()).isEqualTo(COMMENTS_PER_BOARD);
+		});
+		return statements;
+	}
+
+	private long insert(String sql, Object... params) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(con -> {
+			PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+			for (int i = 0; i < params.length; i++) {
+				ps.setObject(i + 1, params[i]);
+			}
+			return ps;
+		}, keyHolder);
+		return keyHolder.getKey().longValue();
+	}
+}
@@ -0,0 +1,193 @@
+package com.youngjin.mcl_project.repository;
+
+import com.youngjin.mcl_project.entity.BoardCommentEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 100k건 saveAll 처리량: IDENTITY 엔티티(행마다 INSERT + 생성 키 회수) vs 풀링 ID 엔티티(JDBC 배치)
+ * 오래 걸리므로 기본 테스트에서는 빠지고, 직접 실행할 때만 켭니다.
+ * benchmark 프로필(application-benchmark.properties)의 전용 스키마(mcl_project_benchmark)에만 쓰며,
+ * 벤치마크용 게시글/회원을 만들어 쓰고 끝나면 댓글과 함께 지웁니다.
+ * ./gradlew test --tests '*BulkInsertBenchmarkTests' -Dbenchmark=true [-Dbenchmark.rows=100000]
+ */
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BulkInsertBenchmarkTests {
+
+	private static final Logger log = LoggerFactory.getLogger(BulkInsertBenchmarkTests.class);
+
+	private static final String BENCHMARK_SCHEMA = "mcl_project_benchmark";
+	private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+	private static final int FLUSH_SIZE = 1_000;
+
+	@Autowired
+	private BoardCommentRepository commentRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private long memberIdx;
+	private long boardIdx;
+
+	@BeforeEach
+	void setUp() {
+		// 설정 실수로 개발 DB에 쓰지 않도록 확인
+		assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)).isEqualTo(BENCHMARK_SCHEMA);
+
+		String name = "bench-" + System.nanoTime() % 1_000_000_000L;
+		memberIdx = insert("INSERT INTO member (userid, pwd, nickname, regdate) VALUES (?, 'bench', ?, NOW())", name, name);
+		boardIdx = insert("INSERT INTO board (member_idx, board_type, title, content, regdate, is_deleted) VALUES (?, 'FREE', 'bench', 'bench', NOW(), 0)",
+				memberIdx);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		deleteComments();
+		jdbcTemplate.update("DELETE FROM board WHERE idx = ?", boardIdx);
+		jdbcTemplate.update("DELETE FROM member WHERE idx = ?", memberIdx);
+	}
+
+	@Test
+	void pooledIdSaveAllOutperformsIdentitySaveAll() {
+		// 이전: IDENTITY 매핑 엔티티 - persist마다 INSERT가 바로 나가고 생성 키를 회수 (배치 불가)
+		SimpleJpaRepository<IdentityBoardComment, Long> identityRepository = new SimpleJpaRepository<>(IdentityBoardComment.class, entityManager);
+		long identityNanos = saveAllInChunks(i -> IdentityBoardComment.of(boardIdx, memberIdx, "bench-" + i), identityRepository::saveAll);
+		assertThat(countRows()).isEqualTo(ROWS);
+		deleteComments();
+
+		// 이후: 풀링 ID(IdSequences) 엔티티 + hibernate.jdbc.batch_size
+		long pooledNanos = saveAllInChunks(i -> BoardCommentEntity.builder()
+				.boardIdx(boardIdx)
+				.memberIdx(memberIdx)
+				.ment("bench-" + i)
+				.regdate(LocalDateTime.now())
+				.build(), commentRepository::saveAll);
+		assertThat(countRows()).isEqualTo(ROWS);
+
+		log.info("[bulk insert {} rows] IDENTITY saveAll: {} rows/s, pooled saveAll: {} rows/s (x{})",
+				ROWS, Math.round(rowsPerSecond(identityNanos)), Math.round(rowsPerSecond(pooledNanos)),
+				String.format("%.1f", (double) identityNanos / pooledNanos));
+
+		assertThat(pooledNanos).isLessThan(identityNanos);
+	}
+
+	// ROWS건을 FLUSH_SIZE개씩 saveAll + flush + clear (1차 캐시가 100k건으로 불어나지 않게), 걸린 시간(ns)
+	private <T> long saveAllInChunks(IntFunction<T> factory, Consumer<List<T>> saveAll) {
+		long start = System.nanoTime();
+		transactionTemplate.executeWithoutResult(status -> {
+			List<T> chunk = new ArrayList<>(FLUSH_SIZE);
+			for (int i = 0; i < ROWS; i++) {
+				chunk.add(factory.apply(i));
+
+				if (chunk.size() == FLUSH_SIZE || i == ROWS - 1) {
+					saveAll.accept(chunk);
+					entityManager.flush();
+					entityManager.clear();
+					chunk.clear();
+				}
+			}
+		});
+		return System.nanoTime() - start;
+	}
+
+	private void deleteComments() {
+		jdbcTemplate.update("DELETE FROM board_comments WHERE board_idx = ?", boardIdx);
+	}
+
+	private long countRows() {
+		Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board_comments WHERE board_idx = ?", Long.class, boardIdx);
+		return count == null ? 0 : count;
+	}
+
+	private long insert(String sql, Object... params) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(con -> {
+			PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+			for (int i = 0; i < params.length; i++) {
+				ps.setObject(i + 1, params[i]);
+			}
+			return ps;
+		}, keyHolder);
+		return keyHolder.getKey().longValue();
+	}
+
+	private static double rowsPerSecond(long nanos) {
+		return ROWS / (nanos / 1_000_000_000.0);
+	}
+
+	/**
+	 * 비교용: 풀링 ID 전환 전과 같은 IDENTITY 매핑의 board_comments 엔티티 (벤치마크에서만 사용)
+	 */
+	@Entity(name = "BenchmarkIdentityBoardComment")
+	@Table(name = "board_comments")
+	static class IdentityBoardComment {
+
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long idx;
+
+		@Column(name = "board_idx", nullable = false)
+		private long boardIdx;
+
+		@Column(name = "member_idx", nullable = false)
+		private long memberIdx;
+
+		@Column(name = "ment", nullable = false)
+		private String ment;
+
+		@Column(name = "regdate", nullable = false)
+		private LocalDateTime regdate;
+
+		@Column(name = "is_deleted", nullable = false)
+		private boolean isDeleted;
+
+		protected IdentityBoardComment() {
+		}
+
+		static IdentityBoardComment of(long boardIdx, long memberIdx, String ment) {
+			IdentityBoardComment comment = new IdentityBoardComment();
+			comment.boardIdx = boardIdx;
+			comment.memberIdx = memberIdx;
+			comment.ment = ment;
+			comment.regdate = LocalDateTime.now();
+			return comment;
+		}
+	}
+}
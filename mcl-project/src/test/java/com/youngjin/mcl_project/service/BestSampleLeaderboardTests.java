@@ -0,0 +1,66 @@
+package com.youngjin.mcl_project.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 샘플 랭킹의 샘플별 시간대 링 버퍼 (DB 없이 검증)
+ */
+class BestSampleLeaderboardTests {
+
+	private static final long NOW = 500_000L; // epoch hour
+
+	@Test
+	void sumsOnlyHoursInsideWindow() {
+		BestSampleLeaderboard.Counts counts = new BestSampleLeaderboard.Counts(NOW);
+		counts.addToBucket(NOW, 3);        // 지금
+		counts.addToBucket(NOW - 23, 2);   // 하루 안
+		counts.addToBucket(NOW - 24, 5);   // 하루 밖, 일주일 안
+		counts.addToBucket(NOW - 24 * 30, 7); // 30일 밖
+
+		assertThat(counts.sum(NOW, 24)).isEqualTo(5);
+		assertThat(counts.sum(NOW, 7 * 24)).isEqualTo(10);
+		assertThat(counts.sum(NOW, 30 * 24)).isEqualTo(10);
+		assertThat(counts.total()).isZero(); // addToBucket은 전체 수를 건드리지 않음
+	}
+
+	@Test
+	void oldHoursExpireAsTimeMovesForward() {
+		BestSampleLeaderboard.Counts counts = new BestSampleLeaderboard.Counts(NOW);
+		counts.add(NOW, 1);
+		counts.add(NOW, 1);
+		counts.add(NOW, -1);
+
+		assertThat(counts.sum(NOW + 23, 24)).isEqualTo(1);
+		assertThat(counts.sum(NOW + 24, 24)).isZero();
+		assertThat(counts.total()).isEqualTo(1);
+	}
+
+	@Test
+	void slotsAreClearedWhenRingWrapsAround() {
+		BestSampleLeaderboard.Counts counts = new BestSampleLeaderboard.Counts(NOW);
+		counts.add(NOW, 4);
+
+		// 링 한 바퀴 뒤 같은 칸에 새 값: 예전 값이 남아 있으면 안 됨
+		long later = NOW + BestSampleLeaderboard.RING_HOURS;
+		counts.add(later, 1);
+
+		assertThat(counts.sum(later, 30 * 24)).isEqualTo(1);
+		assertThat(counts.total()).isEqualTo(5);
+	}
+
+	@Test
+	void ignoresBucketsOlderThanRing() {
+		BestSampleLeaderboard.Counts counts = new BestSampleLeaderboard.Counts(NOW);
+		counts.addToBucket(NOW - BestSampleLeaderboard.RING_HOURS, 9);
+
+		assertThat(counts.sum(NOW, 30 * 24)).isZero();
+	}
+
+	@Test
+	void unknownPeriodFallsBackToWeekly() {
+		assertThat(BestSampleLeaderboard.Period.from("daily")).isEqualTo(BestSampleLeaderboard.Period.DAILY);
+		assertThat(BestSampleLeaderboard.Period.from("yearly")).isEqualTo(BestSampleLeaderboard.Period.WEEKLY);
+	}
+}
@@ -0,0 +1,54 @@
+package com.youngjin.mcl_project.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원별 좋아요/추천 id 집합 (DB 없이 검증)
+ */
+class MemberReactionIndexTests {
+
+	@Test
+	void ofSortsAndRemovesDuplicates() {
+		MemberReactionIndex.IdSet ids = MemberReactionIndex.IdSet.of(new long[]{30, 10, 20, 10, 30});
+
+		assertThat(ids.size()).isEqualTo(3);
+		assertThat(ids.contains(10)).isTrue();
+		assertThat(ids.contains(20)).isTrue();
+		assertThat(ids.contains(30)).isTrue();
+		assertThat(ids.contains(15)).isFalse();
+	}
+
+	@Test
+	void withAndWithoutReturnNewSetsInOrder() {
+		MemberReactionIndex.IdSet ids = MemberReactionIndex.IdSet.of(new long[]{10, 30});
+
+		MemberReactionIndex.IdSet added = ids.with(20).with(5).with(40);
+		assertThat(added.size()).isEqualTo(5);
+		assertThat(added.contains(5)).isTrue();
+		assertThat(added.contains(40)).isTrue();
+		assertThat(ids.contains(20)).isFalse(); // 원본은 그대로
+
+		MemberReactionIndex.IdSet removed = added.without(5).without(30).without(40);
+		assertThat(removed.size()).isEqualTo(2);
+		assertThat(removed.contains(10)).isTrue();
+		assertThat(removed.contains(20)).isTrue();
+		assertThat(removed.contains(30)).isFalse();
+	}
+
+	@Test
+	void toggleIsIdempotent() {
+		MemberReactionIndex.IdSet ids = MemberReactionIndex.IdSet.of(new long[]{1, 2});
+
+		assertThat(ids.with(2)).isSameAs(ids);
+		assertThat(ids.without(3)).isSameAs(ids);
+		assertThat(ids.without(1).without(2).size()).isZero();
+	}
+
+	@Test
+	void emptySetForAnonymous() {
+		assertThat(MemberReactionIndex.IdSet.of(new long[0]).contains(1)).isFalse();
+		assertThat(MemberReactionIndex.IdSet.EMPTY.with(7).contains(7)).isTrue();
+	}
+}
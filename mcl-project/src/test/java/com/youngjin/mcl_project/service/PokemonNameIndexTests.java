@@ -0,0 +1,70 @@
+package com.youngjin.mcl_project.service;
+
+import com.youngjin.mcl_project.dto.PokemonNameResponse;
+import com.youngjin.mcl_project.util.HangulUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포켓몬 이름 색인 (리소스 이름 목록 + 샘플 등록 이름, DB 없이 검증)
+ */
+class PokemonNameIndexTests {
+
+	private PokemonNameIndex index;
+
+	@BeforeEach
+	void setUp() {
+		// 트랜잭션 밖이므로 registerAfterCommit이 바로 반영됨 (reload를 부르지 않으므로 DB 불필요)
+		index = new PokemonNameIndex(null);
+		index.registerAfterCommit(25, "피카츄");
+		index.registerAfterCommit(5, "리자드");
+		index.registerAfterCommit(6, "리자몽");
+	}
+
+	@Test
+	void hangulHelpers() {
+		assertThat(HangulUtil.chosung("피카츄")).isEqualTo("ㅍㅋㅊ");
+		assertThat(HangulUtil.normalize("타입: 널")).isEqualTo("타입널");
+		assertThat(HangulUtil.decompose("피카츄")).hasSize(6);
+	}
+
+	@Test
+	void matchesSubstringLikeBefore() {
+		assertThat(index.findPokemonIdxs("리자")).containsExactly(5, 6);
+		assertThat(index.findPokemonIdxs("자몽")).containsExactly(6);
+	}
+
+	@Test
+	void matchesChosungAndEnglish() {
+		assertThat(index.findPokemonIdxs("ㅍㅋㅊ")).containsExactly(25);
+		assertThat(index.findPokemonIdxs("Pikachu")).containsExactly(25);
+	}
+
+	@Test
+	void toleratesTypos() {
+		assertThat(index.findPokemonIdxs("피카추")).containsExactly(25);
+		assertThat(index.findPokemonIdxs("charizrd")).containsExactly(6);
+	}
+
+	@Test
+	void namesWithoutSamplesAreSuggestedButNotSearched() {
+		List<PokemonNameResponse> suggestions = index.suggest("이상해", 5);
+		assertThat(suggestions).extracting(PokemonNameResponse::getKorName).contains("이상해씨", "이상해풀", "이상해꽃");
+		assertThat(suggestions).allMatch(s -> s.getPokemonIdx() == null);
+
+		assertThat(index.findPokemonIdxs("이상해")).isEmpty();
+		assertThat(index.findPokemonIdxs("없는포켓몬이름")).isEmpty();
+	}
+
+	@Test
+	void exactAndPrefixMatchesComeFirst() {
+		List<PokemonNameResponse> suggestions = index.suggest("리자몽", 5);
+		assertThat(suggestions.get(0).getKorName()).isEqualTo("리자몽");
+		assertThat(suggestions.get(0).getEngName()).isEqualTo("charizard");
+		assertThat(suggestions.get(0).getPokemonIdx()).isEqualTo(6);
+	}
+}
@@ -0,0 +1,165 @@
+package com.youngjin.mcl_project.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추천/좋아요 토글을 여러 회원이 동시에 눌러도 카운터와 로그 행 수가 어긋나지 않는지 확인합니다.
+ * 회원마다 홀수 번 토글하므로 최종 상태는 모두 "누름"이어야 합니다.
+ * 추천은 원래 컬럼에 직접 쓰는 경우와 분산 카운터(ShardedCounterService) 슬롯에 쓰는 경우를 모두 확인하고,
+ * 좋아요는 LikeEventAggregator가 이벤트를 반영한 뒤의 like_count를 확인합니다.
+ */
+@SpringBootTest
+class ReactionToggleConcurrencyTests {
+
+	private static final int MEMBERS = 64;
+	private static final int TOGGLES_PER_MEMBER = 3;
+	private static final String PROVIDER_PREFIX = "toggle-test-";
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private PokeSampleService pokeSampleService;
+
+	@Autowired
+	private ShardedCounterService shardedCounterService;
+
+	@Autowired
+	private LikeEventAggregator likeEventAggregator;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<Long> memberIdxs = new ArrayList<>();
+	private long boardIdx;
+	private long sampleIdx;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < MEMBERS; i++) {
+			String providerId = PROVIDER_PREFIX + i;
+			memberIdxs.add(insert("INSERT INTO member (userid, pwd, nickname, regdate, provider, provider_id) VALUES (?, '-', ?, NOW(), 'test', ?)",
+					providerId, providerId, providerId));
+		}
+
+		long writerIdx = memberIdxs.get(0);
+		boardIdx = insert("INSERT INTO board (member_idx, title, content, regdate) VALUES (?, 'toggle test', 'toggle test', NOW())",
+				writerIdx);
+		sampleIdx = insert("INSERT INTO poke_sample (member_idx, pokemon_idx, pokemon_name, tera_type, item, nature, ability, ivs, evs, move1, move2, move3, move4) " +
+						"VALUES (?, 25, '피카츄', '전기', '구애스카프', '명랑', '피뢰침', '31,31,31,31,31,31', '0,252,0,0,4,252', '10만볼트', '볼트태클', '아이언테일', '전광석화')",
+				writerIdx);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.update("DELETE FROM counter_shard WHERE target_idx = ?", boardIdx);
+		jdbcTemplate.update("DELETE FROM poke_sample_like_event WHERE sample_idx = ?", sampleIdx);
+		jdbcTemplate.update("DELETE FROM poke_sample_like_hourly WHERE sample_idx = ?", sampleIdx);
+		jdbcTemplate.update("DELETE FROM board_recommend WHERE board_idx = ?", boardIdx);
+		jdbcTemplate.update("DELETE FROM poke_sample_like WHERE sample_idx = ?", sampleIdx);
+		jdbcTemplate.update("DELETE FROM board WHERE idx = ?", boardIdx);
+		jdbcTemplate.update("DELETE FROM poke_sample WHERE idx = ?", sampleIdx);
+		jdbcTemplate.update("DELETE FROM member WHERE provider = 'test' AND provider_id LIKE ?", PROVIDER_PREFIX + "%");
+		memberIdxs.clear();
+	}
+
+	@Test
+	void concurrentTogglesKeepCountersInSyncWithRows() throws Exception {
+		runConcurrentToggles();
+		assertCountersMatchRows();
+	}
+
+	@Test
+	void concurrentTogglesOnShardedRecommendCounterKeepCountersInSyncWithRows() throws Exception {
+		// 쓰기 속도 임계치를 넘겨 샤딩 모드로 전환
+		for (int i = 0; i < 10_000; i++) {
+			shardedCounterService.recordWrite(ShardedCounterService.Target.BOARD_RECOMMEND, boardIdx);
+		}
+		shardedCounterService.rollUpAndAdjust();
+		assertThat(shardedCounterService.recordWrite(ShardedCounterService.Target.BOARD_RECOMMEND, boardIdx)).isTrue();
+
+		runConcurrentToggles();
+		assertCountersMatchRows();
+		assertThat(queryLong("SELECT COUNT(*) FROM counter_shard WHERE target_idx = ?", boardIdx)).isZero();
+	}
+
+	private void runConcurrentToggles() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(MEMBERS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+
+		try {
+			for (int i = 0; i < MEMBERS; i++) {
+				String providerId = PROVIDER_PREFIX + i;
+				futures.add(pool.submit(() -> {
+					start.await();
+					for (int t = 0; t < TOGGLES_PER_MEMBER; t++) {
+						boardService.toggleRecommendation(boardIdx, providerId);
+						pokeSampleService.toggleLike(sampleIdx, providerId);
+					}
+					return null;
+				}));
+			}
+
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(60, TimeUnit.SECONDS); // 토글 중 예외(교착 포함)가 나면 여기서 실패
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	// 토글 도중 샤딩 모드로 바뀌었을 수 있으므로 슬롯과 좋아요 이벤트를 반영한 뒤 비교
+	private void assertCountersMatchRows() {
+		shardedCounterService.rollUpAndAdjust();
+		likeEventAggregator.aggregate();
+		assertThat(queryLong("SELECT COUNT(*) FROM poke_sample_like_event WHERE sample_idx = ?", sampleIdx)).isZero();
+
+		long recommend = queryLong("SELECT recommend FROM board WHERE idx = ?", boardIdx);
+		long recommendRows = queryLong("SELECT COUNT(*) FROM board_recommend WHERE board_idx = ?", boardIdx);
+		assertThat(recommend).isEqualTo(recommendRows).isEqualTo(MEMBERS);
+
+		long likeCount = queryLong("SELECT like_count FROM poke_sample WHERE idx = ?", sampleIdx);
+		long likeRows = queryLong("SELECT COUNT(*) FROM poke_sample_like WHERE sample_idx = ?", sampleIdx);
+		assertThat(likeCount).isEqualTo(likeRows).isEqualTo(MEMBERS);
+		assertThat(queryLong("SELECT COALESCE(SUM(likes), 0) FROM poke_sample_like_hourly WHERE sample_idx = ?", sampleIdx))
+				.isEqualTo(MEMBERS);
+	}
+
+	private long insert(String sql, Object... args) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(con -> {
+			PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+			for (int i = 0; i < args.length; i++) {
+				ps.setObject(i + 1, args[i]);
+			}
+			return ps;
+		}, keyHolder);
+		return keyHolder.getKey().longValue();
+	}
+
+	private long queryLong(String sql, Object... args) {
+		Long value = jdbcTemplate.queryForObject(sql, Long.class, args);
+		return value == null ? 0 : value;
+	}
+}
@@ -0,0 +1,165 @@
+package com.youngjin.mcl_project.service;
+
+import com.youngjin.mcl_project.service.SampleFacetIndex.Facet;
+import com.youngjin.mcl_project.service.SampleFacetIndex.FacetCount;
+import com.youngjin.mcl_project.service.SampleFacetIndex.Hits;
+import com.youngjin.mcl_project.service.SampleFacetIndex.SampleDoc;
+import com.youngjin.mcl_project.util.CompressedBitmap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 샘플 필터 비트맵 색인 (DB 없이 FacetIndex만 검증)
+ */
+class SampleFacetIndexTests {
+
+	private SampleFacetIndex.FacetIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new SampleFacetIndex.FacetIndex();
+		index.apply(doc(1, "리자몽", "페어리", "구애스카프", "겁쟁이", "선파워", "화염방사", "에어슬래시", "기합구슬", "솔라빔"));
+		index.apply(doc(2, "한카리아스", "강철", "기합의띠", "명랑", "까칠한피부", "칼춤", "지진", "역린", "스텔스록"));
+		index.apply(doc(3, "한카리아스", "페어리", "구애스카프", "명랑", "까칠한피부", "지진", "역린", "스톤에지", "아이언헤드"));
+		index.apply(doc(4, "딩루", "페어리", "먹다남은음식", "조심", "재앙의그릇", "지진", "스텔스록", "날개쉬기", "칼춤"));
+	}
+
+	@Test
+	void valuesInFacetAreOrAndFacetsAreAnd() {
+		Hits hits = search(Map.of(Facet.TERA_TYPE, List.of("페어리", "강철"), Facet.NATURE, List.of("명랑")));
+
+		assertThat(hits.total()).isEqualTo(2);
+		assertThat(hits.sampleIdxs()).containsExactly(3L, 2L); // 최신순
+	}
+
+	@Test
+	void movesMustAllMatch() {
+		assertThat(search(Map.of(Facet.MOVE, List.of("지진", "칼춤"))).sampleIdxs()).containsExactly(4L, 2L);
+		assertThat(search(Map.of(Facet.MOVE, List.of("지진", "솔라빔"))).total()).isZero();
+		assertThat(search(Map.of(Facet.MOVE, List.of("없는기술"))).total()).isZero();
+	}
+
+	@Test
+	void facetCountsIgnoreOwnFilter() {
+		Hits hits = search(Map.of(Facet.TERA_TYPE, List.of("강철")));
+
+		// 테라 타입 개수는 테라 타입 필터를 뺀 전체 기준 (다른 값을 골랐을 때의 결과 수)
+		assertThat(hits.facets().get(Facet.TERA_TYPE))
+				.containsExactly(new FacetCount("페어리", 3), new FacetCount("강철", 1));
+		// 다른 필터 개수는 현재 결과 기준
+		assertThat(hits.facets().get(Facet.POKEMON)).containsExactly(new FacetCount("한카리아스", 1));
+	}
+
+	@Test
+	void updateAndDeleteMoveSampleBetweenValues() {
+		index.apply(doc(1, "리자몽", "불꽃", "구애스카프", "겁쟁이", "선파워", "화염방사", "에어슬래시", "기합구슬", "솔라빔"));
+		assertThat(search(Map.of(Facet.TERA_TYPE, List.of("페어리"))).sampleIdxs()).containsExactly(4L, 3L);
+		assertThat(search(Map.of(Facet.TERA_TYPE, List.of("불꽃"))).sampleIdxs()).containsExactly(1L);
+
+		index.apply(new SampleDoc(4, false, null));
+		assertThat(search(Map.of(Facet.MOVE, List.of("지진"))).sampleIdxs()).containsExactly(3L, 2L);
+		assertThat(search(Map.of()).total()).isEqualTo(3);
+
+		// 다시 공개되면 원래 문서 번호(순서) 그대로
+		index.apply(doc(4, "딩루", "페어리", "먹다남은음식", "조심", "재앙의그릇", "지진", "스텔스록", "날개쉬기", "칼춤"));
+		assertThat(search(Map.of()).sampleIdxs()).containsExactly(4L, 3L, 2L, 1L);
+	}
+
+	@Test
+	void pagesNewestFirst() {
+		Hits hits = index.search(Map.of(), 1, 3, 10);
+
+		assertThat(hits.total()).isEqualTo(4);
+		assertThat(hits.sampleIdxs()).containsExactly(1L);
+	}
+
+	@Test
+	void pageBeyondResultsIsEmpty() {
+		assertThat(index.search(Map.of(), 2, 3, 10).sampleIdxs()).isEmpty();
+		// page * size가 int 범위를 넘어도 빈 페이지
+		assertThat(index.search(Map.of(), Integer.MAX_VALUE, 100, 10).sampleIdxs()).isEmpty();
+	}
+
+	@Test
+	void privateSampleKeepsIdxOrderWhenPublished() {
+		// 비공개로 색인된 5번 뒤에 6번이 공개 등록
+		index.apply(new SampleDoc(5, false, doc(5, "피카츄", "전기", "전기구슬", "겁쟁이", "피뢰침", "10만볼트", "볼트체인지", "페이크아웃", "보호").values()));
+		index.apply(doc(6, "잠만보", "노말", "먹다남은음식", "용감", "먹보", "누르기", "하품", "잠꾸러기", "지진"));
+		assertThat(search(Map.of()).sampleIdxs()).containsExactly(6L, 4L, 3L, 2L, 1L);
+
+		// 5번이 공개되어도 6번보다 앞(최신)에 나오지 않음
+		index.apply(doc(5, "피카츄", "전기", "전기구슬", "겁쟁이", "피뢰침", "10만볼트", "볼트체인지", "페이크아웃", "보호"));
+		assertThat(search(Map.of()).sampleIdxs()).containsExactly(6L, 5L, 4L, 3L, 2L, 1L);
+	}
+
+	@Test
+	void similarRanksSharedMovesAndSpeciesFirst() {
+		// 3번과 같은 포켓몬/특성/성격 + 기술 2개가 같은 2번이 가장 비슷, 자기 자신은 제외
+		assertThat(index.similar(3, 10)).first().isEqualTo(2L);
+		assertThat(index.similar(3, 10)).containsExactlyInAnyOrder(2L, 1L, 4L);
+		assertThat(index.similar(3, 1)).containsExactly(2L);
+
+		// 기술/도구/특성이 하나도 겹치지 않으면 후보가 아님
+		index.apply(doc(5, "피카츄", "전기", "전기구슬", "겁쟁이", "피뢰침", "10만볼트", "볼트체인지", "페이크아웃", "보호"));
+		assertThat(index.similar(5, 10)).isEmpty();
+
+		index.apply(new SampleDoc(2, false, null));
+		assertThat(index.similar(3, 10)).doesNotContain(2L);
+		assertThat(index.similar(2, 10)).isEmpty();
+	}
+
+	@Test
+	void compressedBitmapMatchesBitSet() {
+		Random random = new Random(22);
+		for (int round = 0; round < 20; round++) {
+			BitSet expectedA = new BitSet();
+			BitSet expectedB = new BitSet();
+			CompressedBitmap a = new CompressedBitmap();
+			CompressedBitmap b = new CompressedBitmap();
+			// 구역마다 희소/밀집이 섞이도록 범위를 바꿔가며 추가
+			int range = round % 2 == 0 ? 300_000 : 70_000;
+			for (int i = 0; i < 20_000; i++) {
+				int x = random.nextInt(range);
+				int y = random.nextInt(range);
+				a.add(x);
+				expectedA.set(x);
+				b.add(y);
+				expectedB.set(y);
+			}
+			for (int i = 0; i < 5_000; i++) {
+				int x = random.nextInt(range);
+				a.remove(x);
+				expectedA.clear(x);
+			}
+
+			BitSet and = (BitSet) expectedA.clone();
+			and.and(expectedB);
+			BitSet or = (BitSet) expectedA.clone();
+			or.or(expectedB);
+
+			assertThat(a.cardinality()).isEqualTo(expectedA.cardinality());
+			assertThat(CompressedBitmap.and(a, b).cardinality()).isEqualTo(and.cardinality());
+			assertThat(CompressedBitmap.andCardinality(a, b)).isEqualTo(and.cardinality());
+			assertThat(CompressedBitmap.or(a, b).cardinality()).isEqualTo(or.cardinality());
+			assertThat(a.descending(0, 1)[0]).isEqualTo(expectedA.previousSetBit(range));
+		}
+	}
+
+	private Hits search(Map<Facet, List<String>> filters) {
+		return index.search(filters, 0, 10, 10);
+	}
+
+	private static SampleDoc doc(long idx, String pokemon, String teraType, String item, String nature, String ability,
+								 String move1, String move2, String move3, String move4) {
+		return new SampleDoc(idx, true, new String[][]{
+				{pokemon}, {teraType}, {item}, {nature}, {ability}, {move1, move2, move3, move4}
+		});
+	}
+}
@@ -0,0 +1,47 @@
+package com.youngjin.mcl_project.util;
+
+import com.youngjin.mcl_project.enums.PokeStat;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 개체값/노력치 문자열 <-> 묶은 값 변환
+ */
+class StatSpreadCodecTests {
+
+	@Test
+	void roundTripsEditorFormat() {
+		long ivs = StatSpreadCodec.parseIvs("31/31/31/x/31/0");
+		assertThat(StatSpreadCodec.iv(ivs, PokeStat.C)).isEqualTo(StatSpreadCodec.IV_ANY);
+		assertThat(StatSpreadCodec.iv(ivs, PokeStat.S)).isZero();
+		assertThat(StatSpreadCodec.formatIvs(ivs)).isEqualTo("31/31/31/x/31/0");
+
+		long evs = StatSpreadCodec.parseEvs("H4 A252 S252");
+		assertThat(StatSpreadCodec.ev(evs, PokeStat.S)).isEqualTo(252);
+		assertThat(StatSpreadCodec.evTotal(evs)).isEqualTo(508);
+		assertThat(StatSpreadCodec.formatEvs(evs)).isEqualTo("H4 A252 S252");
+
+		// 생성 컬럼 ev_s = (ev_packed >> 40) & 255 와 같은 배치
+		assertThat((evs >> 40) & 255).isEqualTo(252L);
+	}
+
+	@Test
+	void normalizesToCanonicalStrings() {
+		assertThat(StatSpreadCodec.formatIvs(StatSpreadCodec.parseIvs(" 31 / 30/31/X/31/31 "))).isEqualTo("31/30/31/x/31/31");
+		assertThat(StatSpreadCodec.formatEvs(StatSpreadCodec.parseEvs("s252  h4 a252"))).isEqualTo("H4 A252 S252");
+		assertThat(StatSpreadCodec.formatEvs(StatSpreadCodec.parseEvs("0"))).isEqualTo("0");
+		assertThat(StatSpreadCodec.parseEvs("")).isZero();
+	}
+
+	@Test
+	void rejectsInvalidSpreads() {
+		assertThatThrownBy(() -> StatSpreadCodec.parseIvs("31/31/31/31/31")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> StatSpreadCodec.parseIvs("31/31/31/32/31/31")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> StatSpreadCodec.parseEvs("H252 A252 S252")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> StatSpreadCodec.parseEvs("A253")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> StatSpreadCodec.parseEvs("A100 A100")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> StatSpreadCodec.parseEvs("X4")).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,151 @@
+import { useEffect, useRef, useState } from "react";
+import { API_BASE_URL } from "../config/defaultconfig";
+
+// 서버 WebSocketConfig의 STOMP 엔드포인트 (https -> wss)
+const WS_URL = API_BASE_URL.replace(/^http/, "ws") + "/ws";
+
+// 서버 LiveUpdateMessage와 같은 구조
+export interface LiveUpdateMessage<C> {
+  type:
+    | "COMMENT_CREATED"
+    | "COMMENT_UPDATED"
+    | "COMMENT_DELETED"
+    | "RECOMMEND_CHANGED"
+    | "LIKE_CHANGED";
+  targetIdx: number;
+  commentIdx: number | null;
+  parentIdx: number | null;
+  comment: C | null;
+  count: number | null; // 현재 추천/좋아요 수 (증감이 아니라 덮어쓸 값)
+}
+
+interface TreeComment<C> {
+  idx: number;
+  ment: string;
+  isDeleted: boolean;
+  replies: C[];
+}
+
+/**
+ * 토픽 하나를 구독하고 메시지마다 onMessage를 호출합니다. (구독 전용 최소 STOMP 1.2 클라이언트)
+ * 연결이 끊기면 1초부터 최대 30초까지 늘려가며 재연결합니다.
+ * onSubscribe는 구독할 때마다(처음 + 재연결) 호출됩니다. 구독 전/끊긴 동안 놓친 메시지를 REST로 맞출 때 사용합니다.
+ * @returns 현재 구독 중인지 (false면 화면에서 REST 재조회로 대신)
+ */
+export const useLiveTopic = <T>(
+  topic: string | null,
+  onMessage: (message: T) => void,
+  onSubscribe?: () => void
+): boolean => {
+  const [connected, setConnected] = useState(false);
+  const handlerRef = useRef(onMessage);
+  const subscribeRef = useRef(onSubscribe);
+
+  useEffect(() => {
+    handlerRef.current = onMessage;
+    subscribeRef.current = onSubscribe;
+  }, [onMessage, onSubscribe]);
+
+  useEffect(() => {
+    if (!topic) return;
+
+    let socket: WebSocket | null = null;
+    let retryTimer: number | undefined;
+    let retryDelay = 1000;
+    let disposed = false;
+
+    const connect = () => {
+      socket = new WebSocket(WS_URL);
+
+      socket.onopen = () => {
+        // 클라이언트 하트비트는 보내지 않고, 서버 하트비트만 10초마다 받음
+        socket?.send("CONNECT\naccept-version:1.2\nheart-beat:0,10000\n\n\0");
+      };
+
+      socket.onmessage = (event) => {
+        for (const raw of String(event.data).split("\0")) {
+          const frame = raw.replace(/^\n+/, ""); // 하트비트(빈 줄) 제거
+          if (!frame) continue;
+
+          const command = frame.slice(0, frame.indexOf("\n"));
+          const bodyStart = frame.indexOf("\n\n");
+          const body = bodyStart >= 0 ? frame.slice(bodyStart + 2) : "";
+
+          if (command === "CONNECTED") {
+            socket?.send(`SUBSCRIBE\nid:sub-0\ndestination:${topic}\n\n\0`);
+            retryDelay = 1000;
+            setConnected(true);
+            subscribeRef.current?.();
+          } else if (command === "MESSAGE" && body) {
+            try {
+              handlerRef.current(JSON.parse(body) as T);
+            } catch (err) {
+              console.error("실시간 메시지 처리 오류", err);
+            }
+          }
+        }
+      };
+
+      socket.onclose = () => {
+        setConnected(false);
+        if (!disposed) {
+          retryTimer = window.setTimeout(connect, retryDelay);
+          retryDelay = Math.min(retryDelay * 2, 30000);
+        }
+      };
+    };
+
+    connect();
+
+    return () => {
+      disposed = true;
+      window.clearTimeout(retryTimer);
+      socket?.close();
+      setConnected(false);
+    };
+  }, [topic]);
+
+  return connected;
+};
+
+/**
+ * 댓글 트리에 변경분 하나를 적용한 새 트리를 반환합니다. (작성/수정/삭제)
+ */
+export const applyCommentDelta = <C extends TreeComment<C>>(
+  tree: C[],
+  message: LiveUpdateMessage<C>
+): C[] => {
+  const { type, commentIdx, parentIdx, comment } = message;
+
+  const mapTree = (nodes: C[], fn: (node: C) => C): C[] =>
+    nodes.map((node) => fn({ ...node, replies: mapTree(node.replies, fn) }));
+
+  const contains = (nodes: C[], idx: number | null): boolean =>
+    nodes.some((node) => node.idx === idx || contains(node.replies, idx));
+
+  switch (type) {
+    case "COMMENT_CREATED":
+      if (!comment || contains(tree, comment.idx)) return tree;
+      if (parentIdx === null) return [...tree, comment];
+      return mapTree(tree, (node) =>
+        node.idx === parentIdx
+          ? { ...node, replies: [...node.replies, comment] }
+          : node
+      );
+    case "COMMENT_UPDATED":
+      if (!comment) return tree;
+      return mapTree(tree, (node) =>
+        node.idx === commentIdx
+          ? { ...node, ...comment, replies: node.replies }
+          : node
+      );
+    case "COMMENT_DELETED":
+      return mapTree(tree, (node) =>
+        node.idx === commentIdx
+          ? { ...node, isDeleted: true, ment: "삭제된 댓글입니다." }
+          : node
+      );
+    default:
+      return tree;
+  }
+};
@@ -2,6 +2,8 @@ import React, { useState, useEffect } from "react";
 import { useParams, useNavigate } from "react-router-dom";
 import axios from "axios";
 import apiClient from "../api/apiClient";
+import { useLiveTopic, applyCommentDelta } from "../api/liveClient";
+import type { LiveUpdateMessage } from "../api/liveClient";
 import MainLayout from "../components/layout/MainLayout";
 import { useAuth } from "../context/AuthContext";
 import type { UserInfo } from "../context/AuthContext";
@@ -316,6 +318,29 @@ const BoardDetailPage: React.FC = () => {
     fetchData();
   }, [boardId]);
 
+  // 추천 수 덮어쓰기 (메시지/재조회 모두 현재 값)
+  const setRecommend = (recommend: number) =>
+    setPost((prev) => (prev ? { ...prev, recommend } : null));
+
+  // 실시간 갱신: 다른 사용자의 댓글/추천 변경분을 바로 반영 (구독 중이면 내 작업 후 재조회도 생략)
+  // 구독할 때마다(처음 + 재연결) 추천 수를 다시 받아, 조회~구독 사이나 끊긴 동안 놓친 변경을 맞춤
+  const live = useLiveTopic<LiveUpdateMessage<BoardCommentResponse>>(
+    boardId ? `/topic/board/${boardId}` : null,
+    (message) => {
+      if (message.type === "RECOMMEND_CHANGED") {
+        if (message.count !== null) setRecommend(message.count);
+      } else {
+        setComments((prev) => applyCommentDelta(prev, message));
+      }
+    },
+    () => {
+      apiClient
+        .get<number>(`/api/v1/board/recommend/${boardId}`)
+        .then((res) => setRecommend(res.data))
+        .catch(() => {});
+    }
+  );
+
   // --- 핸들러 ---
 
   const handleRecommend = async () => {
@@ -328,7 +353,12 @@ const BoardDetailPage: React.FC = () => {
         return {
           ...prev,
           isRecommended: newIsRecommended,
-          recommend: newIsRecommended ? prev.recommend + 1 : prev.recommend - 1,
+          // 구독 중이면 추천 수는 서버 메시지로 받음
+          recommend: live
+            ? prev.recommend
+            : newIsRecommended
+            ? prev.recommend + 1
+            : prev.recommend - 1,
         };
       });
     } catch (err) {
@@ -354,7 +384,7 @@ const BoardDetailPage: React.FC = () => {
         parentIdx: null,
       });
       setCommentInput("");
-      fetchData();
+      if (!live) fetchData();
     } catch (err) {
       alert("댓글 작성에 실패했습니다.");
     }
@@ -370,7 +400,7 @@ const BoardDetailPage: React.FC = () => {
       });
       setReplyInput("");
       setActiveReplyId(null);
-      fetchData();
+      if (!live) fetchData();
     } catch (err) {
       alert("답글 작성에 실패했습니다.");
     }
@@ -397,7 +427,7 @@ const BoardDetailPage: React.FC = () => {
       });
       setEditingCommentId(null);
       setEditInput("");
-      fetchData();
+      if (!live) fetchData();
     } catch (err) {
       alert("댓글 수정에 실패했습니다.");
     }
@@ -418,7 +448,7 @@ const BoardDetailPage: React.FC = () => {
     if (!window.confirm("댓글을 삭제하시겠습니까?")) return;
     try {
       await apiClient.delete(`/api/v1/board/comment/${commentIdx}`);
-      fetchData();
+      if (!live) fetchData();
     } catch (err) {
       alert("댓글 삭제 권한이 없거나 오류가 발생했습니다.");
     }
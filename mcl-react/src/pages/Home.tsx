@@ -50,10 +50,11 @@ const Home: React.FC = () => {
     setIsLoadingNotices(true);
     setNoticeError(null);
     try {
-      const response = await apiClient.get<BoardListResponse>(
-        `/api/v1/board/list?type=NOTICE&size=5&page=0`
+      // 공지 목록은 서버 메모리 스냅샷 (브라우저 캐시/ETag 재검증)
+      const response = await apiClient.get<BoardItemResponse[]>(
+        `/api/v1/board/notices`
       );
-      const fetchedData = response.data.content || [];
+      const fetchedData = (response.data || []).slice(0, 5);
       setNoticeData(
         fetchedData.map((item) => ({
           id: item.idx,
@@ -678,9 +678,20 @@ const HistoryContent: React.FC<{ user: UserInfo }> = ({ user }) => {
           ? "/api/v1/board/delete-batch"
           : "/api/v1/board/comment/delete-batch";
 
-      await apiClient.delete(endpoint, { data: selectedIds });
-
-      alert("삭제되었습니다.");
+      // 응답: { [idx]: "DELETED" | "NOT_FOUND" | "FORBIDDEN" }
+      const response = await apiClient.delete<Record<string, string>>(
+        endpoint,
+        { data: selectedIds }
+      );
+      const deletedCount = Object.values(response.data || {}).filter(
+        (result) => result === "DELETED"
+      ).length;
+
+      alert(
+        deletedCount === selectedIds.length
+          ? "삭제되었습니다."
+          : `${selectedIds.length}개 중 ${deletedCount}개가 삭제되었습니다.`
+      );
       fetchData(); // 새로고침
     } catch (err) {
       alert("삭제 실패");
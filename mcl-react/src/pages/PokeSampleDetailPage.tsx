@@ -1,6 +1,8 @@
 import React, { useState, useEffect, useMemo } from "react";
 import { useParams, useNavigate } from "react-router-dom";
 import apiClient from "../api/apiClient";
+import { useLiveTopic, applyCommentDelta } from "../api/liveClient";
+import type { LiveUpdateMessage } from "../api/liveClient";
 import MainLayout from "../components/layout/MainLayout";
 import { useAuth } from "../context/AuthContext";
 import type { UserInfo } from "../context/AuthContext";
@@ -306,6 +308,29 @@ const PokeSampleDetailPage: React.FC = () => {
     if (sampleId) fetchDetail();
   }, [sampleId]);
 
+  // 좋아요 수 덮어쓰기 (메시지/재조회 모두 현재 값)
+  const setLikeCount = (likeCount: number) =>
+    setSample((prev) => (prev ? { ...prev, likeCount } : null));
+
+  // 실시간 갱신: 다른 사용자의 댓글/좋아요 변경분을 바로 반영 (구독 중이면 내 작업 후 재조회도 생략)
+  // 구독할 때마다(처음 + 재연결) 좋아요 수를 다시 받아, 조회~구독 사이나 끊긴 동안 놓친 변경을 맞춤
+  const live = useLiveTopic<LiveUpdateMessage<CommentResponse>>(
+    sampleId ? `/topic/poke-sample/${sampleId}` : null,
+    (message) => {
+      if (message.type === "LIKE_CHANGED") {
+        if (message.count !== null) setLikeCount(message.count);
+      } else {
+        setComments((prev) => applyCommentDelta(prev, message));
+      }
+    },
+    () => {
+      apiClient
+        .get<number>(`/api/v1/poke-sample/like/${sampleId}`)
+        .then((res) => setLikeCount(res.data))
+        .catch(() => {});
+    }
+  );
+
   // --- 핸들러 ---
 
   // 1. 좋아요
@@ -325,7 +350,12 @@ const PokeSampleDetailPage: React.FC = () => {
           ? {
               ...prev,
               isLiked: isLikedNow,
-              likeCount: isLikedNow ? prev.likeCount + 1 : prev.likeCount - 1,
+              // 구독 중이면 좋아요 수는 서버 메시지로 받음
+              likeCount: live
+                ? prev.likeCount
+                : isLikedNow
+                ? prev.likeCount + 1
+                : prev.likeCount - 1,
             }
           : null
       );
@@ -357,7 +387,7 @@ const PokeSampleDetailPage: React.FC = () => {
         parentIdx: null,
       });
       setCommentInput("");
-      fetchDetail();
+      if (!live) fetchDetail();
     } catch (err) {
       alert("댓글 작성 실패");
     }
@@ -374,7 +404,7 @@ const PokeSampleDetailPage: React.FC = () => {
       });
       setReplyInput("");
       setActiveReplyId(null);
-      fetchDetail();
+      if (!live) fetchDetail();
     } catch (err) {
       alert("답글 작성 실패");
     }
@@ -390,7 +420,7 @@ const PokeSampleDetailPage: React.FC = () => {
       });
       setEditingCommentId(null);
       setEditInput("");
-      fetchDetail();
+      if (!live) fetchDetail();
     } catch (err) {
       alert("댓글 수정 실패");
     }
@@ -401,7 +431,7 @@ const PokeSampleDetailPage: React.FC = () => {
     if (!window.confirm("댓글을 삭제하시겠습니까?")) return;
     try {
       await apiClient.delete(`/api/v1/poke-sample/comment/${commentIdx}`);
-      fetchDetail();
+      if (!live) fetchDetail();
     } catch (err) {
       alert("댓글 삭제 실패");
     }
@@ -33,6 +33,13 @@ interface PokeSampleRequestDTO {
   visibility: "PUBLIC" | "PRIVATE";
 }
 
+// 포켓몬 이름 자동완성 항목 (GET /api/v1/poke-sample/pokemon-names)
+interface PokemonNameSuggestion {
+  korName: string;
+  engName: string | null;
+  pokemonIdx: number | null;
+}
+
 const PokeSampleEditorPage: React.FC = () => {
   const { id } = useParams<{ id: string }>();
   const navigate = useNavigate();
@@ -53,6 +60,7 @@ const PokeSampleEditorPage: React.FC = () => {
   // 검색어 및 자동완성 UI 제어
   const [searchTerm, setSearchTerm] = useState("");
   const [showSuggestions, setShowSuggestions] = useState(false);
+  const [suggestions, setSuggestions] = useState<PokemonNameSuggestion[]>([]);
 
   // 폼 데이터
   const [formData, setFormData] = useState<PokeSampleRequestDTO>({
@@ -104,9 +112,32 @@ const PokeSampleEditorPage: React.FC = () => {
     }
   };
 
+  // 자동완성 목록 (서버 이름 색인: 부분 일치, 초성, 오타 허용 / 입력이 멈추면 조회)
+  useEffect(() => {
+    const term = searchTerm.trim();
+    if (!showSuggestions || term === "") {
+      setSuggestions([]);
+      return;
+    }
+
+    const timer = setTimeout(async () => {
+      try {
+        const res = await apiClient.get<PokemonNameSuggestion[]>(
+          "/api/v1/poke-sample/pokemon-names",
+          { params: { q: term, limit: 5 } }
+        );
+        setSuggestions(res.data);
+      } catch (err) {
+        console.error("포켓몬 이름 자동완성 실패", err);
+      }
+    }, 150);
+
+    return () => clearTimeout(timer);
+  }, [searchTerm, showSuggestions]);
+
   // 포켓몬 선택 핸들러
-  const handleSelectPokemon = async (korName: string) => {
-    const engName = POKEMON_NAME_MAP[korName];
+  const handleSelectPokemon = async (korName: string, suggestedEngName?: string | null) => {
+    const engName = suggestedEngName || POKEMON_NAME_MAP[korName];
     if (!engName) return;
 
     setSearchTerm(korName);
@@ -277,20 +308,19 @@ const PokeSampleEditorPage: React.FC = () => {
                   onFocus={() => setShowSuggestions(true)}
                 />
 
-                {showSuggestions && searchTerm && (
+                {showSuggestions && searchTerm && suggestions.length > 0 && (
                   <ul className="autocomplete-list">
-                    {Object.keys(POKEMON_NAME_MAP)
-                      .filter((name) => name.includes(searchTerm))
-                      .slice(0, 5)
-                      .map((name) => (
-                        <li
-                          key={name}
-                          onClick={() => handleSelectPokemon(name)}
-                          className="autocomplete-item"
-                        >
-                          {name}
-                        </li>
-                      ))}
+                    {suggestions.map((suggestion) => (
+                      <li
+                        key={suggestion.korName}
+                        onClick={() =>
+                          handleSelectPokemon(suggestion.korName, suggestion.engName)
+                        }
+                        className="autocomplete-item"
+                      >
+                        {suggestion.korName}
+                      </li>
+                    ))}
                   </ul>
                 )}
               </div>
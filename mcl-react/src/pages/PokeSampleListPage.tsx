@@ -34,14 +34,12 @@ interface PokeSampleResponseDTO {
   regdate: string | number[];
 }
 
-// Page 응답 껍데기
-interface PageResponse<T> {
+// 커서 페이징 응답 껍데기 (COUNT 없이 다음 커서만 내려옴)
+interface CursorResponse<T> {
   content: T[];
-  last: boolean; // 마지막 페이지 여부
-  totalElements: number;
-  totalPages: number;
   size: number;
-  number: number; // 현재 페이지 번호
+  hasNext: boolean; // 다음 페이지 존재 여부
+  nextCursor: number | null; // 다음 요청의 after 값
 }
 
 const PokeSampleListPage: React.FC = () => {
@@ -52,7 +50,7 @@ const PokeSampleListPage: React.FC = () => {
 
   // 데이터 상태
   const [samples, setSamples] = useState<PokeSampleResponseDTO[]>([]);
-  const [page, setPage] = useState(0); // 현재 로드된 페이지 번호
+  const [cursor, setCursor] = useState<number | null>(null); // 다음에 불러올 위치 (마지막 샘플 idx)
   const [isLast, setIsLast] = useState(false); // 더 불러올게 없는지?
   const [loading, setLoading] = useState(false);
 
@@ -60,21 +58,21 @@ const PokeSampleListPage: React.FC = () => {
   const [searchTerm, setSearchTerm] = useState("");
   const keywordFromUrl = searchParams.get("keyword") || "";
 
-  // 1. 초기화 (검색어나 ID가 바뀌면 싹 비우고 0페이지부터 다시 시작)
+  // 1. 초기화 (검색어나 ID가 바뀌면 싹 비우고 처음부터 다시 시작)
   useEffect(() => {
     setSamples([]);
-    setPage(0);
+    setCursor(null);
     setIsLast(false);
-    fetchData(0, true); // 첫 페이지 로드 (초기화 모드 = true)
+    fetchData(null, true); // 첫 페이지 로드 (초기화 모드 = true)
   }, [id, keywordFromUrl]);
 
-  // 2. 데이터 페칭 함수
-  const fetchData = async (pageNum: number, isReset: boolean) => {
+  // 2. 데이터 페칭 함수 (after가 비어 있으면 첫 페이지)
+  const fetchData = async (after: number | null, isReset: boolean) => {
     if (loading) return; // 중복 호출 방지
     setLoading(true);
 
     try {
-      let url = `/api/v1/poke-sample/list?page=${pageNum}&size=12`;
+      let url = `/api/v1/poke-sample/list?after=${after ?? ""}&size=12`;
 
       if (id) {
         url += `&pokemonIdx=${id}`;
@@ -82,9 +80,9 @@ const PokeSampleListPage: React.FC = () => {
         url += `&keyword=${keywordFromUrl}`;
       }
 
-      const res = await apiClient.get<PageResponse<PokeSampleResponseDTO>>(url);
+      const res = await apiClient.get<CursorResponse<PokeSampleResponseDTO>>(url);
       const newContent = res.data.content;
-      const isLastPage = res.data.last;
+      const isLastPage = !res.data.hasNext;
 
       if (isReset) {
         // 초기화면 덮어쓰기
@@ -95,7 +93,7 @@ const PokeSampleListPage: React.FC = () => {
       }
 
       setIsLast(isLastPage);
-      setPage(pageNum);
+      setCursor(res.data.nextCursor);
     } catch (err) {
       console.error(err);
     } finally {
@@ -106,7 +104,7 @@ const PokeSampleListPage: React.FC = () => {
   // 3. 더보기 버튼 핸들러
   const handleLoadMore = () => {
     if (!isLast && !loading) {
-      fetchData(page + 1, false);
+      fetchData(cursor, false);
     }
   };
 